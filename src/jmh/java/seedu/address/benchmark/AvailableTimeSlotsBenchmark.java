@@ -0,0 +1,62 @@
+package seedu.address.benchmark;
+
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.Pair;
+import seedu.address.logic.parser.DateTimeParser;
+import seedu.address.model.event.ScheduleEvent;
+
+/**
+ * Measures listing the free time slots of a month with {@code DateTimeParser#getAvailableTimeSlotsBetween}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class AvailableTimeSlotsBenchmark {
+
+    // short enough for the largest size to still fit within a month
+    private static final int APPOINTMENT_MINUTES = 10;
+
+    /** The number of appointments already booked within the month. */
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private DateTimeParser dateTimeParser;
+    private List<ScheduleEvent> scheduledAppointments;
+    private Pair<Calendar> month;
+
+    /**
+     * Books the appointments from the start of the month onwards.
+     */
+    @Setup
+    public void setUp() {
+        dateTimeParser = new DateTimeParser();
+        scheduledAppointments = BenchmarkData.getEvents(size, APPOINTMENT_MINUTES);
+        Calendar monthStart = BenchmarkData.getFirstDayStart();
+        Calendar monthEnd = (Calendar) monthStart.clone();
+        monthEnd.add(Calendar.DATE, 30);
+        month = new Pair<>(monthStart, monthEnd);
+    }
+
+    @Benchmark
+    public String getAvailableTimeSlotsBetween() {
+        return dateTimeParser.getAvailableTimeSlotsBetween(scheduledAppointments, month);
+    }
+}
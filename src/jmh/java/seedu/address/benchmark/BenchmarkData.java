@@ -0,0 +1,95 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.commons.util.Pair;
+import seedu.address.model.event.ScheduleEvent;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Builds the data sets the benchmarks run against.
+ * The same size always yields the same data, so that results are comparable between runs.
+ */
+public class BenchmarkData {
+
+    private static final long SEED = 2103L;
+    private static final int DAY_START_HOUR = 9;
+    private static final int DAY_END_HOUR = 18;
+
+    private static final String[] FIRST_NAMES = {
+        "Alice", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ling", "Kumar", "Siti", "Jun Jie"
+    };
+    private static final String[] LAST_NAMES = {
+        "Tan", "Lim", "Lee", "Ng", "Wong", "Ibrahim", "Balakrishnan", "Goh", "Chua", "Teo"
+    };
+    private static final String[] TAGS = {"diabetic", "asthmatic", "elderly", "allergic", "pregnant"};
+
+    private BenchmarkData() {}
+
+    /**
+     * Returns {@code count} distinct persons with names drawn from a small pool of common names.
+     */
+    public static List<Person> getPersons(int count) {
+        Random random = new Random(SEED);
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            Set<Tag> tags = random.nextInt(4) == 0
+                    ? Collections.singleton(new Tag(TAGS[random.nextInt(TAGS.length)]))
+                    : Collections.emptySet();
+            persons.add(new Person(new PersonId("p" + i, true), new Name(name), new Phone(String.format("9%07d", i)),
+                    new Email("patient" + i + "@example.com"), new Address(i + " Clementi Ave 3"), true, tags));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns {@code count} back-to-back appointments of {@code minutesEach} minutes, in chronological order.
+     * They fill each working day from 9:00 to 18:00, starting from the first day.
+     */
+    public static List<ScheduleEvent> getEvents(int count, int minutesEach) {
+        List<ScheduleEvent> events = new ArrayList<>(count);
+        Calendar slotStart = getFirstDayStart();
+        for (int i = 0; i < count; i++) {
+            Calendar dayEnd = (Calendar) slotStart.clone();
+            dayEnd.set(Calendar.HOUR_OF_DAY, DAY_END_HOUR);
+            dayEnd.set(Calendar.MINUTE, 0);
+            Calendar slotEnd = (Calendar) slotStart.clone();
+            slotEnd.add(Calendar.MINUTE, minutesEach);
+            if (slotEnd.after(dayEnd)) {
+                slotStart.add(Calendar.DATE, 1);
+                slotStart.set(Calendar.HOUR_OF_DAY, DAY_START_HOUR);
+                slotStart.set(Calendar.MINUTE, 0);
+                slotEnd = (Calendar) slotStart.clone();
+                slotEnd.add(Calendar.MINUTE, minutesEach);
+            }
+            events.add(new ScheduleEvent(new Pair<>(slotStart, slotEnd), new PersonId("p" + i, false),
+                    "Consultation " + i, new HashSet<>()));
+            slotStart = (Calendar) slotEnd.clone();
+        }
+        return events;
+    }
+
+    /**
+     * Returns 9:00 on the day the first generated appointment is on.
+     */
+    public static Calendar getFirstDayStart() {
+        Calendar start = Calendar.getInstance();
+        start.clear();
+        start.set(2019, Calendar.JANUARY, 7, DAY_START_HOUR, 0);
+        return start;
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.Diagnosis;
+import seedu.address.model.symptom.Disease;
+import seedu.address.model.symptom.Symptom;
+
+/**
+ * Measures {@code Diagnosis#predictDisease} on the bundled dataset grown by a number of generated diseases.
+ *
+ * {@code Diagnosis} keeps its dataset in the working directory, which the {@code jmh} task points at a scratch
+ * directory under {@code build}. Each run starts over from the bundled dataset.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DiagnosisBenchmark {
+
+    private static final String DATASET_FILE = "datasetForSymptomAndDisease.csv";
+    private static final int SYMPTOM_POOL_SIZE = 100;
+    private static final int SYMPTOMS_PER_DISEASE = 6;
+
+    /** The number of diseases added to the bundled dataset. */
+    @Param({"0", "10000", "50000"})
+    private int size;
+
+    private Diagnosis diagnosis;
+    private Set<Symptom> symptoms;
+
+    /**
+     * Adds diseases with symptoms drawn at random from a fixed pool, including the symptoms queried for.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        Files.deleteIfExists(Paths.get(DATASET_FILE));
+        diagnosis = new Diagnosis();
+
+        Random random = new Random(size);
+        for (int i = 0; i < size; i++) {
+            Set<Symptom> diseaseSymptoms = new HashSet<>();
+            while (diseaseSymptoms.size() < SYMPTOMS_PER_DISEASE) {
+                int symptom = random.nextInt(SYMPTOM_POOL_SIZE);
+                diseaseSymptoms.add(symptom == 0 ? new Symptom("fever") : new Symptom("symptom " + symptom));
+            }
+            diagnosis.addMatcher(new Disease("generated disease " + i), diseaseSymptoms);
+        }
+        Diagnosis.flushPendingWrites();
+
+        symptoms = new HashSet<>(Arrays.asList(new Symptom("fever"), new Symptom("symptom 1")));
+    }
+
+    @Benchmark
+    public List<Disease> predictDisease() {
+        return diagnosis.predictDisease(symptoms);
+    }
+}
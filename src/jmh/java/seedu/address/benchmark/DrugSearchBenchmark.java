@@ -0,0 +1,76 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.DrugCsvUtil;
+import seedu.address.model.DrugCatalog;
+import seedu.address.model.DrugSearch;
+
+/**
+ * Measures searching for drugs by name, both through {@code DrugSearch#find} on the bundled drug database and
+ * directly on catalogs grown to various sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DrugSearchBenchmark {
+
+    private static final String KEYWORD = "glycomet";
+
+    /**
+     * A catalog of {@code size} entries, made up of as many copies of the bundled drug database as needed.
+     */
+    @State(Scope.Benchmark)
+    public static class SizedCatalog {
+
+        @Param({"5000", "50000", "500000"})
+        private int size;
+
+        private DrugCatalog catalog;
+
+        /**
+         * Builds the catalog, numbering each copy of an entry so that no two product names are the same.
+         */
+        @Setup
+        public void setUp() throws IOException {
+            List<String[]> databaseEntries = DrugCsvUtil.readAllEntries();
+            List<String[]> entries = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                String[] entry = databaseEntries.get(i % databaseEntries.size()).clone();
+                entry[1] = entry[1] + " " + (i / databaseEntries.size());
+                entries.add(entry);
+            }
+            catalog = new DrugCatalog(entries);
+        }
+    }
+
+    /**
+     * Searches the bundled database, including formatting the results.
+     */
+    @Benchmark
+    public String find() {
+        return DrugSearch.find(KEYWORD);
+    }
+
+    @Benchmark
+    public List<String[]> findByName(SizedCatalog state) {
+        return state.catalog.findByName(KEYWORD);
+    }
+}
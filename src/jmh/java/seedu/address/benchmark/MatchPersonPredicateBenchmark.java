@@ -0,0 +1,62 @@
+package seedu.address.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.MatchPersonPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Measures finding patients by name or id, by filtering with {@code MatchPersonPredicate} and through the name index
+ * of {@code UniquePersonList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class MatchPersonPredicateBenchmark {
+
+    private static final List<String> KEYWORDS = Arrays.asList("Balakrishnan", "Siti", "p42");
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private UniquePersonList personList;
+    private MatchPersonPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        persons = BenchmarkData.getPersons(size);
+        personList = new UniquePersonList();
+        personList.setPersons(persons);
+        predicate = new MatchPersonPredicate(KEYWORDS);
+    }
+
+    @Benchmark
+    public List<Person> filter() {
+        return persons.stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Person> findByNameOrId() {
+        return personList.findByNameOrId(KEYWORDS);
+    }
+}
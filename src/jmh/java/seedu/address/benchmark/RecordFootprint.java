@@ -0,0 +1,124 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.openjdk.jol.info.GraphLayout;
+
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.model.event.EventId;
+import seedu.address.model.event.ScheduleEvent;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * Prints the heap taken by each {@code Person} and {@code ScheduleEvent}, next to that of the map-based layouts they
+ * used to have. Run with {@code gradlew recordFootprint}.
+ *
+ * The sizes are worked out from the object graphs of the records, so unlike a reading of the used heap they do not
+ * depend on when the garbage collector runs. Only the objects a record keeps of its own are counted, and not the field
+ * values it shares with other records, such as its name or its interned tags.
+ */
+public class RecordFootprint {
+
+    private static final String ROW_FORMAT = "%-24s %6d bytes";
+
+    private RecordFootprint() {}
+
+    public static void main(String[] args) {
+        PersonId personId = new PersonId("p1", false);
+        Name name = new Name("Alice Pauline");
+        Phone phone = new Phone("85355255");
+        Email email = new Email("alice@example.com");
+        Address address = new Address("123, Jurong West Ave 6, #08-111");
+        Set<Tag> tags = TagSet.of(new HashSet<>(Arrays.asList(new Tag("friends"), new Tag("diabetic"))));
+
+        EventId eventId = new EventId("e1", false);
+        Calendar start = Calendar.getInstance();
+        start.set(2018, Calendar.OCTOBER, 30, 9, 0, 0);
+        long startEpochMinute = DateTimeUtil.toEpochMinute(start);
+        String details = "third visit";
+
+        List<Object> sharedValues = new ArrayList<>(Arrays.asList(personId, name, phone, email, address, tags,
+                eventId, details));
+        sharedValues.addAll(Arrays.asList(MapBasedPerson.PersonProperty.values()));
+        sharedValues.addAll(Arrays.asList(MapBasedScheduleEvent.ScheduleEventProperty.values()));
+
+        printFootprint("Person", new Person(personId, name, phone, email, address, true, tags), sharedValues);
+        printFootprint("map-based Person", new MapBasedPerson(personId, name, phone, email, address, tags),
+                sharedValues);
+        printFootprint("ScheduleEvent", new ScheduleEvent(eventId, startEpochMinute, startEpochMinute + 60,
+                personId, details, tags), sharedValues);
+        printFootprint("map-based ScheduleEvent", new MapBasedScheduleEvent(eventId, startEpochMinute,
+                startEpochMinute + 60, personId, details, tags), sharedValues);
+    }
+
+    /**
+     * Prints the size of the objects reachable from {@code record} that are not reachable from {@code sharedValues}.
+     */
+    private static void printFootprint(String label, Object record, List<Object> sharedValues) {
+        List<Object> roots = new ArrayList<>(sharedValues);
+        roots.add(record);
+        long ownBytes = GraphLayout.parseInstance(roots.toArray()).totalSize()
+                - GraphLayout.parseInstance(sharedValues.toArray()).totalSize();
+        System.out.println(String.format(ROW_FORMAT, label, ownBytes));
+    }
+
+    /**
+     * The layout {@code Person} had before its fields were made plain fields.
+     */
+    private static class MapBasedPerson {
+        private enum PersonProperty {
+            NAME, PHONE, EMAIL, ADDRESS, TAGS
+        }
+
+        private final PersonId id;
+        private final HashMap<PersonProperty, Object> attributes = new HashMap<>();
+        private boolean exists;
+
+        MapBasedPerson(PersonId id, Name name, Phone phone, Email email, Address address, Set<Tag> tags) {
+            this.id = id;
+            this.exists = true;
+            attributes.put(PersonProperty.NAME, name);
+            attributes.put(PersonProperty.PHONE, phone);
+            attributes.put(PersonProperty.EMAIL, email);
+            attributes.put(PersonProperty.ADDRESS, address);
+            attributes.put(PersonProperty.TAGS, new HashSet<>(tags));
+        }
+    }
+
+    /**
+     * The layout {@code ScheduleEvent} had before its fields were made plain fields.
+     */
+    private static class MapBasedScheduleEvent {
+        private enum ScheduleEventProperty {
+            PERSONID, DETAILS, TAGS
+        }
+
+        private final EventId id;
+        private final long startEpochMinute;
+        private final long endEpochMinute;
+        private final HashMap<ScheduleEventProperty, Object> attributes = new HashMap<>();
+
+        MapBasedScheduleEvent(EventId id, long startEpochMinute, long endEpochMinute, PersonId personId,
+                String details, Set<Tag> tags) {
+            this.id = id;
+            this.startEpochMinute = startEpochMinute;
+            this.endEpochMinute = endEpochMinute;
+            attributes.put(ScheduleEventProperty.PERSONID, personId);
+            attributes.put(ScheduleEventProperty.DETAILS, details);
+            attributes.put(ScheduleEventProperty.TAGS, new HashSet<>(tags));
+        }
+    }
+}
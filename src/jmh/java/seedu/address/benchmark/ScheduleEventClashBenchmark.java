@@ -0,0 +1,78 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.Pair;
+import seedu.address.model.event.ScheduleEvent;
+import seedu.address.model.event.UniqueScheduleEventList;
+
+/**
+ * Measures finding the appointments that clash with a time slot, by scanning the whole schedule with
+ * {@code ScheduleEvent#isClashing} and through the interval index of {@code UniqueScheduleEventList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ScheduleEventClashBenchmark {
+
+    private static final int APPOINTMENT_MINUTES = 30;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private UniqueScheduleEventList eventList;
+    private Pair<Calendar> timeSlot;
+
+    /**
+     * Fills the schedule, and picks a time slot overlapping the appointment in the middle of it.
+     */
+    @Setup
+    public void setUp() {
+        List<ScheduleEvent> events = BenchmarkData.getEvents(size, APPOINTMENT_MINUTES);
+        eventList = new UniqueScheduleEventList();
+        eventList.setScheduleEvents(events);
+
+        Calendar slotStart = (Calendar) events.get(size / 2).getDate().getKey().clone();
+        slotStart.add(Calendar.MINUTE, APPOINTMENT_MINUTES / 2);
+        Calendar slotEnd = (Calendar) slotStart.clone();
+        slotEnd.add(Calendar.MINUTE, APPOINTMENT_MINUTES);
+        timeSlot = new Pair<>(slotStart, slotEnd);
+    }
+
+    /**
+     * Checks every appointment for a clash, as clash checks did before the interval index.
+     */
+    @Benchmark
+    public List<ScheduleEvent> scanWithIsClashing() {
+        List<ScheduleEvent> clashingEvents = new ArrayList<>();
+        for (ScheduleEvent event : eventList) {
+            if (event.isClashing(timeSlot)) {
+                clashingEvents.add(event);
+            }
+        }
+        return clashingEvents;
+    }
+
+    @Benchmark
+    public List<ScheduleEvent> getClashingEvents() {
+        return eventList.getClashingEvents(timeSlot);
+    }
+}
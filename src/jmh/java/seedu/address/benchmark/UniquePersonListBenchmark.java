@@ -0,0 +1,80 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Measures adding, looking up and replacing persons in a {@code UniquePersonList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private UniquePersonList personList;
+    private Person target;
+    private Person replacement;
+
+    /**
+     * Fills the list, and prepares a person in the middle of it to be replaced by an edited copy.
+     */
+    @Setup
+    public void setUp() {
+        persons = BenchmarkData.getPersons(size);
+        personList = new UniquePersonList();
+        personList.setPersons(persons);
+        target = persons.get(size / 2);
+        replacement = new Person(target.getId(), target.getName(), target.getPhone(), target.getEmail(),
+                target.getAddress(), target.getExists(), target.getTags());
+    }
+
+    /**
+     * Adds all persons to an empty list one by one.
+     */
+    @Benchmark
+    public UniquePersonList add() {
+        UniquePersonList list = new UniquePersonList();
+        for (Person person : persons) {
+            list.add(person);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return personList.contains(target);
+    }
+
+    /**
+     * Replaces a person with an edited copy, alternating between the two so that the list stays the same size.
+     */
+    @Benchmark
+    public void setPerson() {
+        personList.setPerson(target, replacement);
+        Person previous = target;
+        target = replacement;
+        replacement = previous;
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.storage.XmlSerializableAddressBook;
+
+/**
+ * Measures converting the xml form of address books of various sizes into the model with
+ * {@code XmlSerializableAddressBook#toModelType()}, which is what loading an address book spends most of its time on
+ * after the file is parsed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class XmlSerializableAddressBookBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private XmlSerializableAddressBook data;
+
+    @Setup
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(BenchmarkData.getPersons(size));
+        data = new XmlSerializableAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public AddressBook toModelType() throws IllegalValueException {
+        return data.toModelType();
+    }
+}
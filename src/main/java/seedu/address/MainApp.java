@@ -4,6 +4,12 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.text.ParseException;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -18,6 +24,7 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.PerformanceStats;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
@@ -30,6 +37,7 @@ import seedu.address.model.AddressBookModel;
 import seedu.address.model.AddressBookModelManager;
 import seedu.address.model.DiagnosisModel;
 import seedu.address.model.DiagnosisModelManager;
+import seedu.address.model.DrugSearch;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlySchedule;
 import seedu.address.model.Schedule;
@@ -38,6 +46,10 @@ import seedu.address.model.ScheduleModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinarySnapshotAddressBookStorage;
+import seedu.address.storage.BinarySnapshotScheduleStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JournaledScheduleStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.ScheduleStorage;
 import seedu.address.storage.Storage;
@@ -45,6 +57,7 @@ import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.storage.XmlAddressBookStorage;
 import seedu.address.storage.XmlScheduleStorage;
+import seedu.address.ui.FxmlPreloader;
 import seedu.address.ui.PromptWindow;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -56,6 +69,9 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 3, 0, true);
 
+    /** Number of threads that read the data of the app while it starts up. */
+    private static final int STARTUP_THREAD_COUNT = 3;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -71,29 +87,94 @@ public class MainApp extends Application {
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing PatientBook ]===========================");
+        long initStartTime = System.nanoTime();
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        config = timePhase("config", () -> initConfig(appParameters.getConfigPath()));
+        EventsCenter.getInstance().setAsyncDispatch(config.isAsyncEventsEnabled());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
-        ScheduleStorage scheduleStorage = new XmlScheduleStorage(userPrefs.getScheduleFilePath());
-        storage = new StorageManager(addressBookStorage, scheduleStorage, userPrefsStorage);
+        userPrefs = timePhase("user prefs", () -> initPrefs(userPrefsStorage));
+        AddressBookStorage addressBookSnapshotStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
+        ScheduleStorage scheduleSnapshotStorage = new XmlScheduleStorage(userPrefs.getScheduleFilePath());
+        if (config.isBinarySnapshotsEnabled()) {
+            addressBookSnapshotStorage = new BinarySnapshotAddressBookStorage(addressBookSnapshotStorage);
+            scheduleSnapshotStorage = new BinarySnapshotScheduleStorage(scheduleSnapshotStorage);
+        }
+        AddressBookStorage addressBookStorage = new JournaledAddressBookStorage(addressBookSnapshotStorage);
+        ScheduleStorage scheduleStorage = new JournaledScheduleStorage(scheduleSnapshotStorage);
+        storage = new StorageManager(addressBookStorage, scheduleStorage, userPrefsStorage,
+                config.getSaveCoalescingWindowMillis());
 
         initLogging(config);
-
-        addressBookModel = initModelManager(storage, userPrefs);
-        scheduleModel = initScheduleModel(storage, userPrefs);
-        diagnosisModel = new DiagnosisModelManager();
+        PerformanceStats.getInstance().startPeriodicDump(config.getStatsFilePath(),
+                config.getStatsDumpIntervalSeconds());
+
+        // the reads do not depend on each other, so run them alongside the loading of the UI classes
+        ExecutorService startupExecutor = Executors.newFixedThreadPool(STARTUP_THREAD_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "startup-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Future<AddressBookModel> addressBookModelFuture = startupExecutor.submit(() ->
+                    timePhase("address book", () -> initModelManager(storage, userPrefs)));
+            Future<ScheduleModel> scheduleModelFuture = startupExecutor.submit(() ->
+                    timePhase("schedule", () -> initScheduleModel(storage, userPrefs)));
+            Future<DiagnosisModel> diagnosisModelFuture = startupExecutor.submit(() ->
+                    timePhase("diagnosis", DiagnosisModelManager::new));
+            // the drug database is only needed by drug searches, so nothing waits for it
+            startupExecutor.execute(DrugSearch::preload);
+
+            timePhase("FXML preload", FxmlPreloader::preload);
+
+            addressBookModel = getStartupResult(addressBookModelFuture);
+            scheduleModel = getStartupResult(scheduleModelFuture);
+            diagnosisModel = getStartupResult(diagnosisModelFuture);
+        } finally {
+            startupExecutor.shutdown();
+        }
 
         logic = new LogicManager(addressBookModel, scheduleModel, diagnosisModel);
 
         ui = new UiManager(logic, config, userPrefs);
 
         initEventsCenter();
+        logger.info("Initialized PatientBook in " + toMillis(System.nanoTime() - initStartTime) + " ms");
     }
+
+    /**
+     * Runs {@code phase} and logs how long it took under the name {@code phaseName}.
+     * @return the result of {@code phase}
+     */
+    private static <T> T timePhase(String phaseName, Callable<T> phase) throws Exception {
+        long startTime = System.nanoTime();
+        T result = phase.call();
+        logger.info("Startup phase " + phaseName + " took " + toMillis(System.nanoTime() - startTime) + " ms");
+        return result;
+    }
+
+    /**
+     * Waits for the startup task of {@code future} to finish, and returns its result.
+     * @throws Exception the exception thrown by the startup task, if it failed
+     */
+    private static <T> T getStartupResult(Future<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw (Error) cause;
+        }
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
     /**
      * Returns a {@code ScheduleModelManager} with the data from [@code storage}'s scheduel and {@code userPrefs}. <br>
      * The data fromthe sample schedule will be used instead if {@code storage}'s schedule is not found,
@@ -222,7 +303,8 @@ public class MainApp extends Application {
     }
 
     private void initEventsCenter() {
-        EventsCenter.getInstance().registerHandler(this);
+        // stopping closes the windows, which has to happen on the JavaFX thread
+        EventsCenter.getInstance().registerHandler(this, Platform::runLater);
     }
 
     @Override
@@ -276,6 +358,9 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        storage.flushPendingSaves();
+        diagnosisModel.flushPendingWrites();
+        PerformanceStats.getInstance().stopPeriodicDump();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -1,5 +1,7 @@
 package seedu.address.commons.core;
 
+import java.util.concurrent.Executor;
+
 import seedu.address.commons.events.BaseEvent;
 
 /**
@@ -18,8 +20,20 @@ public abstract class ComponentManager {
     }
 
     public ComponentManager(EventsCenter eventsCenter) {
+        this(eventsCenter, null);
+    }
+
+    /**
+     * Uses default {@link EventsCenter}, which hands events to this component through {@code handlerExecutor} when it
+     * dispatches them asynchronously.
+     */
+    public ComponentManager(Executor handlerExecutor) {
+        this(EventsCenter.getInstance(), handlerExecutor);
+    }
+
+    public ComponentManager(EventsCenter eventsCenter, Executor handlerExecutor) {
         this.eventsCenter = eventsCenter;
-        eventsCenter.registerHandler(this);
+        eventsCenter.registerHandler(this, handlerExecutor);
     }
 
     protected void raise(BaseEvent event) {
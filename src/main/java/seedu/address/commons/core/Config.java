@@ -16,6 +16,11 @@ public class Config {
     private String appTitle = "Patient Book";
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long saveCoalescingWindowMillis = 500;
+    private boolean binarySnapshotsEnabled = true;
+    private Path statsFilePath = Paths.get("stats.txt");
+    private long statsDumpIntervalSeconds = 300;
+    private boolean asyncEventsEnabled = false;
 
     public String getAppTitle() {
         return appTitle;
@@ -41,6 +46,62 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public long getSaveCoalescingWindowMillis() {
+        return saveCoalescingWindowMillis;
+    }
+
+    /**
+     * Sets how long data changes are collected before being saved together in the background.
+     * A non-positive value saves every change immediately.
+     */
+    public void setSaveCoalescingWindowMillis(long saveCoalescingWindowMillis) {
+        this.saveCoalescingWindowMillis = saveCoalescingWindowMillis;
+    }
+
+    public boolean isBinarySnapshotsEnabled() {
+        return binarySnapshotsEnabled;
+    }
+
+    /**
+     * Sets whether binary snapshots of the data files are kept beside them, and read at startup instead of the
+     * data files while they are up to date.
+     */
+    public void setBinarySnapshotsEnabled(boolean binarySnapshotsEnabled) {
+        this.binarySnapshotsEnabled = binarySnapshotsEnabled;
+    }
+
+    public Path getStatsFilePath() {
+        return statsFilePath;
+    }
+
+    public void setStatsFilePath(Path statsFilePath) {
+        this.statsFilePath = statsFilePath;
+    }
+
+    public long getStatsDumpIntervalSeconds() {
+        return statsDumpIntervalSeconds;
+    }
+
+    /**
+     * Sets how often the timings of commands and saves are written to the stats file.
+     * A non-positive value never writes them.
+     */
+    public void setStatsDumpIntervalSeconds(long statsDumpIntervalSeconds) {
+        this.statsDumpIntervalSeconds = statsDumpIntervalSeconds;
+    }
+
+    public boolean isAsyncEventsEnabled() {
+        return asyncEventsEnabled;
+    }
+
+    /**
+     * Sets whether events are handed to their handlers in the background, on the JavaFX thread for the UI, instead of
+     * before the code that raised them carries on.
+     */
+    public void setAsyncEventsEnabled(boolean asyncEventsEnabled) {
+        this.asyncEventsEnabled = asyncEventsEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,12 +115,18 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && saveCoalescingWindowMillis == o.saveCoalescingWindowMillis
+                && binarySnapshotsEnabled == o.binarySnapshotsEnabled
+                && Objects.equals(statsFilePath, o.statsFilePath)
+                && statsDumpIntervalSeconds == o.statsDumpIntervalSeconds
+                && asyncEventsEnabled == o.asyncEventsEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, saveCoalescingWindowMillis,
+                binarySnapshotsEnabled, statsFilePath, statsDumpIntervalSeconds, asyncEventsEnabled);
     }
 
     @Override
@@ -68,6 +135,11 @@ public class Config {
         sb.append("App title : " + appTitle);
         sb.append("\nCurrent log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nSave coalescing window (ms) : " + saveCoalescingWindowMillis);
+        sb.append("\nBinary snapshots enabled : " + binarySnapshotsEnabled);
+        sb.append("\nStats file Location : " + statsFilePath);
+        sb.append("\nStats dump interval (s) : " + statsDumpIntervalSeconds);
+        sb.append("\nAsync events enabled : " + asyncEventsEnabled);
         return sb.toString();
     }
 
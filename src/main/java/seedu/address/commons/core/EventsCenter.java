@@ -1,18 +1,42 @@
 package seedu.address.commons.core;
 
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
 
 import seedu.address.commons.events.BaseEvent;
 
 /**
  * Manages the event dispatching of the app.
+ *
+ * By default, events are delivered to every handler on the thread that posts them, before {@code post} returns.
+ * In asynchronous mode, each handler registered afterwards gets its events through its own executor instead, one at a
+ * time and in the order they were posted. Handlers of the UI are given one that runs them on the JavaFX thread, and
+ * other handlers get a thread of their own unless they ask for another executor. Of a burst of coalescible events of
+ * the same kind, such as changes to the data, a handler in asynchronous mode only gets the latest one.
  */
 public class EventsCenter {
+    /** Executor that runs handlers right away on the thread that posts the event. */
+    public static final Executor DIRECT_EXECUTOR = Runnable::run;
+
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
+    private static final String HANDLER_THREAD_NAME_PREFIX = "events-";
     private static EventsCenter instance;
     private final EventBus eventBus;
+    private final List<AsyncHandler> asyncHandlers = new CopyOnWriteArrayList<>();
+    private final List<ExecutorService> handlerExecutors = new CopyOnWriteArrayList<>();
+    private volatile boolean isAsyncDispatch;
 
     private EventsCenter() {
         eventBus = new EventBus();
@@ -25,21 +49,129 @@ public class EventsCenter {
         return instance;
     }
 
+    /**
+     * Forgets every handler, and stops the threads of handlers in asynchronous mode.
+     */
     public static void clearSubscribers() {
+        if (instance != null) {
+            instance.handlerExecutors.forEach(ExecutorService::shutdownNow);
+        }
         instance = null;
     }
 
+    /**
+     * Sets whether handlers registered from now on get their events asynchronously.
+     * Handlers that are already registered keep getting them the way they did.
+     */
+    public void setAsyncDispatch(boolean isAsyncDispatch) {
+        this.isAsyncDispatch = isAsyncDispatch;
+    }
+
+    public boolean isAsyncDispatch() {
+        return isAsyncDispatch;
+    }
+
+    /**
+     * Registers {@code handler}, which gets its events on a thread of its own in asynchronous mode.
+     */
     public void registerHandler(Object handler) {
-        eventBus.register(handler);
+        registerHandler(handler, null);
+    }
+
+    /**
+     * Registers {@code handler}, which gets its events through {@code executor} in asynchronous mode, or on a thread
+     * of its own if {@code executor} is null.
+     */
+    public void registerHandler(Object handler, Executor executor) {
+        requireNonNull(handler);
+        if (!isAsyncDispatch) {
+            eventBus.register(handler);
+            return;
+        }
+        if (!hasSubscribeMethods(handler)) {
+            // nothing would ever be delivered, so spare it the thread
+            return;
+        }
+        asyncHandlers.add(new AsyncHandler(handler, executor != null ? executor : newHandlerExecutor(handler)));
     }
 
     /**
      * Posts an event to the event bus.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+        logger.info(() -> "------[Event Posted] " + event.getClass().getCanonicalName() + ": "
+                + LogsCenter.getEventDescription(event));
         eventBus.post(event);
+        for (AsyncHandler handler : asyncHandlers) {
+            handler.deliver(event);
+        }
         return this;
     }
 
+    private Executor newHandlerExecutor(Object handler) {
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread handlerThread = new Thread(runnable, HANDLER_THREAD_NAME_PREFIX
+                    + handler.getClass().getSimpleName());
+            handlerThread.setDaemon(true);
+            return handlerThread;
+        });
+        handlerExecutors.add(executor);
+        return executor;
+    }
+
+    /**
+     * Returns true if {@code handler} or any of its superclasses has a method annotated with {@code Subscribe}.
+     */
+    private static boolean hasSubscribeMethods(Object handler) {
+        for (Class<?> type = handler.getClass(); type != null; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Subscribe.class)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A handler in asynchronous mode, with a bus of its own to find the methods that take each event.
+     */
+    private static class AsyncHandler {
+        private final EventBus handlerBus = new EventBus();
+        private final Executor executor;
+        /** The latest coalescible event of each kind that is waiting to be delivered. */
+        private final Map<Class<?>, BaseEvent> pendingCoalescibleEvents = new HashMap<>();
+
+        AsyncHandler(Object handler, Executor executor) {
+            this.executor = executor;
+            handlerBus.register(handler);
+        }
+
+        /**
+         * Hands {@code event} to the executor of the handler, unless it is coalescible and an event of the same kind
+         * is still waiting, in which case the two are coalesced into the one that waits.
+         */
+        void deliver(BaseEvent event) {
+            if (!event.isCoalescible()) {
+                executor.execute(() -> handlerBus.post(event));
+                return;
+            }
+            Class<?> eventType = event.getClass();
+            synchronized (pendingCoalescibleEvents) {
+                BaseEvent pendingEvent = pendingCoalescibleEvents.get(eventType);
+                if (pendingEvent != null) {
+                    pendingCoalescibleEvents.put(eventType, event.coalesce(pendingEvent));
+                    return;
+                }
+                pendingCoalescibleEvents.put(eventType, event);
+            }
+            executor.execute(() -> {
+                BaseEvent latestEvent;
+                synchronized (pendingCoalescibleEvents) {
+                    latestEvent = pendingCoalescibleEvents.remove(eventType);
+                }
+                handlerBus.post(latestEvent);
+            });
+        }
+    }
 }
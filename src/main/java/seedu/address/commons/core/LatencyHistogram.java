@@ -0,0 +1,89 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+/**
+ * Counts durations in buckets whose width grows with the duration, so that a fixed, small array covers everything
+ * from nanoseconds to hours with the same relative precision.
+ *
+ * Durations below {@code 2 * SUB_BUCKET_COUNT} nanoseconds get a bucket each. Above that, each power of two is split
+ * into {@code SUB_BUCKET_COUNT} equal buckets, so a percentile is never off by more than 1 in
+ * {@code SUB_BUCKET_COUNT} of its value.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Records one duration of {@code nanos} nanoseconds. Negative durations are recorded as zero.
+     */
+    public synchronized void record(long nanos) {
+        long duration = Math.max(nanos, 0);
+        counts[getBucketIndex(duration)]++;
+        totalCount++;
+        totalNanos += duration;
+        maxNanos = Math.max(maxNanos, duration);
+    }
+
+    public synchronized long getCount() {
+        return totalCount;
+    }
+
+    public synchronized long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the mean of the recorded durations in nanoseconds, or 0 if there are none.
+     */
+    public synchronized double getMeanNanos() {
+        return totalCount == 0 ? 0 : (double) totalNanos / totalCount;
+    }
+
+    /**
+     * Returns the duration in nanoseconds that {@code percentile} percent of the recorded durations are at most,
+     * rounded up to the end of its bucket, or 0 if there are none.
+     */
+    public synchronized long getNanosAtPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "The percentile must be between 0 and 100");
+        if (totalCount == 0) {
+            return 0;
+        }
+        long countAtPercentile = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seenCount = 0;
+        int bucket = 0;
+        while (seenCount + counts[bucket] < countAtPercentile) {
+            seenCount += counts[bucket];
+            bucket++;
+        }
+        return Math.min(getBucketEnd(bucket), maxNanos);
+    }
+
+    /**
+     * Returns the index of the bucket that {@code nanos}, which is not negative, is counted in.
+     */
+    static int getBucketIndex(long nanos) {
+        // how far the duration has to be shifted to fit in the sub-buckets of one power of two
+        int shift = Math.max(0, Long.SIZE - Long.numberOfLeadingZeros(nanos) - (SUB_BUCKET_BITS + 1));
+        return shift * SUB_BUCKET_COUNT + (int) (nanos >>> shift);
+    }
+
+    /**
+     * Returns the largest duration in nanoseconds that is counted in the bucket at {@code index}.
+     */
+    static long getBucketEnd(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index - shift * SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
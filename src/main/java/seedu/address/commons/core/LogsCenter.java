@@ -21,6 +21,7 @@ public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "addressbook.log";
+    private static final int MAX_EVENT_DESCRIPTION_LENGTH = 200;
     private static Level currentLogLevel = Level.INFO;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
     private static FileHandler fileHandler;
@@ -116,7 +117,20 @@ public class LogsCenter {
      * Decorates the given string to create a log message suitable for logging event handling methods.
      */
     public static String getEventHandlingLogMessage(BaseEvent e, String message) {
-        return "---[Event handled][" + e + "]" + message;
+        return "---[Event handled][" + getEventDescription(e) + "]" + message;
+    }
+
+    /**
+     * Returns the {@code toString()} of {@code e}, cut short to at most {@code MAX_EVENT_DESCRIPTION_LENGTH}
+     * characters so that events carrying a lot of text do not flood the log.
+     */
+    public static String getEventDescription(BaseEvent e) {
+        String description = String.valueOf(e);
+        if (description.length() <= MAX_EVENT_DESCRIPTION_LENGTH) {
+            return description;
+        }
+        return description.substring(0, MAX_EVENT_DESCRIPTION_LENGTH) + "... (" + description.length()
+                + " characters)";
     }
 
     /**
@@ -0,0 +1,160 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Collects how long the operations of the app take, and how often they fail, under a name for each operation.
+ * The collected timings can be reported as text, and written to a file at a fixed interval.
+ */
+public class PerformanceStats {
+    private static final Logger logger = LogsCenter.getLogger(PerformanceStats.class);
+    private static final String DUMP_THREAD_NAME = "stats-dump";
+    private static final String REPORT_HEADER = String.format("%-32s %7s %7s %9s %9s %9s %9s %9s",
+            "operation (times in ms)", "count", "errors", "mean", "p50", "p90", "p99", "max");
+    private static final String REPORT_ROW_FORMAT = "%-32s %7d %7d %9.3f %9.3f %9.3f %9.3f %9.3f";
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static PerformanceStats instance;
+
+    private final Map<String, LatencyHistogram> latencies = new TreeMap<>();
+    private final Map<String, Long> errorCounts = new TreeMap<>();
+    private ScheduledExecutorService dumpExecutor;
+    private Path dumpFile;
+
+    private PerformanceStats() {}
+
+    public static synchronized PerformanceStats getInstance() {
+        if (instance == null) {
+            instance = new PerformanceStats();
+        }
+        return instance;
+    }
+
+    /**
+     * Discards everything collected so far, and stops writing it to a file.
+     */
+    public static synchronized void clear() {
+        if (instance != null) {
+            instance.stopPeriodicDump();
+        }
+        instance = null;
+    }
+
+    /**
+     * Records that the operation {@code name} took {@code nanos} nanoseconds.
+     */
+    public void recordLatency(String name, long nanos) {
+        requireNonNull(name);
+        getHistogram(name).record(nanos);
+    }
+
+    /**
+     * Records that the operation {@code name} failed.
+     */
+    public synchronized void recordError(String name) {
+        requireNonNull(name);
+        errorCounts.merge(name, 1L, Long::sum);
+    }
+
+    public synchronized long getErrorCount(String name) {
+        return errorCounts.getOrDefault(name, 0L);
+    }
+
+    /**
+     * Returns the number of times the operation {@code name} has been timed.
+     */
+    public synchronized long getCount(String name) {
+        LatencyHistogram histogram = latencies.get(name);
+        return histogram == null ? 0 : histogram.getCount();
+    }
+
+    public synchronized boolean isEmpty() {
+        return latencies.isEmpty() && errorCounts.isEmpty();
+    }
+
+    /**
+     * Returns a table of the timings and error counts of every operation, sorted by name.
+     */
+    public synchronized String getReport() {
+        Map<String, LatencyHistogram> rows = new TreeMap<>(latencies);
+        errorCounts.keySet().forEach(name -> rows.putIfAbsent(name, new LatencyHistogram()));
+
+        StringBuilder report = new StringBuilder(REPORT_HEADER);
+        rows.forEach((name, histogram) -> report.append('\n').append(String.format(REPORT_ROW_FORMAT, name,
+                histogram.getCount(), getErrorCount(name), histogram.getMeanNanos() / NANOS_PER_MILLI,
+                toMillis(histogram.getNanosAtPercentile(50)), toMillis(histogram.getNanosAtPercentile(90)),
+                toMillis(histogram.getNanosAtPercentile(99)), toMillis(histogram.getMaxNanos()))));
+        return report.toString();
+    }
+
+    /**
+     * Writes the report of {@code getReport()} to {@code file}, replacing its contents.
+     */
+    public void dumpTo(Path file) throws IOException {
+        requireNonNull(file);
+        FileUtil.createIfMissing(file);
+        FileUtil.writeToFile(file, "Written at " + new Date() + "\n" + getReport() + "\n");
+    }
+
+    /**
+     * Writes the report to {@code file} every {@code intervalSeconds} seconds in the background, until
+     * {@code stopPeriodicDump()} is called. Nothing is written if {@code intervalSeconds} is not positive.
+     */
+    public synchronized void startPeriodicDump(Path file, long intervalSeconds) {
+        requireNonNull(file);
+        stopPeriodicDump();
+        if (intervalSeconds <= 0) {
+            return;
+        }
+        dumpExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread dumpThread = new Thread(runnable, DUMP_THREAD_NAME);
+            dumpThread.setDaemon(true);
+            return dumpThread;
+        });
+        dumpExecutor.scheduleWithFixedDelay(() -> dumpQuietly(file), intervalSeconds, intervalSeconds,
+                TimeUnit.SECONDS);
+        dumpFile = file;
+    }
+
+    /**
+     * Stops the background writing started by {@code startPeriodicDump}, after writing the report one last time.
+     */
+    public synchronized void stopPeriodicDump() {
+        if (dumpExecutor == null) {
+            return;
+        }
+        dumpExecutor.shutdownNow();
+        dumpExecutor = null;
+        // so that the file ends up with the timings of the whole session
+        dumpQuietly(dumpFile);
+    }
+
+    private synchronized LatencyHistogram getHistogram(String name) {
+        return latencies.computeIfAbsent(name, unused -> new LatencyHistogram());
+    }
+
+    private void dumpQuietly(Path file) {
+        try {
+            dumpTo(file);
+        } catch (IOException e) {
+            logger.warning("Failed to write performance stats to " + file + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
@@ -13,4 +13,22 @@ public abstract class BaseEvent {
      */
     public abstract String toString();
 
+    /**
+     * Returns true if a handler that has not yet been given an earlier event of the same class can be given just this
+     * one instead, because this event supersedes it.
+     * Only handlers that get their events asynchronously are given fewer events this way.
+     */
+    public boolean isCoalescible() {
+        return false;
+    }
+
+    /**
+     * Returns the event to give to a handler in place of both {@code supersededEvent}, a coalescible event of the
+     * same class still waiting to be given to it, and this event, which is coalescible as well.
+     * By default this is the event itself.
+     */
+    public BaseEvent coalesce(BaseEvent supersededEvent) {
+        return this;
+    }
+
 }
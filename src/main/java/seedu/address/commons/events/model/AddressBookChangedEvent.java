@@ -1,19 +1,49 @@
 package seedu.address.commons.events.model;
 
+import static java.util.Objects.requireNonNull;
+
 import seedu.address.commons.events.BaseEvent;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /** Indicates the AddressBook in the addressBookModel has changed. */
 public class AddressBookChangedEvent extends BaseEvent {
 
     public final ReadOnlyAddressBook data;
+    public final ListChange<Person> change;
 
+    /**
+     * Creates an event for the whole address book having changed.
+     */
     public AddressBookChangedEvent(ReadOnlyAddressBook data) {
+        this(data, ListChange.reset());
+    }
+
+    public AddressBookChangedEvent(ReadOnlyAddressBook data, ListChange<Person> change) {
+        requireNonNull(change);
         this.data = data;
+        this.change = change;
+    }
+
+    /**
+     * Returns true, since the latest event has all the data of the address book.
+     */
+    @Override
+    public boolean isCoalescible() {
+        return true;
+    }
+
+    /**
+     * Returns an event for the whole address book having changed, as {@code change} alone would leave out the change
+     * of {@code supersededEvent}.
+     */
+    @Override
+    public BaseEvent coalesce(BaseEvent supersededEvent) {
+        return change.getType() == ListChange.Type.RESET ? this : new AddressBookChangedEvent(data);
     }
 
     @Override
     public String toString() {
-        return "number of persons " + data.getPersonList().size();
+        return "number of persons " + data.getPersonList().size() + ", " + change;
     }
 }
@@ -0,0 +1,107 @@
+package seedu.address.commons.events.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes a single change to a list in the model, so that subscribers can apply just that change instead of
+ * reloading the whole list.
+ * @param <T> The type of the elements in the list.
+ */
+public class ListChange<T> {
+
+    /**
+     * The kinds of change. {@code RESET} means that the whole list may have changed.
+     */
+    public enum Type { ADDED, UPDATED, REMOVED, RESET }
+
+    public static final int NO_INDEX = -1;
+
+    private final Type type;
+    private final int index;
+    private final List<T> elements;
+    private final T replacedElement;
+
+    private ListChange(Type type, int index, List<T> elements, T replacedElement) {
+        this.type = type;
+        this.index = index;
+        this.elements = Collections.unmodifiableList(elements);
+        this.replacedElement = replacedElement;
+    }
+
+    /**
+     * Returns the change of {@code element} being added at {@code index}.
+     */
+    public static <T> ListChange<T> added(int index, T element) {
+        requireNonNull(element);
+        return new ListChange<>(Type.ADDED, index, Collections.singletonList(element), null);
+    }
+
+    /**
+     * Returns the change of {@code replacedElement} at {@code index} being replaced by {@code element}.
+     */
+    public static <T> ListChange<T> updated(int index, T replacedElement, T element) {
+        requireNonNull(replacedElement);
+        requireNonNull(element);
+        return new ListChange<>(Type.UPDATED, index, Collections.singletonList(element), replacedElement);
+    }
+
+    /**
+     * Returns the change of {@code element} being removed from {@code index}.
+     */
+    public static <T> ListChange<T> removed(int index, T element) {
+        requireNonNull(element);
+        return new ListChange<>(Type.REMOVED, index, Collections.singletonList(element), null);
+    }
+
+    /**
+     * Returns the change of all of {@code elements} being removed at once, from wherever they were in the list.
+     */
+    public static <T> ListChange<T> removed(List<T> elements) {
+        requireNonNull(elements);
+        return new ListChange<>(Type.REMOVED, NO_INDEX, elements, null);
+    }
+
+    /**
+     * Returns the change of the whole list being replaced.
+     */
+    public static <T> ListChange<T> reset() {
+        return new ListChange<>(Type.RESET, NO_INDEX, Collections.emptyList(), null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the position of the changed element in the backing list, or {@code NO_INDEX} if the change is not to a
+     * single element.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the elements that were added or removed, or the new versions of the updated elements.
+     */
+    public List<T> getElements() {
+        return elements;
+    }
+
+    /**
+     * Returns the element that was replaced by an update, or null for other kinds of change.
+     */
+    public T getReplacedElement() {
+        return replacedElement;
+    }
+
+    @Override
+    public String toString() {
+        if (type == Type.RESET) {
+            return type.toString();
+        }
+        return type + (index == NO_INDEX ? "" : " at " + index) + ": " + elements.size() + " element(s)";
+    }
+}
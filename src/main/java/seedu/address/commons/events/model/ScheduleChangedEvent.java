@@ -1,19 +1,49 @@
 package seedu.address.commons.events.model;
 
+import static java.util.Objects.requireNonNull;
+
 import seedu.address.commons.events.BaseEvent;
 import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.event.ScheduleEvent;
 
 /** Indicates the Schedule in the ScheduleModel has changed. */
 public class ScheduleChangedEvent extends BaseEvent {
 
     public final ReadOnlySchedule data;
+    public final ListChange<ScheduleEvent> change;
 
+    /**
+     * Creates an event for the whole schedule having changed.
+     */
     public ScheduleChangedEvent(ReadOnlySchedule data) {
+        this(data, ListChange.reset());
+    }
+
+    public ScheduleChangedEvent(ReadOnlySchedule data, ListChange<ScheduleEvent> change) {
+        requireNonNull(change);
         this.data = data;
+        this.change = change;
+    }
+
+    /**
+     * Returns true, as {@code data} is always the whole, latest schedule.
+     */
+    @Override
+    public boolean isCoalescible() {
+        return true;
+    }
+
+    /**
+     * Returns an event for the whole schedule having changed.
+     * @see AddressBookChangedEvent#coalesce(BaseEvent)
+     */
+    @Override
+    public BaseEvent coalesce(BaseEvent supersededEvent) {
+        return change.getType() == ListChange.Type.RESET ? this : new ScheduleChangedEvent(data);
     }
 
     @Override
     public String toString() {
-        return "number of events " + data.getAllEventList().size();
+        return "number of events " + data.getAllEventList().size() + ", " + change;
     }
 }
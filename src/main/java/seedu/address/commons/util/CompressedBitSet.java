@@ -0,0 +1,341 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of non-negative ints, stored the way a roaring bitmap stores them.
+ *
+ * The ints are split into chunks by their upper 16 bits. A chunk keeps the lower 16 bits of its ints in a sorted array
+ * while it has at most {@code MAX_ARRAY_SIZE} of them, and in a bitmap of 2^16 bits once it has more, which is then
+ * the smaller of the two. Sparse sets thus take a few bytes per int and dense ones a bit per int, and intersections
+ * and unions are worked out a chunk at a time, word by word where both chunks are bitmaps.
+ */
+public class CompressedBitSet {
+
+    /** The largest number of ints that a chunk keeps in an array. */
+    static final int MAX_ARRAY_SIZE = 4096;
+
+    private static final int CHUNK_BITS = 16;
+    private static final int LOW_BITS_MASK = (1 << CHUNK_BITS) - 1;
+    private static final int BITMAP_WORD_COUNT = (1 << CHUNK_BITS) / Long.SIZE;
+    private static final int INITIAL_ARRAY_CAPACITY = 4;
+
+    /** The chunks, indexed by the upper 16 bits of their ints. Empty chunks are null. */
+    private Chunk[] chunks = new Chunk[0];
+
+    /**
+     * Adds {@code value}, which must not be negative. Returns true if it was not in the set yet.
+     */
+    public boolean add(int value) {
+        checkArgument(value >= 0, "Only non-negative ints can be added");
+        int chunkIndex = value >>> CHUNK_BITS;
+        if (chunkIndex >= chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(chunkIndex + 1, 2 * chunks.length));
+        }
+        if (chunks[chunkIndex] == null) {
+            chunks[chunkIndex] = new Chunk();
+        }
+        return chunks[chunkIndex].add(value & LOW_BITS_MASK);
+    }
+
+    /**
+     * Removes {@code value}. Returns true if it was in the set.
+     */
+    public boolean remove(int value) {
+        Chunk chunk = getChunk(value);
+        if (chunk == null || !chunk.remove(value & LOW_BITS_MASK)) {
+            return false;
+        }
+        if (chunk.cardinality == 0) {
+            chunks[value >>> CHUNK_BITS] = null;
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code value} is in the set.
+     */
+    public boolean contains(int value) {
+        Chunk chunk = getChunk(value);
+        return chunk != null && chunk.contains(value & LOW_BITS_MASK);
+    }
+
+    /**
+     * Returns the number of ints in the set.
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (Chunk chunk : chunks) {
+            cardinality += chunk == null ? 0 : chunk.cardinality;
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality() == 0;
+    }
+
+    /**
+     * Returns a new set of the ints that are in both this set and {@code other}.
+     */
+    public CompressedBitSet and(CompressedBitSet other) {
+        requireNonNull(other);
+        CompressedBitSet result = new CompressedBitSet();
+        result.chunks = new Chunk[Math.min(chunks.length, other.chunks.length)];
+        for (int i = 0; i < result.chunks.length; i++) {
+            if (chunks[i] != null && other.chunks[i] != null) {
+                result.chunks[i] = Chunk.and(chunks[i], other.chunks[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new set of the ints that are in this set, in {@code other}, or in both.
+     */
+    public CompressedBitSet or(CompressedBitSet other) {
+        requireNonNull(other);
+        CompressedBitSet result = new CompressedBitSet();
+        result.chunks = new Chunk[Math.max(chunks.length, other.chunks.length)];
+        for (int i = 0; i < result.chunks.length; i++) {
+            Chunk chunk = i < chunks.length ? chunks[i] : null;
+            Chunk otherChunk = i < other.chunks.length ? other.chunks[i] : null;
+            if (chunk == null || otherChunk == null) {
+                result.chunks[i] = chunk == null ? Chunk.copyOf(otherChunk) : Chunk.copyOf(chunk);
+            } else {
+                result.chunks[i] = Chunk.or(chunk, otherChunk);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Performs {@code action} on each int in the set, in ascending order.
+     */
+    public void forEach(IntConsumer action) {
+        requireNonNull(action);
+        for (int i = 0; i < chunks.length; i++) {
+            if (chunks[i] != null) {
+                chunks[i].forEach(i << CHUNK_BITS, action);
+            }
+        }
+    }
+
+    /**
+     * Returns the ints in the set in ascending order.
+     */
+    public int[] toArray() {
+        int[] values = new int[cardinality()];
+        int[] next = {0};
+        forEach(value -> values[next[0]++] = value);
+        return values;
+    }
+
+    /**
+     * Returns true if the chunk that holds {@code value} keeps its ints in a bitmap.
+     */
+    boolean isBitmapChunk(int value) {
+        Chunk chunk = getChunk(value);
+        return chunk != null && chunk.bitmap != null;
+    }
+
+    private Chunk getChunk(int value) {
+        int chunkIndex = value >>> CHUNK_BITS;
+        return value >= 0 && chunkIndex < chunks.length ? chunks[chunkIndex] : null;
+    }
+
+    /**
+     * The lower 16 bits of the ints of one chunk, in a sorted array or in a bitmap.
+     * Exactly one of {@code array} and {@code bitmap} is in use; the other is null.
+     */
+    private static class Chunk {
+        private char[] array = new char[INITIAL_ARRAY_CAPACITY];
+        private long[] bitmap;
+        private int cardinality;
+
+        boolean contains(int lowBits) {
+            if (bitmap != null) {
+                return (bitmap[lowBits >>> 6] & (1L << lowBits)) != 0;
+            }
+            return Arrays.binarySearch(array, 0, cardinality, (char) lowBits) >= 0;
+        }
+
+        boolean add(int lowBits) {
+            if (bitmap != null) {
+                long word = bitmap[lowBits >>> 6];
+                bitmap[lowBits >>> 6] = word | (1L << lowBits);
+                boolean isAdded = word != bitmap[lowBits >>> 6];
+                cardinality += isAdded ? 1 : 0;
+                return isAdded;
+            }
+            int position = Arrays.binarySearch(array, 0, cardinality, (char) lowBits);
+            if (position >= 0) {
+                return false;
+            }
+            if (cardinality == MAX_ARRAY_SIZE) {
+                convertToBitmap();
+                return add(lowBits);
+            }
+            int insertAt = -position - 1;
+            if (cardinality == array.length) {
+                array = Arrays.copyOf(array, Math.min(2 * array.length, MAX_ARRAY_SIZE));
+            }
+            System.arraycopy(array, insertAt, array, insertAt + 1, cardinality - insertAt);
+            array[insertAt] = (char) lowBits;
+            cardinality++;
+            return true;
+        }
+
+        boolean remove(int lowBits) {
+            if (bitmap != null) {
+                long word = bitmap[lowBits >>> 6];
+                bitmap[lowBits >>> 6] = word & ~(1L << lowBits);
+                if (word == bitmap[lowBits >>> 6]) {
+                    return false;
+                }
+                cardinality--;
+                if (cardinality <= MAX_ARRAY_SIZE) {
+                    convertToArray();
+                }
+                return true;
+            }
+            int position = Arrays.binarySearch(array, 0, cardinality, (char) lowBits);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(array, position + 1, array, position, cardinality - position - 1);
+            cardinality--;
+            return true;
+        }
+
+        void forEach(int base, IntConsumer action) {
+            if (bitmap == null) {
+                for (int i = 0; i < cardinality; i++) {
+                    action.accept(base | array[i]);
+                }
+                return;
+            }
+            for (int i = 0; i < BITMAP_WORD_COUNT; i++) {
+                for (long word = bitmap[i]; word != 0; word &= word - 1) {
+                    action.accept(base | (i << 6) | Long.numberOfTrailingZeros(word));
+                }
+            }
+        }
+
+        private void convertToBitmap() {
+            bitmap = toBitmap();
+            array = null;
+        }
+
+        private void convertToArray() {
+            char[] values = new char[cardinality];
+            int[] next = {0};
+            forEach(0, value -> values[next[0]++] = (char) value);
+            array = values;
+            bitmap = null;
+        }
+
+        private long[] toBitmap() {
+            if (bitmap != null) {
+                return bitmap.clone();
+            }
+            long[] words = new long[BITMAP_WORD_COUNT];
+            for (int i = 0; i < cardinality; i++) {
+                words[array[i] >>> 6] |= 1L << array[i];
+            }
+            return words;
+        }
+
+        /**
+         * Returns a chunk of the ints in both {@code first} and {@code second}, or null if there are none.
+         */
+        static Chunk and(Chunk first, Chunk second) {
+            if (first.bitmap != null && second.bitmap != null) {
+                long[] words = new long[BITMAP_WORD_COUNT];
+                for (int i = 0; i < BITMAP_WORD_COUNT; i++) {
+                    words[i] = first.bitmap[i] & second.bitmap[i];
+                }
+                return fromBitmap(words);
+            }
+            // walk the array of one chunk and look each int up in the other
+            Chunk arrayChunk = first.bitmap == null ? first : second;
+            Chunk otherChunk = arrayChunk == first ? second : first;
+            Chunk result = new Chunk();
+            result.array = new char[Math.max(arrayChunk.cardinality, INITIAL_ARRAY_CAPACITY)];
+            for (int i = 0; i < arrayChunk.cardinality; i++) {
+                if (otherChunk.contains(arrayChunk.array[i])) {
+                    result.array[result.cardinality++] = arrayChunk.array[i];
+                }
+            }
+            return result.cardinality == 0 ? null : result;
+        }
+
+        /**
+         * Returns a chunk of the ints in {@code first}, {@code second} or both.
+         */
+        static Chunk or(Chunk first, Chunk second) {
+            if (first.bitmap == null && second.bitmap == null
+                    && first.cardinality + second.cardinality <= MAX_ARRAY_SIZE) {
+                return mergeArrays(first, second);
+            }
+            long[] words = first.toBitmap();
+            second.forEach(0, value -> words[value >>> 6] |= 1L << value);
+            return fromBitmap(words);
+        }
+
+        static Chunk copyOf(Chunk chunk) {
+            if (chunk == null) {
+                return null;
+            }
+            Chunk copy = new Chunk();
+            copy.array = chunk.array == null ? null : chunk.array.clone();
+            copy.bitmap = chunk.bitmap == null ? null : chunk.bitmap.clone();
+            copy.cardinality = chunk.cardinality;
+            return copy;
+        }
+
+        private static Chunk mergeArrays(Chunk first, Chunk second) {
+            Chunk result = new Chunk();
+            result.array = new char[Math.max(first.cardinality + second.cardinality, INITIAL_ARRAY_CAPACITY)];
+            int i = 0;
+            int j = 0;
+            while (i < first.cardinality || j < second.cardinality) {
+                char next;
+                if (j == second.cardinality || (i < first.cardinality && first.array[i] < second.array[j])) {
+                    next = first.array[i++];
+                } else if (i == first.cardinality || second.array[j] < first.array[i]) {
+                    next = second.array[j++];
+                } else {
+                    next = first.array[i++];
+                    j++;
+                }
+                result.array[result.cardinality++] = next;
+            }
+            return result;
+        }
+
+        /**
+         * Returns a chunk of the ints set in {@code words}, kept as an array if there are few enough of them, or null
+         * if there are none.
+         */
+        private static Chunk fromBitmap(long[] words) {
+            Chunk chunk = new Chunk();
+            chunk.bitmap = words;
+            chunk.array = null;
+            for (long word : words) {
+                chunk.cardinality += Long.bitCount(word);
+            }
+            if (chunk.cardinality == 0) {
+                return null;
+            }
+            if (chunk.cardinality <= MAX_ARRAY_SIZE) {
+                chunk.convertToArray();
+            }
+            return chunk;
+        }
+    }
+}
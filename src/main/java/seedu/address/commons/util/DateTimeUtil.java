@@ -0,0 +1,78 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Calendar;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts between epoch minutes, the number of whole minutes since 1970-01-01T00:00Z, and the date and time types
+ * at the edges of the app. Local dates and times are in the default time zone of the system.
+ */
+public class DateTimeUtil {
+
+    private static final long MILLIS_PER_MINUTE = TimeUnit.MINUTES.toMillis(1);
+
+    /**
+     * Returns the epoch minute of {@code epochMillis}, rounded down to the minute.
+     */
+    public static long toEpochMinute(long epochMillis) {
+        return Math.floorDiv(epochMillis, MILLIS_PER_MINUTE);
+    }
+
+    /**
+     * Returns the epoch minute of {@code calendar}, rounded down to the minute.
+     */
+    public static long toEpochMinute(Calendar calendar) {
+        requireNonNull(calendar);
+        return toEpochMinute(calendar.getTimeInMillis());
+    }
+
+    /**
+     * Returns the epoch minute of {@code dateTime}, rounded down to the minute.
+     */
+    public static long toEpochMinute(LocalDateTime dateTime) {
+        requireNonNull(dateTime);
+        return toEpochMinute(dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    public static long toEpochMillis(long epochMinute) {
+        return epochMinute * MILLIS_PER_MINUTE;
+    }
+
+    /**
+     * Returns a new {@code Calendar} set to {@code epochMinute}.
+     */
+    public static Calendar toCalendar(long epochMinute) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.setTimeInMillis(toEpochMillis(epochMinute));
+        return calendar;
+    }
+
+    public static LocalDateTime toLocalDateTime(long epochMinute) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(toEpochMillis(epochMinute)), ZoneId.systemDefault());
+    }
+
+    /**
+     * Formats {@code epochMinute} with {@code formatter}.
+     */
+    public static String format(long epochMinute, DateTimeFormatter formatter) {
+        requireNonNull(formatter);
+        return formatter.format(toLocalDateTime(epochMinute));
+    }
+
+    /**
+     * Parses {@code text} with {@code formatter}, which must resolve to a date and a time.
+     * @throws DateTimeParseException if {@code text} cannot be parsed
+     */
+    public static long parseEpochMinute(String text, DateTimeFormatter formatter) {
+        requireNonNull(text);
+        requireNonNull(formatter);
+        return toEpochMinute(LocalDateTime.parse(text, formatter));
+    }
+}
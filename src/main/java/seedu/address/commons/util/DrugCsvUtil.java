@@ -5,6 +5,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
 
 import com.opencsv.CSVReader;
 import com.opencsv.CSVReaderBuilder;
@@ -20,29 +22,27 @@ public class DrugCsvUtil {
     //filepath to drug dataset
     private static final String DATASET_PATH = "/storage/datasetForDrugs.csv";
 
-    private Reader reader;
-    private CSVReader csvReader;
-
-    private String keyword; //keyword to be searched for
-
-    public DrugCsvUtil(String keyword) throws IOException {
-        InputStream inputStream = MainApp.class
-                .getResourceAsStream(DATASET_PATH);
-        this.reader = new BufferedReader(new InputStreamReader(inputStream));
-        this.csvReader = new CSVReaderBuilder(reader).withSkipLines(1).build();
-        this.keyword = keyword;
-    }
-
     /**
-     * Returns entries from the drug database one at a time, which match the given keyword.
+     * Reads every entry in the drug database in a single pass.
      */
-    public String[] nextMatchingEntry() throws IOException {
-        String[] nextRecord;
-        while ((nextRecord = csvReader.readNext()) != null) {
-            if (nextRecord[1].toLowerCase().contains(keyword)) {
-                return nextRecord;
+    public static List<String[]> readAllEntries() throws IOException {
+        List<String[]> entries = new ArrayList<>();
+        try (Reader datasetReader = openDataset()) {
+            CSVReader datasetCsvReader = new CSVReaderBuilder(datasetReader).withSkipLines(1).build();
+            String[] nextRecord;
+            while ((nextRecord = datasetCsvReader.readNext()) != null) {
+                entries.add(nextRecord);
             }
         }
-        return null;
+        return entries;
+    }
+
+    private static Reader openDataset() throws IOException {
+        InputStream inputStream = MainApp.class
+                .getResourceAsStream(DATASET_PATH);
+        if (inputStream == null) {
+            throw new IOException("Drug dataset " + DATASET_PATH + " not found");
+        }
+        return new BufferedReader(new InputStreamReader(inputStream));
     }
 }
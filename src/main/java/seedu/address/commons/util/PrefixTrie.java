@@ -0,0 +1,323 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * A compressed prefix trie, or radix tree, of strings that are each counted, for completing a prefix to the keys that
+ * start with it.
+ *
+ * Every edge is labelled with the longest substring its keys have in common, so a node only branches where its keys
+ * differ. Each node also keeps the largest count below it. Completions are then found best first, by following the
+ * nodes with the largest counts, and a lookup only visits the few nodes around the completions it returns however
+ * many keys start with the prefix.
+ */
+public class PrefixTrie {
+
+    /** Completions that are counted as often as each other are listed shortest first, and then alphabetically. */
+    private static final Comparator<Candidate> CANDIDATE_ORDER = Comparator
+            .comparingInt((Candidate candidate) -> -candidate.count)
+            .thenComparingInt(candidate -> candidate.key.length())
+            .thenComparing(candidate -> candidate.key)
+            .thenComparing(candidate -> candidate.node != null);
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    /** Labels of one ASCII character are shared, since most labels deep in a trie are that short. */
+    private static final String[] SINGLE_CHARACTER_LABELS = new String[128];
+
+    static {
+        for (char c = 0; c < SINGLE_CHARACTER_LABELS.length; c++) {
+            SINGLE_CHARACTER_LABELS[c] = String.valueOf(c);
+        }
+    }
+
+    private final Node root = new Node("", 0);
+    private int size;
+
+    /**
+     * Counts {@code key} once more, adding it to the trie if it is not in it yet.
+     */
+    public void add(String key) {
+        requireNonNull(key);
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int depth = 0;
+        while (depth < key.length()) {
+            path.add(node);
+            Node child = node.getChild(key.charAt(depth));
+            if (child == null) {
+                child = new Node(toLabel(key.substring(depth)), 0);
+                node.addChild(child);
+            } else {
+                int commonLength = getCommonPrefixLength(child.label, key, depth);
+                if (commonLength < child.label.length()) {
+                    child = node.split(child, commonLength);
+                }
+            }
+            node = child;
+            depth += node.label.length();
+        }
+        path.add(node);
+
+        if (node.count++ == 0) {
+            size++;
+        }
+        for (Node onPath : path) {
+            onPath.maxCount = Math.max(onPath.maxCount, node.count);
+        }
+    }
+
+    /**
+     * Counts {@code key} once less, removing it from the trie once it is no longer counted at all.
+     * Returns true if the key was in the trie.
+     */
+    public boolean remove(String key) {
+        requireNonNull(key);
+        List<Node> path = findPath(key);
+        if (path == null) {
+            return false;
+        }
+        Node node = path.get(path.size() - 1);
+        if (--node.count == 0) {
+            size--;
+            prune(path);
+        }
+        for (int i = path.size() - 1; i >= 0; i--) {
+            path.get(i).updateMaxCount();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of times {@code key} is counted, which is 0 if it is not in the trie.
+     */
+    public int getCount(String key) {
+        requireNonNull(key);
+        List<Node> path = findPath(key);
+        return path == null ? 0 : path.get(path.size() - 1).count;
+    }
+
+    /**
+     * Returns the number of distinct keys in the trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        root.children = NO_CHILDREN;
+        root.maxCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns up to {@code limit} keys that start with {@code prefix}, the prefix itself included, the most counted
+     * first. Keys counted as often as each other are listed shortest first, and then alphabetically.
+     */
+    public List<String> getCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        checkArgument(limit >= 0, "The limit must not be negative");
+        List<String> completions = new ArrayList<>();
+        Node node = root;
+        int depth = 0;
+        while (depth < prefix.length()) {
+            Node child = node.getChild(prefix.charAt(depth));
+            if (child == null) {
+                return completions;
+            }
+            int commonLength = getCommonPrefixLength(child.label, prefix, depth);
+            if (commonLength < child.label.length() && depth + commonLength < prefix.length()) {
+                return completions;
+            }
+            node = child;
+            depth += child.label.length();
+        }
+        // the node may go further than the prefix, when the prefix ends in the middle of its label
+        String key = prefix + node.label.substring(node.label.length() - (depth - prefix.length()));
+
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(CANDIDATE_ORDER);
+        candidates.add(new Candidate(key, node.maxCount, node));
+        while (!candidates.isEmpty() && completions.size() < limit) {
+            Candidate candidate = candidates.remove();
+            if (candidate.node == null) {
+                completions.add(candidate.key);
+                continue;
+            }
+            // a node stands in for the keys below it, none of which can come before it in CANDIDATE_ORDER
+            if (candidate.node.count > 0) {
+                candidates.add(new Candidate(candidate.key, candidate.node.count, null));
+            }
+            for (Node child : candidate.node.children) {
+                candidates.add(new Candidate(candidate.key + child.label, child.maxCount, child));
+            }
+        }
+        return completions;
+    }
+
+    /**
+     * Returns the nodes from the root to the node of {@code key}, or null if the key is not counted in the trie.
+     */
+    private List<Node> findPath(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        int depth = 0;
+        path.add(node);
+        while (depth < key.length()) {
+            node = node.getChild(key.charAt(depth));
+            if (node == null || !key.startsWith(node.label, depth)) {
+                return null;
+            }
+            path.add(node);
+            depth += node.label.length();
+        }
+        return node.count == 0 ? null : path;
+    }
+
+    /**
+     * Removes the last node of {@code path}, whose key is no longer counted, if no key goes through it, and merges
+     * it or its parent with an only child, so that every node below the root is a key or a branch.
+     * {@code path} is kept up to date with the nodes that are left.
+     */
+    private void prune(List<Node> path) {
+        Node node = path.get(path.size() - 1);
+        if (node == root) {
+            return;
+        }
+        Node parent = path.get(path.size() - 2);
+        if (node.children.length == 0) {
+            parent.removeChild(node);
+            path.remove(path.size() - 1);
+            if (parent != root && parent.count == 0 && parent.children.length == 1) {
+                path.get(path.size() - 2).mergeWithOnlyChild(parent);
+                path.remove(path.size() - 1);
+            }
+        } else if (node.children.length == 1) {
+            parent.mergeWithOnlyChild(node);
+            path.remove(path.size() - 1);
+        }
+    }
+
+    private static int getCommonPrefixLength(String label, String key, int offset) {
+        int length = 0;
+        while (length < label.length() && offset + length < key.length()
+                && label.charAt(length) == key.charAt(offset + length)) {
+            length++;
+        }
+        return length;
+    }
+
+    private static String toLabel(String text) {
+        return text.length() == 1 && text.charAt(0) < SINGLE_CHARACTER_LABELS.length
+                ? SINGLE_CHARACTER_LABELS[text.charAt(0)]
+                : text;
+    }
+
+    /**
+     * A node of the trie, reached from its parent through {@code label}.
+     */
+    private static class Node {
+        private String label;
+        /** The number of times the key that ends at this node is counted; 0 if no key ends here. */
+        private int count;
+        /** The largest count of this node and the nodes below it. */
+        private int maxCount;
+        /** The children, sorted by the first character of their labels, which all differ. */
+        private Node[] children = NO_CHILDREN;
+
+        Node(String label, int count) {
+            this.label = label;
+            this.count = count;
+            this.maxCount = count;
+        }
+
+        Node getChild(char firstCharacter) {
+            int position = findChild(firstCharacter);
+            return position >= 0 ? children[position] : null;
+        }
+
+        void addChild(Node child) {
+            int insertAt = -findChild(child.label.charAt(0)) - 1;
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newChildren[insertAt] = child;
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            children = newChildren;
+        }
+
+        void removeChild(Node child) {
+            int position = findChild(child.label.charAt(0));
+            Node[] newChildren = children.length == 1 ? NO_CHILDREN : new Node[children.length - 1];
+            System.arraycopy(children, 0, newChildren, 0, position);
+            System.arraycopy(children, position + 1, newChildren, position, children.length - position - 1);
+            children = newChildren;
+        }
+
+        /**
+         * Splits the label of {@code child} after its first {@code length} characters, with a new node in between
+         * this node and the child. Returns the new node.
+         */
+        Node split(Node child, int length) {
+            Node middle = new Node(toLabel(child.label.substring(0, length)), 0);
+            middle.maxCount = child.maxCount;
+            middle.children = new Node[] {child};
+            children[findChild(child.label.charAt(0))] = middle;
+            child.label = toLabel(child.label.substring(length));
+            return middle;
+        }
+
+        /**
+         * Replaces {@code child}, which has no key of its own and a single child, by that child, whose label takes
+         * on the label of {@code child} in front.
+         */
+        void mergeWithOnlyChild(Node child) {
+            Node grandchild = child.children[0];
+            grandchild.label = child.label + grandchild.label;
+            children[findChild(child.label.charAt(0))] = grandchild;
+        }
+
+        void updateMaxCount() {
+            maxCount = count;
+            for (Node child : children) {
+                maxCount = Math.max(maxCount, child.maxCount);
+            }
+        }
+
+        private int findChild(char firstCharacter) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char middleCharacter = children[middle].label.charAt(0);
+                if (middleCharacter < firstCharacter) {
+                    low = middle + 1;
+                } else if (middleCharacter > firstCharacter) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+
+    /**
+     * A key found by a lookup, or a node whose keys have yet to be looked at, standing in for them with their key so
+     * far and the largest count among them.
+     */
+    private static class Candidate {
+        private final String key;
+        private final int count;
+        private final Node node;
+
+        Candidate(String key, int count, Node node) {
+            this.key = key;
+            this.count = count;
+            this.node = node;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_APPOINTMENT;
+import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_PATIENT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.SelectCommand;
+import seedu.address.model.AddressBookModel;
+
+/**
+ * Completes the patient name or id that is being typed at the end of a command, for the commands that take one.
+ *
+ * Only the last word of the command text is completed, and only once at least one character of it has been typed.
+ * The characters typed are kept as they are, and the rest of the word is added in lower case.
+ * The completions come from the prefix tries of the address book, so they can be looked up on every keystroke.
+ */
+public class CommandCompleter {
+
+    /** The most completions returned for a command text. */
+    public static final int MAX_COMPLETIONS = 5;
+
+    /** The word of {@code add appointment} after which the patient is given. */
+    private static final String WORD_FOR = "for";
+    /** Words typed so far that are more likely the start of a patient id than of a name. */
+    private static final String PARTIAL_ID_REGEX = "(?i)p[0-9]+";
+
+    private final AddressBookModel addressBookModel;
+
+    public CommandCompleter(AddressBookModel addressBookModel) {
+        this.addressBookModel = requireNonNull(addressBookModel);
+    }
+
+    /**
+     * Returns up to {@code MAX_COMPLETIONS} versions of {@code commandText} with its last word completed to a word of
+     * a patient's name or to a patient id, or an empty list if the command takes no patient there. Names are
+     * completed after {@code find patient} and {@code add appointment for}, and ids there as well as after
+     * {@code select patient} and {@code edit patient}.
+     */
+    public List<String> getCompletions(String commandText) {
+        requireNonNull(commandText);
+        int lastWordStart = commandText.lastIndexOf(' ') + 1;
+        String lastWord = commandText.substring(lastWordStart);
+        List<String> previousWords = Arrays.asList(commandText.substring(0, lastWordStart).trim().split("\\s+"));
+        if (lastWord.isEmpty() || previousWords.size() < 2) {
+            return Collections.emptyList();
+        }
+
+        List<String> completedWords = new ArrayList<>();
+        if (isCommand(previousWords, FindCommand.COMMAND_WORD, CMDTYPE_PATIENT)
+                || isCommand(previousWords, AddCommand.COMMAND_WORD, CMDTYPE_APPOINTMENT, WORD_FOR)) {
+            List<String> idCompletions = addressBookModel.getPersonIdCompletions(lastWord, MAX_COMPLETIONS + 1);
+            List<String> nameCompletions = addressBookModel.getPersonNameCompletions(lastWord, MAX_COMPLETIONS + 1);
+            // the ids for a lone "p" would crowd out the names that start with a p
+            if (lastWord.matches(PARTIAL_ID_REGEX)) {
+                completedWords.addAll(idCompletions);
+                completedWords.addAll(nameCompletions);
+            } else {
+                completedWords.addAll(nameCompletions);
+                completedWords.addAll(idCompletions);
+            }
+        } else if (previousWords.size() == 2 && (isCommand(previousWords, SelectCommand.COMMAND_WORD, CMDTYPE_PATIENT)
+                || isCommand(previousWords, EditCommand.COMMAND_WORD, CMDTYPE_PATIENT))) {
+            completedWords.addAll(addressBookModel.getPersonIdCompletions(lastWord, MAX_COMPLETIONS + 1));
+        }
+
+        String commandTextBeforeLastWord = commandText.substring(0, lastWordStart);
+        List<String> completions = new ArrayList<>();
+        for (String completedWord : completedWords) {
+            // what has been typed keeps its case, and the word typed in full is no completion of itself
+            String completion = commandTextBeforeLastWord + lastWord + completedWord.substring(lastWord.length());
+            if (!completedWord.equalsIgnoreCase(lastWord) && !completions.contains(completion)
+                    && completions.size() < MAX_COMPLETIONS) {
+                completions.add(completion);
+            }
+        }
+        return completions;
+    }
+
+    /**
+     * Returns true if {@code words} start with {@code commandWords}.
+     */
+    private static boolean isCommand(List<String> words, String... commandWords) {
+        return words.size() >= commandWords.length
+                && words.subList(0, commandWords.length).equals(Arrays.asList(commandWords));
+    }
+}
@@ -1,14 +1,26 @@
 package seedu.address.logic;
 
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_APPOINTMENT;
+import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_DIAGNOSIS;
+import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_DISEASE;
+import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_DRUG;
+import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_PATIENT;
+import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_SYMPTOM;
+
+import java.util.Arrays;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.PerformanceStats;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.PatientBookParser;
+import seedu.address.logic.parser.Prompt;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.AddressBookModel;
 import seedu.address.model.DiagnosisModel;
@@ -20,6 +32,18 @@ import seedu.address.model.person.Person;
  * The main LogicManager of the app.
  */
 public class LogicManager extends ComponentManager implements Logic {
+    /** Prefix of the names under which the timings of commands are recorded in {@code PerformanceStats}. */
+    public static final String COMMAND_STATS_PREFIX = "command.";
+    public static final String PARSE_STATS_SUFFIX = ".parse";
+    public static final String EXECUTE_STATS_SUFFIX = ".execute";
+    /** Suffix of the time that commands spend waiting for the user to answer prompts. */
+    public static final String PROMPT_STATS_SUFFIX = ".prompt";
+    /** Command word that commands which are not recognised are recorded under. */
+    public static final String UNKNOWN_COMMAND_WORD = "unknown";
+
+    private static final List<String> CMD_TYPES = Arrays.asList(CMDTYPE_PATIENT, CMDTYPE_APPOINTMENT,
+            CMDTYPE_DISEASE, CMDTYPE_SYMPTOM, CMDTYPE_DIAGNOSIS, CMDTYPE_DRUG);
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final AddressBookModel addressBookModel;
@@ -27,6 +51,7 @@ public class LogicManager extends ComponentManager implements Logic {
     private final DiagnosisModel diagnosisModel;
     private final CommandHistory history;
     private final PatientBookParser patientBookParser;
+    private final CommandCompleter commandCompleter;
 
     public LogicManager(AddressBookModel addressBookModel, ScheduleModel scheduleModel, DiagnosisModel diagnosisModel) {
         this.addressBookModel = addressBookModel;
@@ -34,19 +59,63 @@ public class LogicManager extends ComponentManager implements Logic {
         this.diagnosisModel = diagnosisModel;
         history = new CommandHistory();
         patientBookParser = new PatientBookParser();
+        commandCompleter = new CommandCompleter(addressBookModel);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        PerformanceStats stats = PerformanceStats.getInstance();
+        String statsName = COMMAND_STATS_PREFIX + getStatsCommandName(commandText);
+        boolean isSuccessful = false;
         try {
+            // the time spent waiting on the user in prompts, such as the one for choosing a time slot, is
+            // recorded on its own rather than as part of parsing or executing
+            long parsePromptNanos = Prompt.getTotalPromptNanos();
+            long parseStartTime = System.nanoTime();
             Command command = patientBookParser.parseCommand(commandText);
-            return command.execute(addressBookModel, scheduleModel, diagnosisModel, history);
+            long executeStartTime = System.nanoTime();
+            long executePromptNanos = Prompt.getTotalPromptNanos();
+            stats.recordLatency(statsName + PARSE_STATS_SUFFIX,
+                    executeStartTime - parseStartTime - (executePromptNanos - parsePromptNanos));
+
+            CommandResult result = command.execute(addressBookModel, scheduleModel, diagnosisModel, history);
+            long executeEndTime = System.nanoTime();
+            long endPromptNanos = Prompt.getTotalPromptNanos();
+            stats.recordLatency(statsName + EXECUTE_STATS_SUFFIX,
+                    executeEndTime - executeStartTime - (endPromptNanos - executePromptNanos));
+            if (endPromptNanos > parsePromptNanos) {
+                stats.recordLatency(statsName + PROMPT_STATS_SUFFIX, endPromptNanos - parsePromptNanos);
+            }
+            isSuccessful = true;
+            return result;
+        } catch (ParseException pe) {
+            if (MESSAGE_UNKNOWN_COMMAND.equals(pe.getMessage())) {
+                // counted together, so that mistyped command words do not each get their own entry
+                statsName = COMMAND_STATS_PREFIX + UNKNOWN_COMMAND_WORD;
+            }
+            throw pe;
         } finally {
+            if (!isSuccessful) {
+                stats.recordError(statsName);
+            }
             history.add(commandText);
         }
     }
 
+    /**
+     * Returns the name that the timings of {@code commandText} are recorded under: its command word, followed by its
+     * command type if it has one, eg. {@code add.patient}. Returns {@code UNKNOWN_COMMAND_WORD} if it is blank.
+     */
+    private static String getStatsCommandName(String commandText) {
+        String[] words = commandText.trim().split("\\s+", 3);
+        if (words[0].isEmpty()) {
+            return UNKNOWN_COMMAND_WORD;
+        }
+        // only known command types, so that stray arguments do not each get their own entry
+        return words.length > 1 && CMD_TYPES.contains(words[1]) ? words[0] + "." + words[1] : words[0];
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return addressBookModel.getFilteredPersonList();
@@ -61,4 +130,9 @@ public class LogicManager extends ComponentManager implements Logic {
     public ListElementPointer getHistorySnapshot() {
         return new ListElementPointer(history.getHistory());
     }
+
+    @Override
+    public List<String> getCompletions(String commandText) {
+        return commandCompleter.getCompletions(commandText);
+    }
 }
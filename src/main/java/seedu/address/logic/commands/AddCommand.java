@@ -13,9 +13,11 @@ import static seedu.address.logic.parser.PersonCliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.PersonCliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.PersonCliSyntax.PREFIX_TAG;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.commons.core.EventsCenter;
@@ -127,6 +129,8 @@ public class AddCommand extends Command {
     public static final String MESSAGE_SUCCESS_ADDRESSBOOK = "New patient added: %1$s";
     public static final String MESSAGE_SUCCESS_SCHEDULE = "New appointment added: %1$s";
     public static final String MESSAGE_DUPLICATE_PERSON = "This patient already exists in the patient book";
+    public static final String MESSAGE_POSSIBLE_DUPLICATE_PERSON = "Warning: the phone number or email is already "
+            + "registered to %1$s. Check that this patient has not been registered before.";
     public static final String MESSAGE_DUPLICATE_DISEASE = "This disease already exists in the patient book";
     public static final String MESSAGE_INVALID_PATIENT_FORMAT = "Invalid input format for patient: %1$s";
     public static final String NO_DISEASE_PARAMETER = "Disease should not be empty.";
@@ -185,9 +189,18 @@ public class AddCommand extends Command {
                 if (addressBookModel.hasPerson(person)) {
                     throw new CommandException(MESSAGE_DUPLICATE_PERSON);
                 }
+                // a walk-in patient may have been registered before, but family members can share a phone or email
+                Set<Person> personsWithSameContact = new LinkedHashSet<>(addressBookModel.findPersonsByPhone(phone));
+                personsWithSameContact.addAll(addressBookModel.findPersonsByEmail(email));
                 addressBookModel.addPerson(person);
                 EventsCenter.getInstance().post(new SwitchToPatientEvent());
-                return new CommandResult(String.format(MESSAGE_SUCCESS_ADDRESSBOOK, person.getName()));
+                String result = String.format(MESSAGE_SUCCESS_ADDRESSBOOK, person.getName());
+                if (!personsWithSameContact.isEmpty()) {
+                    result += "\n" + String.format(MESSAGE_POSSIBLE_DUPLICATE_PERSON, personsWithSameContact.stream()
+                            .map(samePerson -> samePerson.getName() + " (" + samePerson.getId() + ")")
+                            .collect(Collectors.joining(", ")));
+                }
+                return new CommandResult(result);
             } catch (ParseException e) {
                 throw new CommandException(String.format(MESSAGE_INVALID_PATIENT_FORMAT, e.getMessage()));
             }
@@ -171,12 +171,9 @@ public class EditCommand extends Command {
                 try {
                     Pair<Calendar> newDatetime = new DateTimeParser().parseTimeSlot(
                             argMultimap.getValue(PREFIX_DATETIME).get());
-                    List<ScheduleEvent> scheduledAppts = scheduleModel.internalGetFromEventList(unused -> true);
-                    for (ScheduleEvent appt: scheduledAppts) {
-                        if (appt.getId().toString().equals(target)) {
-                            continue;
-                        }
-                        if (appt.isClashing(newDatetime)) {
+                    List<ScheduleEvent> clashingAppts = scheduleModel.getClashingEvents(newDatetime);
+                    for (ScheduleEvent appt: clashingAppts) {
+                        if (!appt.getId().toString().equals(target)) {
                             throw new CommandException(String.format(DateTimeParser.MESSAGE_INVALID_SLOT,
                                     DateTimeParser.MESSAGE_SLOT_CLASHING));
                         }
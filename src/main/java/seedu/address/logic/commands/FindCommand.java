@@ -7,7 +7,11 @@ import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_DRUG;
 import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_PATIENT;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.Messages;
@@ -19,10 +23,16 @@ import seedu.address.model.AddressBookModel;
 import seedu.address.model.DiagnosisModel;
 import seedu.address.model.DrugSearch;
 import seedu.address.model.ScheduleModel;
+import seedu.address.model.event.EventId;
+import seedu.address.model.event.ScheduleEvent;
 import seedu.address.model.event.ScheduleEventMatchesPredicate;
-import seedu.address.model.person.MatchPersonPredicate;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
 import seedu.address.model.symptom.Disease;
 import seedu.address.model.symptom.Symptom;
+import seedu.address.model.tag.Tag;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
@@ -37,7 +47,7 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Use 'find patient' "
             + "to find all patients whose names contains any of the specified "
-            + "keywords (case-insensitive)."
+            + "keywords (case-insensitive), or else those whose names are spelt like them."
             + "\nUse 'find disease' to find all symptoms related to any disease in your database."
             + "\nUse 'find drug' to find all drugs licensed for sale in Singapore matching this name "
             + "(only alphabetical inputs)."
@@ -47,6 +57,17 @@ public class FindCommand extends Command {
             + COMMAND_WORD
             + " patient"
             + " alice bob charlie\n"
+            + "Parameters to find patients or appointments by tag: t/TAG [MORE_TAGS]... [t/TAG [MORE_TAGS]...]...\n"
+            + "Each t/ must be matched by one of its tags.\n"
+            + "Example: "
+            + COMMAND_WORD
+            + " patient"
+            + " t/diabetic t/elderly frail\n"
+            + "Parameter to find patients by phone number or email: p/PHONE or e/EMAIL\n"
+            + "Example: "
+            + COMMAND_WORD
+            + " patient"
+            + " p/98765432\n"
             + "Parameter to find disease: DISEASE\n"
             + "Example: "
             + COMMAND_WORD
@@ -58,6 +79,9 @@ public class FindCommand extends Command {
             + " drug"
             + " Glycomet\n";
 
+    public static final String MESSAGE_SIMILAR_PERSONS_LISTED = "No patient's name has these words. "
+            + "%1$d patients with similar names listed!";
+
     public static final String UNEXPECTED_ERROR = "Unexpected Error: ";
     public static final String NO_DISEASE_FOUND = " is not present in our record,"
             + " please add this disease and "
@@ -73,6 +97,9 @@ public class FindCommand extends Command {
 
     private final String cmdType;
     private final String searchString;
+    private final List<Set<Tag>> tagGroups;
+    private final Phone phone;
+    private final Email email;
 
     /* public FindCommand(MatchPersonPredicate predicate) {
         this.predicate = predicate;
@@ -80,6 +107,43 @@ public class FindCommand extends Command {
     public FindCommand(String cmdType, String searchString) {
         this.cmdType = cmdType;
         this.searchString = searchString;
+        this.tagGroups = Collections.emptyList();
+        this.phone = null;
+        this.email = null;
+    }
+
+    /**
+     * Creates a command that finds the patients or appointments, depending on {@code cmdType}, that have at least one
+     * of the tags in each of {@code tagGroups}.
+     */
+    public FindCommand(String cmdType, List<Set<Tag>> tagGroups) {
+        this.cmdType = cmdType;
+        this.searchString = "";
+        this.tagGroups = tagGroups;
+        this.phone = null;
+        this.email = null;
+    }
+
+    /**
+     * Creates a command that finds the patients whose phone number is {@code phone}.
+     */
+    public FindCommand(Phone phone) {
+        this.cmdType = CMDTYPE_PATIENT;
+        this.searchString = "";
+        this.tagGroups = Collections.emptyList();
+        this.phone = phone;
+        this.email = null;
+    }
+
+    /**
+     * Creates a command that finds the patients whose email address is {@code email}, ignoring case.
+     */
+    public FindCommand(Email email) {
+        this.cmdType = CMDTYPE_PATIENT;
+        this.searchString = "";
+        this.tagGroups = Collections.emptyList();
+        this.phone = null;
+        this.email = email;
     }
 
     @Override
@@ -91,14 +155,41 @@ public class FindCommand extends Command {
         String cmdResult;
 
         if (this.cmdType.equals(CMDTYPE_PATIENT)) {
-            String[] nameKeywords = searchString.split("\\s+");
+            List<Person> matchedPersons;
+            boolean isSimilarNameMatch = false;
+            if (phone != null) {
+                matchedPersons = addressBookModel.findPersonsByPhone(phone);
+            } else if (email != null) {
+                matchedPersons = addressBookModel.findPersonsByEmail(email);
+            } else if (tagGroups.isEmpty()) {
+                List<String> nameKeywords = Arrays.asList(searchString.split("\\s+"));
+                matchedPersons = addressBookModel.findPersonsByNameOrId(nameKeywords);
+                if (matchedPersons.isEmpty()) {
+                    // the keywords may be misspelt, so try names spelt like them
+                    matchedPersons = addressBookModel.findPersonsWithSimilarNames(nameKeywords);
+                    isSimilarNameMatch = !matchedPersons.isEmpty();
+                }
+            } else {
+                matchedPersons = addressBookModel.findPersonsByTags(tagGroups);
+            }
 
-            addressBookModel.updateFilteredPersonList(new MatchPersonPredicate(Arrays.asList(nameKeywords)));
+            Set<PersonId> matchedIds = matchedPersons.stream()
+                    .map(Person::getId)
+                    .collect(Collectors.toSet());
+            addressBookModel.updateFilteredPersonList(person -> matchedIds.contains(person.getId()));
             EventsCenter.getInstance().post(new SwitchToPatientEvent());
-            cmdResult = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
+            cmdResult = String.format(isSimilarNameMatch
+                    ? MESSAGE_SIMILAR_PERSONS_LISTED : Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
                     addressBookModel.getFilteredPersonList().size());
         } else if (this.cmdType.equals(CMDTYPE_APPOINTMENT)) {
-            scheduleModel.updateFilteredEventList(new ScheduleEventMatchesPredicate(searchString));
+            if (tagGroups.isEmpty()) {
+                scheduleModel.updateFilteredEventList(new ScheduleEventMatchesPredicate(searchString));
+            } else {
+                Set<EventId> matchedIds = scheduleModel.getEventsWithTags(tagGroups).stream()
+                        .map(ScheduleEvent::getId)
+                        .collect(Collectors.toSet());
+                scheduleModel.updateFilteredEventList(event -> matchedIds.contains(event.getId()));
+            }
             EventsCenter.getInstance().post(new SwitchToAppointmentEvent());
             cmdResult = String.format(Messages.MESSAGE_EVENTS_LISTED_OVERVIEW,
                     scheduleModel.getFilteredEventList().size());
@@ -137,6 +228,9 @@ public class FindCommand extends Command {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
                 && cmdType.equals(((FindCommand) other).cmdType)
-                && searchString.equals(((FindCommand) other).searchString)); // state check
+                && searchString.equals(((FindCommand) other).searchString)
+                && tagGroups.equals(((FindCommand) other).tagGroups)
+                && Objects.equals(phone, ((FindCommand) other).phone)
+                && Objects.equals(email, ((FindCommand) other).email)); // state check
     }
 }
@@ -0,0 +1,29 @@
+package seedu.address.logic.commands;
+
+import seedu.address.commons.core.PerformanceStats;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.AddressBookModel;
+import seedu.address.model.DiagnosisModel;
+import seedu.address.model.ScheduleModel;
+
+/**
+ * Shows how long commands and saves have taken since the app started, and how often they failed.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_SUCCESS = "Timings since the app started:\n%1$s";
+    public static final String MESSAGE_NO_STATS = "Nothing has been timed yet.";
+
+    @Override
+    public CommandResult execute(AddressBookModel addressBookModel, ScheduleModel scheduleModel,
+                                 DiagnosisModel diagnosisModel, CommandHistory history) {
+        PerformanceStats stats = PerformanceStats.getInstance();
+        if (stats.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_STATS);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, stats.getReport()));
+    }
+
+}
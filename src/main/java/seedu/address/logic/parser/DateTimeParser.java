@@ -24,18 +24,18 @@ import static seedu.address.logic.parser.ScheduleEventParser.WORD_WEDNESDAY;
 import static seedu.address.logic.parser.ScheduleEventParser.WORD_WEEK;
 import static seedu.address.logic.parser.ScheduleEventParser.WORD_WEEKS;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.ArrayList;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Calendar;
-import java.util.Comparator;
-import java.util.Date;
-import java.util.GregorianCalendar;
 import java.util.List;
 
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.commons.util.Pair;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.event.FreeSlotBitmap;
 import seedu.address.model.event.ScheduleEvent;
 
 
@@ -62,13 +62,8 @@ public class DateTimeParser {
                                                                          + "as date validity should have been checked";
     public static final String MESSAGE_UNEXPECTED_ERROR_TIME_ALR_CHECKED = "Unexpected error, "
                                                                          + "as time validity should have been checked";
-    public static final SimpleDateFormat SDF_SINGLE_DATE;
-    public static final SimpleDateFormat SDF_TIME;
-
-    static {
-        SDF_SINGLE_DATE = new SimpleDateFormat("dd/MM/yyyy");
-        SDF_TIME = new SimpleDateFormat("kk:mm");
-    }
+    public static final DateTimeFormatter SINGLE_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("kk:mm");
 
     /**
      * Parses date from input string.
@@ -318,15 +313,15 @@ public class DateTimeParser {
      */
     private Pair<Calendar> getDateFromSpecified(String dateTimeInput) throws ParseException {
         try {
-            DateFormat formatter = SDF_SINGLE_DATE;
-            Date date = formatter.parse(dateTimeInput);
-            Calendar finalDate = new GregorianCalendar();
-            finalDate.setTime(date);
-            Calendar dateStart = (Calendar) finalDate.clone();
-            Calendar dateEnd = (Calendar) finalDate.clone();
+            String[] splitDateString = dateTimeInput.split("/");
+            LocalDate date = LocalDate.of(Integer.parseInt(splitDateString[2]), Integer.parseInt(splitDateString[1]),
+                    Integer.parseInt(splitDateString[0]));
+            long dateEpochMinute = DateTimeUtil.toEpochMinute(date.atStartOfDay());
+            Calendar dateStart = DateTimeUtil.toCalendar(dateEpochMinute);
+            Calendar dateEnd = DateTimeUtil.toCalendar(dateEpochMinute);
             setDateStartAndEnd(dateStart, dateEnd);
             return new Pair<>(dateStart, dateEnd);
-        } catch (java.text.ParseException e) {
+        } catch (DateTimeException | NumberFormatException e) {
             throw new ParseException(MESSAGE_UNEXPECTED_ERROR_DATE_ALR_CHECKED);
         }
     }
@@ -377,189 +372,36 @@ public class DateTimeParser {
     public String getAvailableTimeSlotsBetween(List<ScheduleEvent> scheduledAppointments, Pair<Calendar> dateInterval) {
         requireNonNull(scheduledAppointments);
         requireNonNull(dateInterval);
-        List<Pair<Calendar>> availableSlotList = getAvailableSlotList(scheduledAppointments, dateInterval);
-        return slotListToString(availableSlotList);
-    }
-
-    /**
-     * Gets the available time slots for a given time range.
-     * A time period is considered available when the doctor does not have an appointment during it.
-     * @param scheduledAppts Already scheduled appointments within the time range.
-     * @param dateInterval The time range.
-     * @return Available time slots during the time range, represented as a list, unsorted due to implementation.
-     */
-    private List<Pair<Calendar>> getAvailableSlotList(List<ScheduleEvent> scheduledAppts, Pair<Calendar> dateInterval) {
-
-        List<Pair<Calendar>> availableSlots = new ArrayList<>();
-        if (!scheduledAppts.isEmpty()) {
-            findFirstAvailableSlot(scheduledAppts, availableSlots);
-            for (int i = 0; i < scheduledAppts.size() - 1; i++) {
-                Calendar currentEnd = scheduledAppts.get(i).getDate().getValue();
-                Calendar nextStart = scheduledAppts.get(i + 1).getDate().getKey();
-                findAvailableSlotsBetweenTwoAppts(availableSlots, currentEnd, nextStart);
-            }
-            findLastAvailableSlot(scheduledAppts, availableSlots);
-        }
-        findCompletelyAvailableDays(scheduledAppts, dateInterval, availableSlots);
-        sortTimeSlots(availableSlots);
-        return availableSlots;
-    }
-
-    /**
-     * Finds and appends the first available time slot before the the first scheduled appointment within that range.
-     * This available time slot will be from 9:00 of the day where the first appointment is,
-     * to the start of the first appointment.
-     * @param scheduledAppts The list of already scheduled appointments within the time range.
-     * @param availableSlots The list of available time slots within the time range.
-     */
-    private void findFirstAvailableSlot(List<ScheduleEvent> scheduledAppts, List<Pair<Calendar>> availableSlots) {
-        assert !scheduledAppts.isEmpty();
-        requireNonNull(availableSlots);
-        Calendar firstScheduleStart = scheduledAppts.get(0).getDate().getKey();
-        Calendar firstDayStart = (Calendar) firstScheduleStart.clone();
-        firstDayStart.set(Calendar.HOUR_OF_DAY, 9);
-        firstDayStart.set(Calendar.MINUTE, 0);
-        if (firstScheduleStart.after(firstDayStart)) {
-            availableSlots.add(new Pair<>(firstDayStart, firstScheduleStart));
-        }
-    }
-
-    /**
-     * Finds and appends all available time slots between two appointments, given
-     * the end of one appointment and the start of the the next appointment.
-     * @param availableSlots The list of available time slots within the time range.
-     * @param currentEnd The end time of one appointment.
-     * @param nextStart The start time of the next appointment.
-     */
-    private void findAvailableSlotsBetweenTwoAppts(List<Pair<Calendar>> availableSlots,
-                                                   Calendar currentEnd, Calendar nextStart) {
-        requireNonNull(availableSlots);
-        requireNonNull(currentEnd);
-        requireNonNull(nextStart);
-        if (nextStart.get(Calendar.DATE) != currentEnd.get(Calendar.DATE)) {
-            // the next appointment is on a different date already
-            // the remaining (if applicable) current day will be free all the way till day end
-            Calendar dayEnd = (Calendar) currentEnd.clone();
-            dayEnd.set(Calendar.HOUR_OF_DAY, 18);
-            dayEnd.set(Calendar.MINUTE, 0);
-            if (currentEnd.before(dayEnd)) {
-                availableSlots.add(new Pair<>(currentEnd, dayEnd));
-            }
-            // also, on the day where the next appointment is,
-            // the time preceding (if applicable) the start of the next appointment will be free
-            Calendar dayStart = (Calendar) nextStart.clone();
-            dayStart.set(Calendar.HOUR_OF_DAY, 9);
-            dayStart.set(Calendar.MINUTE, 0);
-            if (nextStart.after(dayStart)) {
-                availableSlots.add(new Pair<>(dayStart, nextStart));
-            }
-        } else if (currentEnd.before(nextStart)) {
-            availableSlots.add(new Pair<>(currentEnd, nextStart));
-        }
-    }
-
-    /**
-     * Finds and appends the last available time slot after the the last scheduled appointment within that range.
-     * This available time slot will be from the end of the last appointment,
-     * to 18:00 of the day where the last appointment is.
-     * @param scheduledAppts The list of already scheduled appointments within the time range.
-     * @param availableSlots The list of available time slots within the time range.
-     */
-    private void findLastAvailableSlot(List<ScheduleEvent> scheduledAppts, List<Pair<Calendar>> availableSlots) {
-        assert !scheduledAppts.isEmpty();
-        requireNonNull(availableSlots);
-        Calendar lastScheduleEnd = scheduledAppts.get(scheduledAppts.size() - 1).getDate().getValue();
-        Calendar lastDayEnd = (Calendar) lastScheduleEnd.clone();
-        lastDayEnd.set(Calendar.HOUR_OF_DAY, 18);
-        lastDayEnd.set(Calendar.MINUTE, 0);
-        if (lastScheduleEnd.before(lastDayEnd)) {
-            availableSlots.add(new Pair<>(lastScheduleEnd, lastDayEnd));
-        }
-    }
-
-    /**
-     * Finds and appends all available time slots during days that are completely empty within a given range.
-     * @param scheduledAppts The list of already scheduled appointments within the time range.
-     * @param dateInterval The time range.
-     * @param availableSlots The list of available time slots within the time range.
-     */
-    private void findCompletelyAvailableDays(List<ScheduleEvent> scheduledAppts,
-                                             Pair<Calendar> dateInterval, List<Pair<Calendar>> availableSlots) {
-        requireNonNull(availableSlots);
-        Calendar dayPointer = (Calendar) dateInterval.getKey().clone();
-        while (!dayPointer.after(dateInterval.getValue())) {
-            boolean isEmptyDay = true;
-            if (!scheduledAppts.isEmpty()) {
-                for (ScheduleEvent appt: scheduledAppts) {
-                    // since the maximum interval is one month, using DAY_OF_YEAR will always be safe
-                    if (appt.getDate().getKey().get(Calendar.DAY_OF_YEAR) == dayPointer.get(Calendar.DAY_OF_YEAR)) {
-                        isEmptyDay = false;
-                        break;
-                    }
-                }
-                if (isEmptyDay) {
-                    Calendar emptyDayStart = (Calendar) dayPointer.clone();
-                    Calendar emptyDayEnd = (Calendar) dayPointer.clone();
-                    setDateStartAndEnd(emptyDayStart, emptyDayEnd);
-                    availableSlots.add(new Pair<>(emptyDayStart, emptyDayEnd));
-                }
-            } else {
-                Calendar emptyDayStart = (Calendar) dayPointer.clone();
-                Calendar emptyDayEnd = (Calendar) dayPointer.clone();
-                setDateStartAndEnd(emptyDayStart, emptyDayEnd);
-                availableSlots.add(new Pair<>(emptyDayStart, emptyDayEnd));
-            }
-            dayPointer.add(Calendar.DATE, 1); // next date
-        }
-    }
-
-    /**
-     * Sorts the given list of time slots, primarily based on the start time of the slot.
-     * If two slots have the same start time, their end times and compared.
-     * @param timeSlots The list of time slots to sort.
-     */
-    private void sortTimeSlots(List<Pair<Calendar>> timeSlots) {
-        requireNonNull(timeSlots);
-        timeSlots.sort(new Comparator<Pair<Calendar>>() {
-            @Override
-            public int compare(Pair<Calendar> timeSlot1, Pair<Calendar> timeSlot2) {
-                if (timeSlot1.getKey().compareTo(timeSlot2.getKey()) == 0) {
-                    return timeSlot1.getValue().compareTo(timeSlot2.getValue());
-                }
-                return timeSlot1.getKey().compareTo(timeSlot2.getKey());
-            }
-        });
+        LocalDate firstDay = DateTimeUtil.toLocalDateTime(DateTimeUtil.toEpochMinute(dateInterval.getKey()))
+                .toLocalDate();
+        LocalDate lastDay = DateTimeUtil.toLocalDateTime(DateTimeUtil.toEpochMinute(dateInterval.getValue()))
+                .toLocalDate();
+        FreeSlotBitmap freeSlots = FreeSlotBitmap.of(firstDay, lastDay, scheduledAppointments);
+        return slotListToString(freeSlots.getFreeSlots(1));
     }
 
     /**
      * Converts a list representation of slots to a string representation.
-     * @param slots List representation of slots.
+     * @param slots List representation of slots, each a pair of epoch minutes.
      * @return String representation of the given list of slots.
      */
-    private String slotListToString(List<Pair<Calendar>> slots) {
+    private String slotListToString(List<Pair<Long>> slots) {
         requireNonNull(slots);
         if (slots.isEmpty()) {
             return MESSAGE_NO_SLOTS;
         }
         StringBuilder availableTimeBuilder = new StringBuilder();
         availableTimeBuilder.append(MESSAGE_HAVE_SLOTS);
-        DateFormat dateFormatter = SDF_SINGLE_DATE;
-        DateFormat timeFormatter = SDF_TIME;
-        int datePointer = -1;
-        for (int j = 0; j < slots.size(); j++) {
-            Calendar slotStart = slots.get(j).getKey();
-            Calendar slotsEnd = slots.get(j).getValue();
-            if (slotStart.get(Calendar.DATE) != datePointer) {
+        LocalDate datePointer = null;
+        for (Pair<Long> slot : slots) {
+            LocalDateTime slotStart = DateTimeUtil.toLocalDateTime(slot.getKey());
+            if (!slotStart.toLocalDate().equals(datePointer)) {
                 // a new date
-                Date formattableDate = slots.get(j).getKey().getTime();
-                String formattedDate = dateFormatter.format(formattableDate);
-                availableTimeBuilder.append("\n" + formattedDate + ":\n");
-                datePointer = slotStart.get(Calendar.DATE);
+                datePointer = slotStart.toLocalDate();
+                availableTimeBuilder.append("\n" + SINGLE_DATE_FORMATTER.format(datePointer) + ":\n");
             }
-            Date formattableStartTime = slotStart.getTime();
-            Date formattableEndTime = slotsEnd.getTime();
-            String start = timeFormatter.format(formattableStartTime);
-            String end = timeFormatter.format(formattableEndTime);
+            String start = TIME_FORMATTER.format(slotStart);
+            String end = DateTimeUtil.format(slot.getValue(), TIME_FORMATTER);
             availableTimeBuilder.append(start + " - " + end + "\n");
         }
         return availableTimeBuilder.toString();
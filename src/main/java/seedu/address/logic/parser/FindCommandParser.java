@@ -5,9 +5,18 @@ import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_APPOINTMENT;
 import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_DISEASE;
 import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_DRUG;
 import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_PATIENT;
+import static seedu.address.logic.parser.PersonCliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.PersonCliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.PersonCliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.Tag;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -58,8 +67,53 @@ public class FindCommandParser implements Parser<FindCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
+        if (cmdType.equals(CMDTYPE_PATIENT)) {
+            ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(trimmedArgs, PREFIX_PHONE, PREFIX_EMAIL);
+            List<String> phoneArgs = argMultimap.getAllValues(PREFIX_PHONE);
+            List<String> emailArgs = argMultimap.getAllValues(PREFIX_EMAIL);
+            if (!phoneArgs.isEmpty() || !emailArgs.isEmpty()) {
+                // a single phone number or email, with nothing before it
+                if (phoneArgs.size() + emailArgs.size() > 1 || !(trimmedArgs.startsWith(PREFIX_PHONE.getPrefix())
+                        || trimmedArgs.startsWith(PREFIX_EMAIL.getPrefix()))) {
+                    throw new ParseException(
+                            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+                }
+                return phoneArgs.isEmpty()
+                        ? new FindCommand(ParserUtil.parseEmail(emailArgs.get(0)))
+                        : new FindCommand(ParserUtil.parsePhone(phoneArgs.get(0)));
+            }
+        }
+
+        if (cmdType.equals(CMDTYPE_PATIENT) || cmdType.equals(CMDTYPE_APPOINTMENT)) {
+            ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(trimmedArgs, PREFIX_TAG);
+            List<String> tagArgs = argMultimap.getAllValues(PREFIX_TAG);
+            if (!tagArgs.isEmpty()) {
+                // the tokenizer drops any text before the first prefix, so make sure there is none
+                if (!trimmedArgs.startsWith(PREFIX_TAG.getPrefix())) {
+                    throw new ParseException(
+                            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+                }
+                return new FindCommand(cmdType, parseTagGroups(tagArgs));
+            }
+        }
+
         return new FindCommand(cmdType, trimmedArgs);
     }
 
+    /**
+     * Parses the value of each {@code t/} into the set of tags it lists, separated by whitespace.
+     * @throws ParseException if a value is empty or a tag is invalid
+     */
+    private static List<Set<Tag>> parseTagGroups(List<String> tagArgs) throws ParseException {
+        List<Set<Tag>> tagGroups = new ArrayList<>();
+        for (String tagArg : tagArgs) {
+            if (tagArg.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            tagGroups.add(ParserUtil.parseTags(Arrays.asList(tagArg.split("\\s+"))));
+        }
+        return tagGroups;
+    }
+
 
 }
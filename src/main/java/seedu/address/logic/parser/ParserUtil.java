@@ -17,6 +17,7 @@ import seedu.address.model.person.Phone;
 import seedu.address.model.symptom.Disease;
 import seedu.address.model.symptom.Symptom;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagDictionary;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -110,7 +111,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_TAG_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return TagDictionary.getInstance().intern(new Tag(trimmedTag));
     }
 
     /**
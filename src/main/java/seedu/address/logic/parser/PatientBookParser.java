@@ -20,6 +20,7 @@ import seedu.address.logic.commands.ModeCommand;
 import seedu.address.logic.commands.MoreInfoCommand;
 import seedu.address.logic.commands.PredictCommand;
 import seedu.address.logic.commands.SelectCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -82,6 +83,9 @@ public class PatientBookParser {
         case HistoryCommand.COMMAND_WORD:
             return new HistoryCommand();
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
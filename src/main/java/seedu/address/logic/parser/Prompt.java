@@ -1,5 +1,7 @@
 package seedu.address.logic.parser;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import seedu.address.MainApp;
 import seedu.address.logic.parser.exceptions.PromptException;
 import seedu.address.ui.PromptWindow;
@@ -22,6 +24,8 @@ public class Prompt {
             + "Eg. 13/12/2018 13:30 - 14:30\n";
     private static final String MESSAGE_PROMPT_CANCEL = "Cancelled command\n";
     private static final String EMPTY_RESPONSE = "";
+    /** Time spent waiting on the user in every prompt so far, in nanoseconds. */
+    private static final AtomicLong totalPromptNanos = new AtomicLong();
     private MainApp mainApp = new MainApp();
     private PromptWindow promptWindow;
 
@@ -32,7 +36,12 @@ public class Prompt {
      */
     public String promptForMoreInput (String leadingMessage, String messageToUser, boolean isInputCompulsory)
             throws PromptException {
-        promptWindow = mainApp.showPromptWindow(leadingMessage + messageToUser);
+        long promptStartTime = System.nanoTime();
+        try {
+            promptWindow = mainApp.showPromptWindow(leadingMessage + messageToUser);
+        } finally {
+            totalPromptNanos.addAndGet(System.nanoTime() - promptStartTime);
+        }
         if (promptWindow.isEnterClicked()) {
             if (!promptWindow.getInput().equals(EMPTY_RESPONSE)) {
                 return promptWindow.getInput();
@@ -46,4 +55,12 @@ public class Prompt {
         }
         throw new PromptException(MESSAGE_PROMPT_CANCEL);
     }
+
+    /**
+     * Returns the total time that prompts have been open for, in nanoseconds. The time a command spends waiting on
+     * the user is the difference between this before and after the command.
+     */
+    public static long getTotalPromptNanos() {
+        return totalPromptNanos.get();
+    }
 }
@@ -25,7 +25,6 @@ import seedu.address.logic.parser.exceptions.PromptException;
 import seedu.address.model.AddressBookModel;
 import seedu.address.model.ScheduleModel;
 import seedu.address.model.event.ScheduleEvent;
-import seedu.address.model.person.MatchPersonPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonId;
 import seedu.address.model.tag.Tag;
@@ -169,34 +168,29 @@ public class ScheduleEventParser {
             throws PromptException, ParseException {
         requireNonNull(dateInterval);
         requireNonNull(dateTimeParser);
-        List<ScheduleEvent> scheduledAppts = getAppointmentsBetween(dateInterval);
+        List<ScheduleEvent> scheduledAppts = scheduleModel.getClashingEvents(dateInterval);
         String availableTimeSlots = dateTimeParser.getAvailableTimeSlotsBetween(scheduledAppts, dateInterval);
         String timeSlotInput = new Prompt().promptForMoreInput(MESSAGE_PROMPT_TIMESLOT, availableTimeSlots, true);
         Pair<Calendar> timeSlot = dateTimeParser.parseTimeSlot(timeSlotInput.trim());
-        verifyTimeSlotValidity(dateInterval, scheduledAppts, timeSlot);
+        verifyTimeSlotValidity(dateInterval, timeSlot);
         return timeSlot;
     }
 
     /**
      * Verifies if the given time slot is valid.
      * It is valid only when the time slot is within the range specified
-     * and the time slot does not clash with any other appointment within the range specified.
+     * and the time slot does not clash with any other appointment.
      * @param dateInterval The time range specified.
-     * @param scheduledAppts The list of already scheduled appointments within the range.
      * @param timeSlot The given time slot.
      * @throws ParseException If an error occurs during parsing, indicating invalid time slot.
      */
-    private void verifyTimeSlotValidity(Pair<Calendar> dateInterval, List<ScheduleEvent> scheduledAppts,
-                                        Pair<Calendar> timeSlot) throws ParseException {
+    private void verifyTimeSlotValidity(Pair<Calendar> dateInterval, Pair<Calendar> timeSlot) throws ParseException {
         requireNonNull(dateInterval);
-        requireNonNull(scheduledAppts);
         requireNonNull(timeSlot);
         if (isTimeSlotWithinRange(timeSlot, dateInterval)) {
-            for (ScheduleEvent appt: scheduledAppts) {
-                if (appt.isClashing(timeSlot)) {
-                    throw new ParseException(String.format(DateTimeParser.MESSAGE_INVALID_SLOT,
-                            DateTimeParser.MESSAGE_SLOT_CLASHING));
-                }
+            if (!scheduleModel.getClashingEvents(timeSlot).isEmpty()) {
+                throw new ParseException(String.format(DateTimeParser.MESSAGE_INVALID_SLOT,
+                        DateTimeParser.MESSAGE_SLOT_CLASHING));
             }
         } else {
             throw new ParseException(String.format(DateTimeParser.MESSAGE_INVALID_SLOT,
@@ -215,10 +209,16 @@ public class ScheduleEventParser {
         logger.info("Start patient parsing");
         try {
             List<Person> matchedPatients = matchPatients(patientInput);
+            boolean isSimilarNameMatch = false;
+            if (matchedPatients.isEmpty()) {
+                // the name may be misspelt, so offer the patients whose names are spelt like it
+                matchedPatients = addressBookModel.findPersonsWithSimilarNames(Arrays.asList(patientInput));
+                isSimilarNameMatch = true;
+            }
             if (matchedPatients.isEmpty()) {
                 throw new ParseException(MESSAGE_PATIENT_MATCH_FAIL);
             }
-            return promptForIntendedPatient(matchedPatients).getId();
+            return promptForIntendedPatient(matchedPatients, isSimilarNameMatch).getId();
         } catch (PromptException | ParseException e) {
             logger.warning("Patient parsing failed");
             throw new ParseException(e.getMessage());
@@ -232,23 +232,25 @@ public class ScheduleEventParser {
      */
     private List<Person> matchPatients(String[] patientInput) {
         requireNonNull(patientInput);
-        return addressBookModel.internalGetFromPersonList
-                        (new MatchPersonPredicate(Arrays.asList(patientInput)));
+        return addressBookModel.findPersonsByNameOrId(Arrays.asList(patientInput));
     }
 
     /**
      * Prompts the user to choose the intended patient to schedule for.
      * @param matchedPatients The list of patients matched by initial input for patient.
+     * @param isConfirmationNeeded Whether the user must choose even if only one patient was matched, as when the
+     *                             patients were matched by a name spelt like the input rather than the input itself.
      * @return The final matched patients.
      * @throws PromptException If an error occurs during prompt stage.
      * @throws ParseException If an error occurs during parsing.
      */
-    private Person promptForIntendedPatient(List<Person> matchedPatients)
+    private Person promptForIntendedPatient(List<Person> matchedPatients, boolean isConfirmationNeeded)
             throws PromptException, ParseException {
         assert !matchedPatients.isEmpty();
         Set<PersonId> choosablePersonIds = getChoosablePersonIds(matchedPatients);
         assert !choosablePersonIds.isEmpty();
-        while (matchedPatients.size() != 1) {
+        while (matchedPatients.size() != 1 || isConfirmationNeeded) {
+            isConfirmationNeeded = false;
             String displayablePersons = displayPersonListAsString(matchedPatients);
             String personIdInput = new Prompt().promptForMoreInput(MESSAGE_PROMPT_ID, displayablePersons, true);
             String[] splitString = personIdInput.split("\\s+");
@@ -405,18 +407,6 @@ public class ScheduleEventParser {
         return false;
     }
 
-    /**
-     * Gets the list of appointments scheduled within the specified range.
-     * @param dateInterval The time range from which appointments are to be get.
-     * @return The list of appointments scheduled within the specified range.
-     */
-    private List<ScheduleEvent> getAppointmentsBetween(Pair<Calendar> dateInterval) {
-        requireNonNull(dateInterval);
-        return scheduleModel.internalGetFromEventList(scheduleEvent ->
-                !scheduleEvent.getDate().getKey().before(dateInterval.getKey())
-                        && !scheduleEvent.getDate().getValue().after(dateInterval.getValue()));
-    }
-
     /**
      * Checks if the given time slot is within the given range.
      * @param timeSlot The time slot.
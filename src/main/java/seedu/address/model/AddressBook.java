@@ -2,11 +2,17 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
@@ -65,6 +71,82 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person with the given {@code personId}, including soft-deleted persons.
+     *
+     * @throws PersonNotFoundException if no such person exists in the address book.
+     */
+    public Person getPersonById(PersonId personId) throws PersonNotFoundException {
+        requireNonNull(personId);
+        return persons.getById(personId);
+    }
+
+    /**
+     * Returns the position of the equivalent person in {@code getPersonList()}, or -1 if there is none.
+     */
+    public int indexOfPerson(Person person) {
+        requireNonNull(person);
+        return persons.indexOf(person);
+    }
+
+    /**
+     * Returns the existing persons whose name contains any of {@code keywords} as a whole word (case-insensitive),
+     * or whose id is one of {@code keywords}.
+     */
+    public List<Person> findPersonsByNameOrId(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return persons.findByNameOrId(keywords);
+    }
+
+    /**
+     * Returns up to {@code limit} existing persons whose name has a word spelt like one of {@code keywords}, closest
+     * first.
+     */
+    public List<Person> findPersonsWithSimilarNames(Collection<String> keywords, int limit) {
+        requireNonNull(keywords);
+        return persons.findBySimilarName(keywords, limit);
+    }
+
+    /**
+     * Returns the existing persons that have at least one of the tags in each of {@code tagGroups}.
+     */
+    public List<Person> findPersonsByTags(List<? extends Collection<Tag>> tagGroups) {
+        requireNonNull(tagGroups);
+        return persons.findByTags(tagGroups);
+    }
+
+    /**
+     * Returns the existing persons whose phone number is {@code phone}.
+     */
+    public List<Person> findPersonsByPhone(Phone phone) {
+        requireNonNull(phone);
+        return persons.findByPhone(phone);
+    }
+
+    /**
+     * Returns the existing persons whose email address is {@code email}, ignoring case.
+     */
+    public List<Person> findPersonsByEmail(Email email) {
+        requireNonNull(email);
+        return persons.findByEmail(email);
+    }
+
+    /**
+     * Returns up to {@code limit} words from the names of existing persons that start with {@code prefix}.
+     */
+    public List<String> getPersonNameCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        return persons.getNameCompletions(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} ids of existing persons that start with {@code prefix}.
+     */
+    public List<String> getPersonIdCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        return persons.getIdCompletions(prefix, limit);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -1,11 +1,16 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the AddressBookModel component.
@@ -21,6 +26,9 @@ public interface AddressBookModel {
      */
     Predicate<Person> PREDICATE_SHOW_ALL_PERSONS = unused -> true;
 
+    /** The most persons that {@code findPersonsWithSimilarNames} returns. */
+    int SIMILAR_NAME_MATCH_LIMIT = 10;
+
     /**
      * Clears existing backing addressBookModel and replaces with the provided new data.
      */
@@ -75,7 +83,52 @@ public interface AddressBookModel {
     ObservableList<Person> internalGetFromPersonList(Predicate<Person> predicate);
 
     /**
-     * Finds a person by their Id. O
+     * Returns the existing persons whose name contains any of {@code keywords} as a whole word (case-insensitive),
+     * or whose id is one of {@code keywords}. Resolved through the name index rather than a scan of every person.
+     */
+    List<Person> findPersonsByNameOrId(List<String> keywords);
+
+    /**
+     * Returns up to {@code SIMILAR_NAME_MATCH_LIMIT} existing persons whose name has a word spelt like one of
+     * {@code keywords} give or take a typo or two, closest first. For when {@code findPersonsByNameOrId} finds none.
+     * Resolved through a trigram index of the words in names rather than by comparing every name.
+     */
+    List<Person> findPersonsWithSimilarNames(List<String> keywords);
+
+    /**
+     * Returns the existing persons that have at least one of the tags in each of {@code tagGroups}, so that the tags
+     * of a group are alternatives and every group must be matched. Resolved through bitsets of the persons with each
+     * tag rather than a scan of every person.
+     */
+    List<Person> findPersonsByTags(List<Set<Tag>> tagGroups);
+
+    /**
+     * Returns the existing persons whose phone number is {@code phone}, in list order. Looked up in a hash index of
+     * the phone numbers of existing persons, so it takes constant time however many persons there are.
+     */
+    List<Person> findPersonsByPhone(Phone phone);
+
+    /**
+     * Returns the existing persons whose email address is {@code email}, ignoring case, in list order. Looked up in a
+     * hash index of lower-cased email addresses.
+     */
+    List<Person> findPersonsByEmail(Email email);
+
+    /**
+     * Returns up to {@code limit} lower-cased words from the names of existing persons that start with {@code prefix},
+     * ignoring case, the words that the most persons have first. Looked up in a prefix trie that is kept up to date
+     * as persons are added, edited and deleted, so it is quick enough to call on every keystroke.
+     */
+    List<String> getPersonNameCompletions(String prefix, int limit);
+
+    /**
+     * Returns up to {@code limit} ids of existing persons that start with {@code prefix}, ignoring case, shortest
+     * first and then alphabetically.
+     */
+    List<String> getPersonIdCompletions(String prefix, int limit);
+
+    /**
+     * Finds a person by their Id in constant time.
      * @param personId Lookup id.
      * @return Person object.
      * @throws PersonNotFoundException
@@ -3,6 +3,8 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -12,9 +14,13 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.ListChange;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory addressBookModel of the address book data.
@@ -24,7 +30,7 @@ public class AddressBookModelManager extends ComponentManager implements Address
 
     private final AddressBook addressBook;
 
-    private FilteredList<Person> filteredPersons;
+    private final FilteredList<Person> filteredPersons;
 
     /**
      * Initializes a AddressBookModelManager with the given addressBook and userPrefs.
@@ -36,7 +42,8 @@ public class AddressBookModelManager extends ComponentManager implements Address
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
-        this.filteredPersons = new FilteredList<>(addressBook.getPersonList());
+        // the filtered view is kept for the lifetime of the model, and follows changes to the backing list by itself
+        this.filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         this.filteredPersons.setPredicate(PREDICATE_SHOW_ALL_EXISTING_PERSONS);
     }
 
@@ -53,7 +60,7 @@ public class AddressBookModelManager extends ComponentManager implements Address
     @Override
     public void resetData(ReadOnlyAddressBook newData) {
         addressBook.resetData(newData);
-        indicateAddressBookChanged();
+        indicateAddressBookChanged(ListChange.reset());
     }
 
     @Override
@@ -61,11 +68,9 @@ public class AddressBookModelManager extends ComponentManager implements Address
         return addressBook;
     }
 
-    /** Raises an event to indicate the addressBookModel has changed. */
-    private void indicateAddressBookChanged() {
-        this.filteredPersons = new FilteredList<>(addressBook.getPersonList());
-        this.filteredPersons.setPredicate(PREDICATE_SHOW_ALL_EXISTING_PERSONS);
-        raise(new AddressBookChangedEvent(addressBook));
+    /** Raises an event to indicate the addressBookModel has changed by {@code change}. */
+    private void indicateAddressBookChanged(ListChange<Person> change) {
+        raise(new AddressBookChangedEvent(addressBook, change));
     }
 
     @Override
@@ -76,22 +81,28 @@ public class AddressBookModelManager extends ComponentManager implements Address
 
     @Override
     public void deletePerson(Person target) {
+        int index = addressBook.indexOfPerson(target);
         addressBook.removePerson(target);
-        indicateAddressBookChanged();
+        // soft-deleted persons stay at their position, replaced by a copy that is marked as deleted
+        indicateAddressBookChanged(ListChange.updated(index, target, addressBook.getPersonList().get(index)));
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        indicateAddressBookChanged();
+        if (filteredPersons.getPredicate() != PREDICATE_SHOW_ALL_EXISTING_PERSONS) {
+            updateFilteredPersonList(PREDICATE_SHOW_ALL_EXISTING_PERSONS);
+        }
+        indicateAddressBookChanged(ListChange.added(addressBook.indexOfPerson(person), person));
     }
 
     @Override
     public void updatePerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
+        int index = addressBook.indexOfPerson(target);
         addressBook.updatePerson(target, editedPerson);
-        indicateAddressBookChanged();
+        indicateAddressBookChanged(ListChange.updated(index, target, editedPerson));
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -122,13 +133,52 @@ public class AddressBookModelManager extends ComponentManager implements Address
         return FXCollections.unmodifiableObservableList(tempList);
     }
 
+    @Override
+    public List<Person> findPersonsByNameOrId(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findPersonsByNameOrId(keywords);
+    }
+
+    @Override
+    public List<Person> findPersonsWithSimilarNames(List<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findPersonsWithSimilarNames(keywords, SIMILAR_NAME_MATCH_LIMIT);
+    }
+
+    @Override
+    public List<Person> findPersonsByTags(List<Set<Tag>> tagGroups) {
+        requireNonNull(tagGroups);
+        return addressBook.findPersonsByTags(tagGroups);
+    }
+
+    @Override
+    public List<Person> findPersonsByPhone(Phone phone) {
+        requireNonNull(phone);
+        return addressBook.findPersonsByPhone(phone);
+    }
+
+    @Override
+    public List<Person> findPersonsByEmail(Email email) {
+        requireNonNull(email);
+        return addressBook.findPersonsByEmail(email);
+    }
+
+    @Override
+    public List<String> getPersonNameCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        return addressBook.getPersonNameCompletions(prefix, limit);
+    }
+
+    @Override
+    public List<String> getPersonIdCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        return addressBook.getPersonIdCompletions(prefix, limit);
+    }
+
     @Override
     public Person getPersonById(PersonId personId) throws PersonNotFoundException {
-        ObservableList<Person> tempList = internalGetFromPersonList(p -> p.getId().equals(personId));
-        if (tempList.size() != 1) {
-            throw new PersonNotFoundException();
-        }
-        return tempList.get(0);
+        requireNonNull(personId);
+        return addressBook.getPersonById(personId);
     }
 
     //=========== Undo/Redo =================================================================================
@@ -5,23 +5,36 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.ArrayUtils;
 
 import seedu.address.MainApp;
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.model.symptom.Disease;
 import seedu.address.model.symptom.Symptom;
+import seedu.address.model.symptom.SymptomIndex;
 
 /**
  * Wraps all data at the diagnosis level.
@@ -30,12 +43,26 @@ public class Diagnosis {
 
     private static final String pathStringForCSV = "datasetForSymptomAndDisease.csv";
     private static final String relativePath = "/storage/datasetForSymptomAndDisease.csv";
+    private static final Logger logger = LogsCenter.getLogger(Diagnosis.class);
+
+    // appends new diseases to the CSV file in the background, in the order they were added
+    private static final ExecutorService csvWriter = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "diagnosis-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final Queue<String> pendingCsvData = new ConcurrentLinkedQueue<>();
+
     private HashMap<Disease, Set<Symptom>> matcher;
+    private SymptomIndex symptomIndex;
 
 
     public Diagnosis() {
+        // pick up any diseases still being written by another instance
+        flushPendingWrites();
         matcher = this.readDataFromCsvFile();
         requireNonNull(matcher);
+        symptomIndex = buildSymptomIndex(matcher);
     }
 
     /**
@@ -91,7 +118,31 @@ public class Diagnosis {
         requireAllNonNull(symptoms);
         boolean hasDisease = this.hasDisease(disease);
         if (!hasDisease) {
-            this.matcher = writeDataToCsvFile(disease, symptoms);
+            // keep the disease as it will be read back from the CSV file
+            Disease storedDisease = new Disease(disease.toString().toLowerCase());
+            Set<Symptom> storedSymptoms = symptoms.stream().map(x -> new Symptom(x.toString().toLowerCase()))
+                    .collect(Collectors.toCollection(HashSet::new));
+            if (this.matcher.put(storedDisease, storedSymptoms) == null) {
+                symptomIndex.add(storedDisease, storedSymptoms);
+            } else {
+                // the disease differs from an existing one only in case, and its old symptoms no longer apply
+                symptomIndex = buildSymptomIndex(this.matcher);
+            }
+            appendToCsvFileAsync(Diagnosis.stringConverter(disease.toString(), symptoms));
+        }
+    }
+
+    /**
+     * Blocks until all diseases added so far have been written to the CSV storage file.
+     */
+    public static void flushPendingWrites() {
+        try {
+            csvWriter.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while flushing pending disease writes");
+        } catch (ExecutionException ee) {
+            logger.warning("Failed to flush pending disease writes: " + ee.getCause());
         }
     }
 
@@ -103,8 +154,7 @@ public class Diagnosis {
      */
     public List<Disease> predictDisease(Set<Symptom> symptoms) {
         requireAllNonNull(symptoms);
-        List<Disease> diseases = this.matcher.keySet().stream()
-                .filter(disease -> this.matcher.get(disease).containsAll(symptoms)).collect(Collectors.toList());
+        List<Disease> diseases = symptomIndex.getDiseasesWithAll(symptoms);
         diseases.sort(Comparator.comparing(Disease::toString));
         return diseases;
     }
@@ -120,13 +170,7 @@ public class Diagnosis {
         try {
             HashMap<Disease, Set<Symptom>> diseaseSymptomMatcher = new HashMap<>();
 
-            if (!FileUtil.isFileExists(Paths.get(pathStringForCSV))) {
-                FileUtil.createFile(Paths.get(pathStringForCSV));
-                InputStream inputStream = MainApp.class
-                        .getResourceAsStream(relativePath);
-                FileUtil.writeToCsvFile(Paths.get(pathStringForCSV),
-                        Diagnosis.convertStreamToString(inputStream));
-            }
+            createCsvFileIfMissing(Paths.get(pathStringForCSV));
 
             List<String> strings = FileUtil.readFromCsvFile(Paths.get(pathStringForCSV));
             for (int i = 0; i < strings.size(); i++) {
@@ -160,24 +204,63 @@ public class Diagnosis {
     }
 
     /**
-     * Writes new data to CSV storage file.
-     *
-     * @return a new ashMap object which its key is the disease and value is its related symptoms.
+     * Appends {@code data} to the CSV storage file on the background writer, in the order this is called.
+     * Data queued while the writer is busy is appended in a single write.
      */
-    private static HashMap<Disease, Set<Symptom>> writeDataToCsvFile(Disease disease, Set<Symptom> symptoms) {
+    private static void appendToCsvFileAsync(String data) {
+        pendingCsvData.add(data);
+        csvWriter.execute(Diagnosis::writePendingCsvData);
+    }
 
+    private static void writePendingCsvData() {
+        StringBuilder data = new StringBuilder();
+        String nextData;
+        while ((nextData = pendingCsvData.poll()) != null) {
+            data.append(nextData);
+        }
+        if (data.length() == 0) {
+            return;
+        }
         try {
-            String data = Diagnosis.stringConverter(disease.toString(), symptoms);
-            Path path = Paths.get(pathStringForCSV);
-            FileUtil.writeToCsvFile(path, data);
-
-            return Diagnosis.readDataFromCsvFile();
+            appendToCsvFile(data.toString());
         } catch (IOException e) {
-            e.printStackTrace();
-            return null;
+            logger.severe("Failed to save new diseases to " + pathStringForCSV + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Appends {@code data} to the CSV storage file, and only returns once it has reached the disk.
+     */
+    private static void appendToCsvFile(String data) throws IOException {
+        Path path = Paths.get(pathStringForCSV);
+        createCsvFileIfMissing(path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
         }
     }
 
+    /**
+     * Creates the CSV storage file from the bundled dataset if it does not exist yet.
+     */
+    private static void createCsvFileIfMissing(Path path) throws IOException {
+        if (!FileUtil.isFileExists(path)) {
+            FileUtil.createFile(path);
+            InputStream inputStream = MainApp.class
+                    .getResourceAsStream(relativePath);
+            FileUtil.writeToCsvFile(path, Diagnosis.convertStreamToString(inputStream));
+        }
+    }
+
+    private static SymptomIndex buildSymptomIndex(Map<Disease, Set<Symptom>> matcher) {
+        SymptomIndex index = new SymptomIndex();
+        matcher.forEach(index::add);
+        return index;
+    }
+
     /**
      * Formats the string with disease and related symptoms so that it can be written to CSV file.
      *
@@ -49,4 +49,9 @@ public interface DiagnosisModel {
      */
     List<Disease> predictDisease(Set<Symptom> symptoms);
 
+    /**
+     * Blocks until all added diseases have been saved to disk.
+     */
+    void flushPendingWrites();
+
 }
@@ -49,4 +49,9 @@ public class DiagnosisModelManager implements DiagnosisModel {
         requireAllNonNull(symptoms);
         return diagnosis.predictDisease(symptoms);
     }
+
+    @Override
+    public void flushPendingWrites() {
+        Diagnosis.flushPendingWrites();
+    }
 }
@@ -0,0 +1,144 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.DrugCsvUtil;
+
+/**
+ * An in-memory copy of the drug database, with a trigram index over product names for substring searches.
+ *
+ * Every product name containing a keyword of three or more characters must contain each of the keyword's
+ * trigrams, so a search only verifies the entries found in all of their posting lists rather than every entry.
+ */
+public class DrugCatalog {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final int PRODUCT_NAME_COLUMN = 1;
+
+    private final List<String[]> entries;
+    private final String[] lowerCaseNames;
+    private final Map<String, int[]> postings;
+
+    /**
+     * Builds a catalog of {@code entries}, which are rows of the drug database.
+     */
+    public DrugCatalog(List<String[]> entries) {
+        requireNonNull(entries);
+        this.entries = new ArrayList<>(entries);
+        this.lowerCaseNames = new String[entries.size()];
+
+        Map<String, List<Integer>> growingPostings = new HashMap<>();
+        for (int i = 0; i < lowerCaseNames.length; i++) {
+            lowerCaseNames[i] = entries.get(i)[PRODUCT_NAME_COLUMN].toLowerCase();
+            for (String gram : getGrams(lowerCaseNames[i])) {
+                growingPostings.computeIfAbsent(gram, unused -> new ArrayList<>()).add(i);
+            }
+        }
+
+        this.postings = new HashMap<>(growingPostings.size() * 2);
+        for (Map.Entry<String, List<Integer>> posting : growingPostings.entrySet()) {
+            postings.put(posting.getKey(), posting.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    /**
+     * Loads a catalog of the whole drug database.
+     */
+    public static DrugCatalog load() throws IOException {
+        return new DrugCatalog(DrugCsvUtil.readAllEntries());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns all entries whose product name contains {@code keyword}, ignoring case, in database order.
+     */
+    public List<String[]> findByName(String keyword) {
+        requireNonNull(keyword);
+        String needle = keyword.toLowerCase();
+        List<String[]> matches = new ArrayList<>();
+        if (needle.length() < GRAM_LENGTH) {
+            // too short to have any trigrams, so every entry is a candidate
+            for (int i = 0; i < lowerCaseNames.length; i++) {
+                if (lowerCaseNames[i].contains(needle)) {
+                    matches.add(entries.get(i));
+                }
+            }
+            return matches;
+        }
+
+        for (int i : getCandidates(needle)) {
+            if (lowerCaseNames[i].contains(needle)) {
+                matches.add(entries.get(i));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the indices of the entries whose names contain every trigram of {@code needle}, in ascending order.
+     */
+    private int[] getCandidates(String needle) {
+        List<int[]> postingLists = new ArrayList<>();
+        for (String gram : getGrams(needle)) {
+            int[] posting = postings.get(gram);
+            if (posting == null) {
+                return new int[0];
+            }
+            postingLists.add(posting);
+        }
+        // intersecting the shortest lists first keeps the intermediate results small
+        postingLists.sort((first, second) -> Integer.compare(first.length, second.length));
+
+        int[] candidates = postingLists.get(0);
+        for (int i = 1; i < postingLists.size() && candidates.length > 0; i++) {
+            candidates = intersect(candidates, postingLists.get(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the elements common to both of the ascending arrays {@code first} and {@code second}.
+     */
+    private static int[] intersect(int[] first, int[] second) {
+        int[] common = new int[Math.min(first.length, second.length)];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                common[size++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(common, size);
+    }
+
+    private static Set<String> getGrams(String text) {
+        if (text.length() < GRAM_LENGTH) {
+            return Collections.emptySet();
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
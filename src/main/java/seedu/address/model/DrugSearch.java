@@ -2,8 +2,9 @@ package seedu.address.model;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.logging.Logger;
 
-import seedu.address.commons.util.DrugCsvUtil;
+import seedu.address.commons.core.LogsCenter;
 
 /**
  * For returning pharmacological information about drugs whose names match a certain keyword.
@@ -11,6 +12,11 @@ import seedu.address.commons.util.DrugCsvUtil;
 
 public class DrugSearch {
 
+    private static final Logger logger = LogsCenter.getLogger(DrugSearch.class);
+
+    //the drug database, loaded on first use
+    private static volatile DrugCatalog catalog;
+
     //cached results of most recent keyword search
     private static ArrayList<String[]> resultsCache = new ArrayList<>();
 
@@ -41,11 +47,7 @@ public class DrugSearch {
         }
 
         try {
-            DrugCsvUtil database = new DrugCsvUtil(keyword);
-            String[] nextMatchingEntry;
-            while ((nextMatchingEntry = database.nextMatchingEntry()) != null) {
-                resultsCache.add(nextMatchingEntry);
-            }
+            resultsCache.addAll(getCatalog().findByName(keyword));
         } catch (IOException e) {
             e.printStackTrace();
             return "Initialization failed.";
@@ -68,6 +70,34 @@ public class DrugSearch {
         return results;
     }
 
+    /**
+     * Loads the drug database ahead of the first search, so that the first search does not have to wait for it.
+     */
+    public static void preload() {
+        try {
+            getCatalog();
+        } catch (IOException e) {
+            logger.warning("Failed to preload drug database: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the drug database, loading it if it has not been loaded successfully yet.
+     */
+    private static DrugCatalog getCatalog() throws IOException {
+        DrugCatalog loadedCatalog = catalog;
+        if (loadedCatalog != null) {
+            return loadedCatalog;
+        }
+        synchronized (DrugSearch.class) {
+            if (catalog == null) {
+                catalog = DrugCatalog.load();
+                logger.fine("Loaded " + catalog.size() + " drugs");
+            }
+            return catalog;
+        }
+    }
+
     /**
      * Allows user to read more information about any particular drug that was returned as a search result.
      * @param index Specifies the drug about which the user wishes to know more.
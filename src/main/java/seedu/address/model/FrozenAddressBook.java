@@ -0,0 +1,38 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+/**
+ * A copy of the persons of an address book as they were when it was made, which later changes to the address book
+ * do not affect. For handing the address book to another thread, such as to save it in the background.
+ *
+ * Unlike {@code new AddressBook(toBeCopied)}, making one only copies the list of persons, and builds none of the
+ * indexes an {@code AddressBook} keeps for looking persons up. Persons are not changed once they are in an address
+ * book, soft deletion included, so sharing them with the copy is safe.
+ */
+public class FrozenAddressBook implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+
+    private FrozenAddressBook(ObservableList<Person> persons) {
+        this.persons = persons;
+    }
+
+    /**
+     * Returns a copy of the persons that {@code addressBook} has now.
+     */
+    public static FrozenAddressBook of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        return new FrozenAddressBook(FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getPersonList())));
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+}
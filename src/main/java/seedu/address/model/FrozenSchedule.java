@@ -0,0 +1,35 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.event.ScheduleEvent;
+
+/**
+ * A copy of the events of a schedule as they were when it was made, which later changes to the schedule do not
+ * affect. Making one only copies the list of events, which are immutable, and builds none of the indexes of a
+ * {@code Schedule}.
+ */
+public class FrozenSchedule implements ReadOnlySchedule {
+
+    private final ObservableList<ScheduleEvent> events;
+
+    private FrozenSchedule(ObservableList<ScheduleEvent> events) {
+        this.events = events;
+    }
+
+    /**
+     * Returns a copy of the events that {@code schedule} has now.
+     */
+    public static FrozenSchedule of(ReadOnlySchedule schedule) {
+        requireNonNull(schedule);
+        return new FrozenSchedule(FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(schedule.getAllEventList())));
+    }
+
+    @Override
+    public ObservableList<ScheduleEvent> getAllEventList() {
+        return events;
+    }
+}
@@ -2,11 +2,16 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Calendar;
+import java.util.Collection;
 import java.util.List;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.Pair;
 import seedu.address.model.event.ScheduleEvent;
 import seedu.address.model.event.UniqueScheduleEventList;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the calendar level
@@ -60,6 +65,38 @@ public class Schedule implements ReadOnlySchedule {
         return eventList.contains(event);
     }
 
+    /**
+     * Returns the calendar events clashing with {@code timeSlot}, ordered by start time.
+     */
+    public List<ScheduleEvent> getClashingEvents(Pair<Calendar> timeSlot) {
+        requireNonNull(timeSlot);
+        return eventList.getClashingEvents(timeSlot);
+    }
+
+    /**
+     * Returns the calendar events of the patient with {@code personId}.
+     */
+    public List<ScheduleEvent> getEventsOfPerson(PersonId personId) {
+        requireNonNull(personId);
+        return eventList.getEventsOfPerson(personId);
+    }
+
+    /**
+     * Returns the calendar events that have at least one of the tags in each of {@code tagGroups}.
+     */
+    public List<ScheduleEvent> getEventsWithTags(List<? extends Collection<Tag>> tagGroups) {
+        requireNonNull(tagGroups);
+        return eventList.getEventsWithTags(tagGroups);
+    }
+
+    /**
+     * Returns the position of the equivalent calendar event in {@code getAllEventList()}, or -1 if there is none.
+     */
+    public int indexOfScheduleEvent(ScheduleEvent event) {
+        requireNonNull(event);
+        return eventList.indexOf(event);
+    }
+
     /**
      * Adds a calendar event to the calendar.
      * Event must not already exist in the calendar.
@@ -86,6 +123,14 @@ public class Schedule implements ReadOnlySchedule {
         eventList.remove(key);
     }
 
+    /**
+     * Removes all of {@code keys} from this {@code Schedule} at once.
+     * {@code keys} must all exist in the calendar.
+     */
+    public void removeScheduleEvents(Collection<ScheduleEvent> keys) {
+        eventList.removeAll(keys);
+    }
+
     //// util methods
 
     @Override
@@ -1,22 +1,27 @@
 package seedu.address.model;
 
 import java.util.Calendar;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.commons.util.Pair;
 import seedu.address.model.event.EventId;
 import seedu.address.model.event.ScheduleEvent;
 import seedu.address.model.event.exceptions.ScheduleEventNotFoundException;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the ScheduleModel component.
  */
 public interface ScheduleModel {
     /** {@code Predicate} that shows all future events */
-    Predicate<ScheduleEvent> PREDICATE_SHOW_SCHEDULE_EVENTS = e -> {
-        Calendar currentDay = Calendar.getInstance();
-        return e.getDate().getKey().compareTo(currentDay) > 0;
-    };
+    Predicate<ScheduleEvent> PREDICATE_SHOW_SCHEDULE_EVENTS = e ->
+            DateTimeUtil.toEpochMillis(e.getStartEpochMinute()) > System.currentTimeMillis();
 
     /** {@code Predicate} that shows all events, including those in the past */
     Predicate<ScheduleEvent> PREDICATE_SHOW_ALL_SCHEDULE_EVENTS = unused -> true;
@@ -38,6 +43,12 @@ public interface ScheduleModel {
      */
     void deleteEvent(ScheduleEvent target);
 
+    /**
+     * Deletes all of the given events, with a single change to the calendar.
+     * The events must all exist in the calendar.
+     */
+    void deleteEvents(Collection<ScheduleEvent> targets);
+
     /**
      * Adds the given event.
      * {@code scheduleEvent} must not already exist in the calendar.
@@ -68,6 +79,24 @@ public interface ScheduleModel {
      */
     ObservableList<ScheduleEvent> internalGetFromEventList(Predicate<ScheduleEvent> predicate);
 
+    /**
+     * Returns the events whose time slot clashes with {@code timeSlot}, sorted by start time.
+     * Answered from the schedule's interval index instead of a scan over every event.
+     */
+    List<ScheduleEvent> getClashingEvents(Pair<Calendar> timeSlot);
+
+    /**
+     * Returns the events of the patient with {@code personId}.
+     * Answered from the schedule's index of events by patient instead of a scan over every event.
+     */
+    List<ScheduleEvent> getEventsOfPerson(PersonId personId);
+
+    /**
+     * Returns the events that have at least one of the tags in each of {@code tagGroups}.
+     * Answered by combining the schedule's bitsets of the events with each tag.
+     */
+    List<ScheduleEvent> getEventsWithTags(List<Set<Tag>> tagGroups);
+
     /**
      * Finds a person by their Id. O
      * @param eventId Lookup id.
@@ -3,7 +3,12 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -13,10 +18,14 @@ import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.ListChange;
 import seedu.address.commons.events.model.ScheduleChangedEvent;
+import seedu.address.commons.util.Pair;
 import seedu.address.model.event.EventId;
 import seedu.address.model.event.ScheduleEvent;
 import seedu.address.model.event.exceptions.ScheduleEventNotFoundException;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tag.Tag;
 
 /**
  * Actual schedule model manager for handling schedule in the application.
@@ -25,7 +34,7 @@ public class ScheduleModelManager extends ComponentManager implements ScheduleMo
     private static final Logger logger = LogsCenter.getLogger(ScheduleModelManager.class);
 
     private final Schedule schedule;
-    private FilteredList<ScheduleEvent> filteredScheduleEventList;
+    private final FilteredList<ScheduleEvent> filteredScheduleEventList;
 
     /**
      * Initializes a ScheduleModelManager with the given schedule and userPrefs.
@@ -37,7 +46,8 @@ public class ScheduleModelManager extends ComponentManager implements ScheduleMo
         logger.fine("Initializing with schedule: " + schedule + "and user prefs " + userPrefs);
 
         this.schedule = new Schedule(schedule);
-        this.filteredScheduleEventList = new FilteredList<>(schedule.getAllEventList());
+        // the filtered view is kept for the lifetime of the model, and follows changes to the backing list by itself
+        this.filteredScheduleEventList = new FilteredList<>(this.schedule.getAllEventList());
         this.filteredScheduleEventList.setPredicate(PREDICATE_SHOW_SCHEDULE_EVENTS);
     }
 
@@ -52,7 +62,7 @@ public class ScheduleModelManager extends ComponentManager implements ScheduleMo
     @Override
     public void resetData(ReadOnlySchedule newData) {
         schedule.resetData(newData);
-        indicateScheduleChanged();
+        indicateScheduleChanged(ListChange.reset());
     }
 
     @Override
@@ -60,11 +70,9 @@ public class ScheduleModelManager extends ComponentManager implements ScheduleMo
         return schedule;
     }
 
-    /** Raises an event to indicate the calendarModel has changed. */
-    private void indicateScheduleChanged() {
-        this.filteredScheduleEventList = new FilteredList<>(schedule.getAllEventList());
-        this.filteredScheduleEventList.setPredicate(PREDICATE_SHOW_SCHEDULE_EVENTS);
-        raise(new ScheduleChangedEvent(schedule));
+    /** Raises an event to indicate the calendarModel has changed by {@code change}. */
+    private void indicateScheduleChanged(ListChange<ScheduleEvent> change) {
+        raise(new ScheduleChangedEvent(schedule, change));
     }
 
     @Override
@@ -75,23 +83,37 @@ public class ScheduleModelManager extends ComponentManager implements ScheduleMo
 
     @Override
     public void deleteEvent(ScheduleEvent target) {
+        int index = schedule.indexOfScheduleEvent(target);
         schedule.removeScheduleEvent(target);
-        indicateScheduleChanged();
+        indicateScheduleChanged(ListChange.removed(index, target));
+    }
+
+    @Override
+    public void deleteEvents(Collection<ScheduleEvent> targets) {
+        requireNonNull(targets);
+        if (targets.isEmpty()) {
+            return;
+        }
+        schedule.removeScheduleEvents(targets);
+        indicateScheduleChanged(ListChange.removed(new ArrayList<>(targets)));
     }
 
     @Override
     public void addEvent(ScheduleEvent event) {
         schedule.addScheduleEvent(event);
-        this.updateFilteredEventList(PREDICATE_SHOW_SCHEDULE_EVENTS);
-        indicateScheduleChanged();
+        if (filteredScheduleEventList.getPredicate() != PREDICATE_SHOW_SCHEDULE_EVENTS) {
+            this.updateFilteredEventList(PREDICATE_SHOW_SCHEDULE_EVENTS);
+        }
+        indicateScheduleChanged(ListChange.added(schedule.getAllEventList().size() - 1, event));
     }
 
     @Override
     public void updateEvent(ScheduleEvent target, ScheduleEvent editedScheduleEvent) {
         requireAllNonNull(target, editedScheduleEvent);
 
+        int index = schedule.indexOfScheduleEvent(target);
         schedule.updateScheduleEvent(target, editedScheduleEvent);
-        indicateScheduleChanged();
+        indicateScheduleChanged(ListChange.updated(index, target, editedScheduleEvent));
     }
 
 
@@ -127,6 +149,24 @@ public class ScheduleModelManager extends ComponentManager implements ScheduleMo
         return FXCollections.unmodifiableObservableList(sortedSchedule);
     }
 
+    @Override
+    public List<ScheduleEvent> getClashingEvents(Pair<Calendar> timeSlot) {
+        requireNonNull(timeSlot);
+        return schedule.getClashingEvents(timeSlot);
+    }
+
+    @Override
+    public List<ScheduleEvent> getEventsOfPerson(PersonId personId) {
+        requireNonNull(personId);
+        return schedule.getEventsOfPerson(personId);
+    }
+
+    @Override
+    public List<ScheduleEvent> getEventsWithTags(List<Set<Tag>> tagGroups) {
+        requireNonNull(tagGroups);
+        return schedule.getEventsWithTags(tagGroups);
+    }
+
     @Override
     public ScheduleEvent getEventById(EventId eventId) throws ScheduleEventNotFoundException {
         ObservableList<ScheduleEvent> tempList = internalGetFromEventList(e -> e.getId().equals(eventId));
@@ -157,7 +197,7 @@ public class ScheduleModelManager extends ComponentManager implements ScheduleMo
     public class ScheduleEventComparator implements Comparator<ScheduleEvent> {
         @Override
         public int compare(ScheduleEvent first, ScheduleEvent second) {
-            return first.getDate().getKey().compareTo(second.getDate().getKey());
+            return Long.compare(first.getStartEpochMinute(), second.getStartEpochMinute());
         }
     }
 
@@ -0,0 +1,171 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.commons.util.Pair;
+
+/**
+ * The clinic hours of a range of days as a bitmap with one bit per minute, set while the minute is taken by an
+ * appointment. Free time slots are found by scanning the bitmap a word at a time for the next clear or set bit.
+ *
+ * Each day takes a whole number of words, and the bits past the end of its clinic hours are kept set, so that no free
+ * time slot ever runs from one day into the next.
+ */
+public class FreeSlotBitmap {
+
+    public static final int DAY_START_HOUR = 9;
+    public static final int DAY_END_HOUR = 18;
+    public static final int MINUTES_PER_DAY = (DAY_END_HOUR - DAY_START_HOUR) * 60;
+
+    private static final int WORDS_PER_DAY = (MINUTES_PER_DAY + Long.SIZE - 1) / Long.SIZE;
+    private static final int BITS_PER_DAY = WORDS_PER_DAY * Long.SIZE;
+
+    private final long[] dayStarts;
+    private final long[] busyBits;
+
+    /**
+     * Creates a bitmap of the clinic hours from {@code firstDay} to {@code lastDay}, both inclusive, with every
+     * minute free.
+     */
+    public FreeSlotBitmap(LocalDate firstDay, LocalDate lastDay) {
+        requireNonNull(firstDay);
+        requireNonNull(lastDay);
+        checkArgument(!lastDay.isBefore(firstDay), "The last day cannot be before the first day");
+
+        int dayCount = Math.toIntExact(lastDay.toEpochDay() - firstDay.toEpochDay() + 1);
+        dayStarts = new long[dayCount];
+        busyBits = new long[dayCount * WORDS_PER_DAY];
+        for (int day = 0; day < dayCount; day++) {
+            // days are not all equally long in time zones with daylight saving, so look up each start
+            dayStarts[day] = DateTimeUtil.toEpochMinute(firstDay.plusDays(day).atTime(DAY_START_HOUR, 0));
+            setBits(day * BITS_PER_DAY + MINUTES_PER_DAY, (day + 1) * BITS_PER_DAY);
+        }
+    }
+
+    /**
+     * Creates a bitmap of the clinic hours from {@code firstDay} to {@code lastDay}, both inclusive, with the minutes
+     * taken by {@code events} marked as busy.
+     */
+    public static FreeSlotBitmap of(LocalDate firstDay, LocalDate lastDay, Iterable<ScheduleEvent> events) {
+        requireNonNull(events);
+        FreeSlotBitmap bitmap = new FreeSlotBitmap(firstDay, lastDay);
+        for (ScheduleEvent event : events) {
+            bitmap.markBusy(event.getStartEpochMinute(), event.getEndEpochMinute());
+        }
+        return bitmap;
+    }
+
+    /**
+     * Marks the minutes from {@code startEpochMinute} to {@code endEpochMinute} as busy. Minutes outside the clinic
+     * hours of the days in this bitmap are ignored.
+     */
+    public void markBusy(long startEpochMinute, long endEpochMinute) {
+        // the last day starting at or before the start, or the first day when it starts before all of them
+        int day = Arrays.binarySearch(dayStarts, startEpochMinute);
+        day = day >= 0 ? day : Math.max(0, -day - 2);
+        for (; day < dayStarts.length && dayStarts[day] < endEpochMinute; day++) {
+            long from = Math.max(startEpochMinute - dayStarts[day], 0);
+            long to = Math.min(endEpochMinute - dayStarts[day], MINUTES_PER_DAY);
+            if (from < to) {
+                setBits(day * BITS_PER_DAY + (int) from, day * BITS_PER_DAY + (int) to);
+            }
+        }
+    }
+
+    /**
+     * Returns every free time slot that is at least {@code minimumMinutes} long, in order.
+     * Each time slot is a pair of epoch minutes, and is as long as the free time allows.
+     */
+    public List<Pair<Long>> getFreeSlots(int minimumMinutes) {
+        return getFirstFreeSlots(Integer.MAX_VALUE, minimumMinutes);
+    }
+
+    /**
+     * Returns the first {@code count} free time slots that are at least {@code minimumMinutes} long, in order.
+     * @see #getFreeSlots(int)
+     */
+    public List<Pair<Long>> getFirstFreeSlots(int count, int minimumMinutes) {
+        checkArgument(count >= 0, "The number of time slots cannot be negative");
+        checkArgument(minimumMinutes > 0, "The length of a time slot must be positive");
+        List<Pair<Long>> freeSlots = new ArrayList<>();
+        int totalBits = busyBits.length * Long.SIZE;
+        int position = nextClearBit(0);
+        while (position < totalBits && freeSlots.size() < count) {
+            // the padding after each day is set, so the slot always ends on the day it starts
+            int end = nextSetBit(position);
+            if (end - position >= minimumMinutes) {
+                int day = position / BITS_PER_DAY;
+                long dayStart = dayStarts[day] - day * BITS_PER_DAY;
+                freeSlots.add(new Pair<>(dayStart + position, dayStart + end));
+            }
+            position = nextClearBit(end);
+        }
+        return freeSlots;
+    }
+
+    /**
+     * Sets the bits from {@code from}, inclusive, to {@code to}, exclusive.
+     */
+    private void setBits(int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        int firstWord = from / Long.SIZE;
+        int lastWord = (to - 1) / Long.SIZE;
+        // shifts only use the low six bits of their distance, so these keep the bits of each word within range
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+        if (firstWord == lastWord) {
+            busyBits[firstWord] |= firstMask & lastMask;
+            return;
+        }
+        busyBits[firstWord] |= firstMask;
+        for (int word = firstWord + 1; word < lastWord; word++) {
+            busyBits[word] = -1L;
+        }
+        busyBits[lastWord] |= lastMask;
+    }
+
+    /**
+     * Returns the index of the first clear bit at or after {@code from}, or the total number of bits if there is none.
+     */
+    private int nextClearBit(int from) {
+        int word = from / Long.SIZE;
+        if (word >= busyBits.length) {
+            return busyBits.length * Long.SIZE;
+        }
+        long freeMask = ~busyBits[word] & (-1L << from);
+        while (freeMask == 0) {
+            if (++word == busyBits.length) {
+                return busyBits.length * Long.SIZE;
+            }
+            freeMask = ~busyBits[word];
+        }
+        return word * Long.SIZE + Long.numberOfTrailingZeros(freeMask);
+    }
+
+    /**
+     * Returns the index of the first set bit at or after {@code from}, or the total number of bits if there is none.
+     */
+    private int nextSetBit(int from) {
+        int word = from / Long.SIZE;
+        if (word >= busyBits.length) {
+            return busyBits.length * Long.SIZE;
+        }
+        long busyMask = busyBits[word] & (-1L << from);
+        while (busyMask == 0) {
+            if (++word == busyBits.length) {
+                return busyBits.length * Long.SIZE;
+            }
+            busyMask = busyBits[word];
+        }
+        return word * Long.SIZE + Long.numberOfTrailingZeros(busyMask);
+    }
+}
@@ -2,17 +2,17 @@ package seedu.address.model.event;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.text.SimpleDateFormat;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Calendar;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.address.commons.util.DateTimeUtil;
 import seedu.address.commons.util.Pair;
 import seedu.address.model.person.PersonId;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 
 /**
@@ -22,28 +22,21 @@ import seedu.address.model.tag.Tag;
 public class ScheduleEvent {
 
     // Standard datetime String format to be used by this application
-    public static final SimpleDateFormat SDF;
-    public static final SimpleDateFormat STORAGE_SDF;
-    public static final SimpleDateFormat TIME_SDF;
-
-    static {
-        SDF = new SimpleDateFormat("dd/MM/yyyy HH:mm - HH:mm");
-        STORAGE_SDF = new SimpleDateFormat("dd/MM/yyyy HH:mm");
-        TIME_SDF = new SimpleDateFormat("HH:mm");
-    }
-
-    /**
-     * Enumerated Variable to represent calendar event attributes
-     */
-    private enum ScheduleEventProperty {
-        DATETIME, PERSONID, DETAILS, TAGS
-    }
-
-    private final HashMap<ScheduleEventProperty, Object> attributes;
-
+    public static final DateTimeFormatter STORAGE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+    public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
 
     // Identity fields
     private final EventId id;
+    private final int hash;
+
+    // Time slot, in epoch minutes
+    private final long startEpochMinute;
+    private final long endEpochMinute;
+
+    // Data fields
+    private final PersonId personId;
+    private final String details;
+    private final TagSet tags;
 
     /**
      * Every field must be present and not null.
@@ -54,17 +47,23 @@ public class ScheduleEvent {
 
     public ScheduleEvent(EventId eventId, Pair<Calendar> date,
                          PersonId personId, String details, Set<Tag> tags) {
-        requireAllNonNull(eventId, date, personId, details, tags);
-        this.id = eventId;
-        this.attributes = new HashMap<>();
-
-        Pair<Calendar> scheduleEventDate = new Pair<>(date.getKey(), date.getValue());
-        this.attributes.put(ScheduleEventProperty.DATETIME, scheduleEventDate);
-        this.attributes.put(ScheduleEventProperty.PERSONID, personId);
-        this.attributes.put(ScheduleEventProperty.DETAILS, details);
+        this(eventId, DateTimeUtil.toEpochMinute(requireNonNullDate(date).getKey()),
+                DateTimeUtil.toEpochMinute(date.getValue()), personId, details, tags);
+    }
 
-        Set<Tag> calendarEventTags = new HashSet<>(tags); // adds all tags into here
-        this.attributes.put(ScheduleEventProperty.TAGS, calendarEventTags);
+    /**
+     * Every field must be present and not null. The time slot is given in epoch minutes.
+     */
+    public ScheduleEvent(EventId eventId, long startEpochMinute, long endEpochMinute,
+                         PersonId personId, String details, Set<Tag> tags) {
+        requireAllNonNull(eventId, personId, details, tags);
+        this.id = eventId;
+        this.hash = Objects.hash(eventId);
+        this.startEpochMinute = startEpochMinute;
+        this.endEpochMinute = endEpochMinute;
+        this.personId = personId;
+        this.details = details;
+        this.tags = TagSet.of(tags);
     }
 
 
@@ -72,34 +71,49 @@ public class ScheduleEvent {
         return this.id;
     }
 
+    public long getStartEpochMinute() {
+        return startEpochMinute;
+    }
+
+    public long getEndEpochMinute() {
+        return endEpochMinute;
+    }
+
+    public LocalDateTime getStartDateTime() {
+        return DateTimeUtil.toLocalDateTime(startEpochMinute);
+    }
+
+    public LocalDateTime getEndDateTime() {
+        return DateTimeUtil.toLocalDateTime(endEpochMinute);
+    }
+
+    /**
+     * Returns the time slot of the event as new {@code Calendar}s, which the caller is free to modify.
+     * Prefer {@link #getStartEpochMinute()} and {@link #getEndEpochMinute()} where a {@code Calendar} is not needed.
+     */
     public Pair<Calendar> getDate() {
-        Pair<?> returnedDate = (Pair<?>) this.attributes.get(ScheduleEventProperty.DATETIME);
-        return (new Pair<>((Calendar) returnedDate.getKey(), (Calendar) returnedDate.getValue()));
+        return new Pair<>(DateTimeUtil.toCalendar(startEpochMinute), DateTimeUtil.toCalendar(endEpochMinute));
     }
 
     public String getDateToString() {
-        StringBuilder dateBuilder = new StringBuilder();
-        dateBuilder.append(STORAGE_SDF.format(getDate().getKey().getTime()))
-                   .append(" to ")
-                   .append(TIME_SDF.format(getDate().getValue().getTime()));
-        return dateBuilder.toString();
+        return DateTimeUtil.format(startEpochMinute, STORAGE_FORMATTER) + " to "
+                + DateTimeUtil.format(endEpochMinute, TIME_FORMATTER);
     }
 
     public PersonId getPersonId() {
-        return (PersonId) this.attributes.get(ScheduleEventProperty.PERSONID);
+        return personId;
     }
 
     public String getDetails() {
-        return (String) this.attributes.get(ScheduleEventProperty.DETAILS);
+        return details;
     }
 
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    @SuppressWarnings("unchecked")
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet((Set<Tag>) this.attributes.get(ScheduleEventProperty.TAGS));
+        return tags;
     }
 
     /**
@@ -118,21 +132,20 @@ public class ScheduleEvent {
      * Returns true if the event clashes with a given duration
      */
     public boolean isClashing(Pair<Calendar> duration) {
-        boolean isClashing = false;
-        Calendar thisStart = this.getDate().getKey();
-        Calendar thisEnd = this.getDate().getValue();
-        Calendar otherStart = duration.getKey();
-        Calendar otherEnd = duration.getValue();
-        if (thisStart.equals(otherStart)) { // if two start times are the same, they will clash definitely
-            isClashing = true;
-        }
-        if (thisStart.before(otherStart) && otherStart.before(thisEnd)) {
-            isClashing = true;
-        }
-        if (otherStart.before(thisStart) && thisStart.before(otherEnd)) {
-            isClashing = true;
+        return isClashing(DateTimeUtil.toEpochMinute(duration.getKey()),
+                DateTimeUtil.toEpochMinute(duration.getValue()));
+    }
+
+    /**
+     * Returns true if the event clashes with the duration from {@code otherStart} to {@code otherEnd}, both in
+     * epoch minutes.
+     */
+    public boolean isClashing(long otherStart, long otherEnd) {
+        if (startEpochMinute == otherStart) { // if two start times are the same, they will clash definitely
+            return true;
         }
-        return isClashing;
+        return (startEpochMinute < otherStart && otherStart < endEpochMinute)
+                || (otherStart < startEpochMinute && startEpochMinute < otherEnd);
     }
 
     /**
@@ -155,8 +168,12 @@ public class ScheduleEvent {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(id);
+        return hash;
+    }
+
+    private static Pair<Calendar> requireNonNullDate(Pair<Calendar> date) {
+        requireAllNonNull(date, date.getKey(), date.getValue());
+        return date;
     }
 
     @Override
@@ -167,9 +184,9 @@ public class ScheduleEvent {
                 .append(" scheduled for patient ID: ")
                 .append(getPersonId())
                 .append(" during: ")
-                .append(STORAGE_SDF.format(getDate().getKey().getTime()))
+                .append(DateTimeUtil.format(startEpochMinute, STORAGE_FORMATTER))
                 .append(" to ")
-                .append(STORAGE_SDF.format(getDate().getValue().getTime()))
+                .append(DateTimeUtil.format(endEpochMinute, STORAGE_FORMATTER))
                 .append("\nDetails: ")
                 .append(getDetails())
                 .append("\nTags: ");
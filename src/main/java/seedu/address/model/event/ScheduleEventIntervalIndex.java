@@ -0,0 +1,100 @@
+package seedu.address.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.commons.util.Pair;
+
+/**
+ * An augmented {@code TreeMap} over the time slots of schedule events, used to find the events overlapping a given
+ * time slot without scanning the whole schedule.
+ *
+ * Events are keyed on their start time, in epoch minutes. Alongside, the index keeps a count of the durations of all
+ * indexed events so that it always knows the longest one. Any event overlapping {@code [start, end)} must then start
+ * within {@code (start - longestDuration, end)}, which is a single range query on the start-time map. Since
+ * appointments are bounded in length, this answers overlap queries in O(log n + k).
+ */
+public class ScheduleEventIntervalIndex {
+
+    private final NavigableMap<Long, List<ScheduleEvent>> eventsByStart = new TreeMap<>();
+    private final NavigableMap<Long, Integer> durationCounts = new TreeMap<>();
+
+    /**
+     * Adds {@code event} to the index.
+     */
+    public void add(ScheduleEvent event) {
+        requireNonNull(event);
+        eventsByStart.computeIfAbsent(getStart(event), unused -> new ArrayList<>(1)).add(event);
+        durationCounts.merge(getDuration(event), 1, Integer::sum);
+    }
+
+    /**
+     * Removes {@code event} from the index.
+     * {@code event} must be the instance that was added, as it is located by its time slot.
+     */
+    public void remove(ScheduleEvent event) {
+        requireNonNull(event);
+        long start = getStart(event);
+        List<ScheduleEvent> eventsAtStart = eventsByStart.get(start);
+        if (eventsAtStart == null || !eventsAtStart.remove(event)) {
+            return;
+        }
+        if (eventsAtStart.isEmpty()) {
+            eventsByStart.remove(start);
+        }
+
+        long duration = getDuration(event);
+        if (durationCounts.merge(duration, -1, Integer::sum) == 0) {
+            durationCounts.remove(duration);
+        }
+    }
+
+    public void clear() {
+        eventsByStart.clear();
+        durationCounts.clear();
+    }
+
+    /**
+     * Returns the events clashing with {@code timeSlot}, as defined by {@code ScheduleEvent#isClashing(Pair)},
+     * ordered by start time.
+     */
+    public List<ScheduleEvent> getClashingEvents(Pair<Calendar> timeSlot) {
+        requireNonNull(timeSlot);
+        List<ScheduleEvent> clashingEvents = new ArrayList<>();
+        if (eventsByStart.isEmpty()) {
+            return clashingEvents;
+        }
+
+        long slotStart = DateTimeUtil.toEpochMinute(timeSlot.getKey());
+        long slotEnd = DateTimeUtil.toEpochMinute(timeSlot.getValue());
+        long longestDuration = durationCounts.lastKey();
+
+        // an event starting before (slotStart - longestDuration) ends before slotStart
+        long fromStart = slotStart - longestDuration;
+        long toStart = Math.max(slotStart, slotEnd);
+        for (Map.Entry<Long, List<ScheduleEvent>> entry
+                : eventsByStart.subMap(fromStart, true, toStart, true).entrySet()) {
+            for (ScheduleEvent event : entry.getValue()) {
+                if (event.isClashing(slotStart, slotEnd)) {
+                    clashingEvents.add(event);
+                }
+            }
+        }
+        return clashingEvents;
+    }
+
+    private static long getStart(ScheduleEvent event) {
+        return event.getStartEpochMinute();
+    }
+
+    private static long getDuration(ScheduleEvent event) {
+        return Math.max(0, event.getEndEpochMinute() - event.getStartEpochMinute());
+    }
+}
@@ -3,13 +3,27 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.Pair;
 import seedu.address.model.event.exceptions.DuplicateScheduleEventException;
 import seedu.address.model.event.exceptions.ScheduleEventNotFoundException;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagIndex;
 
 /**
  * A list of calendar events that enforces uniqueness between its elements and does not allow nulls.
@@ -25,18 +39,28 @@ import seedu.address.model.event.exceptions.ScheduleEventNotFoundException;
  * ScheduleEvent#isSameEvent(ScheduleEvent) and ScheduleEvent#equals(Object) match the events by ID.
  * However, the methods are left separate so future developers can utilize them.
  *
+ * Events are also indexed by time slot in {@code intervalIndex}, so that clash checks do not need to scan the list,
+ * and by patient in {@code eventsByPerson}, so that the appointments of a patient can be found without one either.
+ * {@code tagIndex} does the same for the appointments with given tags. Lookups by {@code EventId} go through
+ * {@code indexById}, which maps the id of each event to its position in the internal list, and is renumbered from
+ * the first removed position whenever events are removed.
+ *
  * @see ScheduleEvent#isSameEvent(ScheduleEvent)
  */
 public class UniqueScheduleEventList implements Iterable<ScheduleEvent> {
 
     private final ObservableList<ScheduleEvent> internalList = FXCollections.observableArrayList();
+    private final Map<EventId, Integer> indexById = new HashMap<>();
+    private final ScheduleEventIntervalIndex intervalIndex = new ScheduleEventIntervalIndex();
+    private final Map<PersonId, Set<ScheduleEvent>> eventsByPerson = new HashMap<>();
+    private final TagIndex<ScheduleEvent> tagIndex = new TagIndex<>(ScheduleEvent::getTags);
 
     /**
      * Returns true if the list contains an equivalent calendar event as the given argument
      */
     public boolean contains(ScheduleEvent toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        return indexById.containsKey(toCheck.getId());
     }
 
     /**
@@ -48,9 +72,46 @@ public class UniqueScheduleEventList implements Iterable<ScheduleEvent> {
         if (contains(toAdd)) {
             throw new DuplicateScheduleEventException();
         }
+        addToIndexes(toAdd);
+        indexById.put(toAdd.getId(), internalList.size());
         internalList.add(toAdd);
     }
 
+    /**
+     * Returns the events whose time slot clashes with {@code timeSlot}, ordered by start time.
+     *
+     * @see ScheduleEvent#isClashing(Pair)
+     */
+    public List<ScheduleEvent> getClashingEvents(Pair<Calendar> timeSlot) {
+        requireNonNull(timeSlot);
+        return intervalIndex.getClashingEvents(timeSlot);
+    }
+
+    /**
+     * Returns the events of the patient with {@code personId}, in the order they were added.
+     */
+    public List<ScheduleEvent> getEventsOfPerson(PersonId personId) {
+        requireNonNull(personId);
+        return new ArrayList<>(eventsByPerson.getOrDefault(personId, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the events that have at least one of the tags in each of {@code tagGroups}, in no particular order.
+     */
+    public List<ScheduleEvent> getEventsWithTags(List<? extends Collection<Tag>> tagGroups) {
+        requireNonNull(tagGroups);
+        return tagIndex.getRecordsMatching(tagGroups);
+    }
+
+    /**
+     * Returns the position of the equivalent calendar event in the list, or -1 if there is none.
+     */
+    public int indexOf(ScheduleEvent event) {
+        requireNonNull(event);
+        Integer index = indexById.get(event.getId());
+        return index == null ? -1 : index;
+    }
+
     /**
      * Replaces the calendar event {@code target} in the list with {@code editedEvent}.
      * {@code target} must exist in the list.
@@ -60,7 +121,7 @@ public class UniqueScheduleEventList implements Iterable<ScheduleEvent> {
     public void setScheduleEvent(ScheduleEvent target, ScheduleEvent editedEvent) {
         requireAllNonNull(target, editedEvent);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new ScheduleEventNotFoundException();
         }
@@ -69,6 +130,10 @@ public class UniqueScheduleEventList implements Iterable<ScheduleEvent> {
             throw new DuplicateScheduleEventException();
         }
 
+        removeFromIndexes(internalList.get(index));
+        addToIndexes(editedEvent);
+        indexById.remove(target.getId());
+        indexById.put(editedEvent.getId(), index);
         internalList.set(index, editedEvent);
     }
 
@@ -78,14 +143,51 @@ public class UniqueScheduleEventList implements Iterable<ScheduleEvent> {
      */
     public void remove(ScheduleEvent toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new ScheduleEventNotFoundException();
         }
+        ScheduleEvent removed = internalList.remove(index);
+        indexById.remove(removed.getId());
+        removeFromIndexes(removed);
+        renumberFrom(index);
+    }
+
+    /**
+     * Removes the equivalent calendar events of {@code toRemove} from the list.
+     * The calendar events must all exist in the list, under the patients they have in {@code toRemove}.
+     *
+     * The events are removed one at a time, from the last position to the first, so that listeners see one small
+     * removal per event rather than the whole list being replaced.
+     */
+    public void removeAll(Collection<ScheduleEvent> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<ScheduleEvent> eventsToRemove = new HashSet<>(toRemove);
+        int[] positions = new int[eventsToRemove.size()];
+        int count = 0;
+        for (ScheduleEvent event : eventsToRemove) {
+            if (!eventsByPerson.getOrDefault(event.getPersonId(), Collections.emptySet()).contains(event)) {
+                throw new ScheduleEventNotFoundException();
+            }
+            positions[count++] = indexById.get(event.getId());
+        }
+        if (count == 0) {
+            return;
+        }
+
+        Arrays.sort(positions);
+        for (int i = count - 1; i >= 0; i--) {
+            ScheduleEvent removed = internalList.remove(positions[i]);
+            indexById.remove(removed.getId());
+            removeFromIndexes(removed);
+        }
+        renumberFrom(positions[0]);
     }
 
     public void setScheduleEvents(UniqueScheduleEventList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndex();
     }
 
     /**
@@ -99,6 +201,7 @@ public class UniqueScheduleEventList implements Iterable<ScheduleEvent> {
         }
 
         internalList.setAll(events);
+        rebuildIndex();
     }
 
     /**
@@ -121,15 +224,56 @@ public class UniqueScheduleEventList implements Iterable<ScheduleEvent> {
     @Override
     public int hashCode() { return internalList.hashCode(); }
 
+    /**
+     * Rebuilds {@code intervalIndex}, {@code eventsByPerson} and {@code tagIndex} from the current contents of the
+     * internal list.
+     */
+    private void rebuildIndex() {
+        intervalIndex.clear();
+        eventsByPerson.clear();
+        tagIndex.clear();
+        internalList.forEach(this::addToIndexes);
+        indexById.clear();
+        renumberFrom(0);
+    }
+
+    /**
+     * Updates {@code indexById} with the positions of the events from {@code fromIndex} to the end of the internal
+     * list, which have moved after a removal.
+     */
+    private void renumberFrom(int fromIndex) {
+        for (int i = fromIndex; i < internalList.size(); i++) {
+            indexById.put(internalList.get(i).getId(), i);
+        }
+    }
+
+    private void addToIndexes(ScheduleEvent event) {
+        intervalIndex.add(event);
+        eventsByPerson.computeIfAbsent(event.getPersonId(), unused -> new LinkedHashSet<>()).add(event);
+        tagIndex.add(event);
+    }
+
+    /**
+     * Removes {@code event}, the instance in the internal list, from {@code intervalIndex}, {@code eventsByPerson} and
+     * {@code tagIndex}.
+     */
+    private void removeFromIndexes(ScheduleEvent event) {
+        intervalIndex.remove(event);
+        tagIndex.remove(event);
+        Set<ScheduleEvent> eventsOfPerson = eventsByPerson.get(event.getPersonId());
+        if (eventsOfPerson != null && eventsOfPerson.remove(event) && eventsOfPerson.isEmpty()) {
+            eventsByPerson.remove(event.getPersonId());
+        }
+    }
+
     /**
      * Returns true if {@code events} contain only unique events.
      */
     private boolean eventsAreUnique(List<ScheduleEvent> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
+        Set<EventId> seenIds = new HashSet<>();
+        for (ScheduleEvent event : events) {
+            if (!seenIds.add(event.getId())) {
+                return false;
             }
         }
         return true;
@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -28,6 +31,8 @@ public class Email {
     private static final String DOMAIN_LAST_CHARACTER_REGEX = "[^\\W_]$";
     public static final String EMAIL_VALIDATION_REGEX = LOCAL_PART_REGEX + "@"
             + DOMAIN_FIRST_CHARACTER_REGEX + DOMAIN_MIDDLE_REGEX + DOMAIN_LAST_CHARACTER_REGEX;
+    // compiled once, as every person loaded from storage is checked against it
+    private static final Pattern EMAIL_VALIDATION_PATTERN = Pattern.compile(EMAIL_VALIDATION_REGEX);
 
     public final String value;
 
@@ -46,7 +51,15 @@ public class Email {
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(EMAIL_VALIDATION_REGEX) && test.length() < MAX_EMAIL_LENGTH;
+        return EMAIL_VALIDATION_PATTERN.matcher(test).matches() && test.length() < MAX_EMAIL_LENGTH;
+    }
+
+    /**
+     * Returns the email address in lower case. Addresses that differ only in case reach the same mailbox in practice,
+     * so they are looked up by this value.
+     */
+    public String getNormalizedValue() {
+        return value.toLowerCase(Locale.ROOT);
     }
 
     @Override
@@ -0,0 +1,165 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.PrefixTrie;
+
+/**
+ * An inverted index from the lower-cased words of a person's {@code Name} to the ids of the persons whose name
+ * contains that word.
+ * A keyword matches a person exactly when {@code StringUtil#containsWordIgnoreCase(name, keyword)} would, so looking
+ * up a set of keywords is a union of posting sets rather than a scan over every person.
+ * The words themselves are kept in a {@code NameTrigramIndex}, so that names can also be found from misspelt keywords,
+ * and in a {@code PrefixTrie} that counts the persons with each word, so that partly typed words can be completed.
+ */
+public class NameTokenIndex {
+
+    /** What a keyword that matches no word of a name adds to its distance; more than the edits of any keywords. */
+    private static final int UNMATCHED_KEYWORD_DISTANCE = 1000;
+
+    private final Map<String, Set<PersonId>> postings = new HashMap<>();
+    private final NameTrigramIndex wordIndex = new NameTrigramIndex();
+    private final PrefixTrie wordTrie = new PrefixTrie();
+
+    /**
+     * Indexes every word in the name of {@code person}.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String token : tokenize(person.getName().fullName)) {
+            boolean isAdded = postings.computeIfAbsent(token, unused -> {
+                wordIndex.add(token);
+                return new HashSet<>();
+            }).add(person.getId());
+            if (isAdded) {
+                wordTrie.add(token);
+            }
+        }
+    }
+
+    /**
+     * Removes every word in the name of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String token : tokenize(person.getName().fullName)) {
+            Set<PersonId> ids = postings.get(token);
+            if (ids == null) {
+                continue;
+            }
+            if (ids.remove(person.getId())) {
+                wordTrie.remove(token);
+            }
+            if (ids.isEmpty()) {
+                postings.remove(token);
+                wordIndex.remove(token);
+            }
+        }
+    }
+
+    public void clear() {
+        postings.clear();
+        wordIndex.clear();
+        wordTrie.clear();
+    }
+
+    /**
+     * Returns up to {@code limit} indexed words that start with {@code prefix}, ignoring case, the words in the names
+     * of the most persons first.
+     */
+    public List<String> getWordCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        return wordTrie.getCompletions(normalize(prefix), limit);
+    }
+
+    /**
+     * Returns the ids of all persons whose name contains any of {@code keywords} as a whole word, ignoring case.
+     * Blank keywords are ignored.
+     */
+    public Set<PersonId> getIdsMatchingAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<PersonId> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            String token = normalize(keyword);
+            if (!token.isEmpty()) {
+                matches.addAll(postings.getOrDefault(token, Collections.emptySet()));
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the ids of all persons whose name has a word spelt like one of {@code keywords}, allowing the edits of
+     * {@code NameTrigramIndex#getSimilarWords(String)}. Each id is mapped to the distance of its name from the
+     * keywords: the edits from each keyword to the closest word of the name, summed, where a keyword that matches no
+     * word counts for more than the edits of all the others.
+     */
+    public Map<PersonId, Integer> getIdsMatchingSimilar(Collection<String> keywords) {
+        requireNonNull(keywords);
+        List<String> tokens = new ArrayList<>();
+        for (String keyword : keywords) {
+            String token = normalize(keyword);
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+
+        // the similar words of a keyword come closest first, so the first word of a name that a keyword reaches is
+        // its closest one, and each keyword that does reach the name takes back its unmatched distance just once
+        Map<PersonId, SimilarMatch> matchesById = new HashMap<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            for (Map.Entry<String, Integer> similarWord : wordIndex.getSimilarWords(tokens.get(i)).entrySet()) {
+                for (PersonId id : postings.get(similarWord.getKey())) {
+                    SimilarMatch match = matchesById.computeIfAbsent(id, unused ->
+                            new SimilarMatch(UNMATCHED_KEYWORD_DISTANCE * tokens.size()));
+                    if (match.lastKeyword < i) {
+                        match.lastKeyword = i;
+                        match.distance -= UNMATCHED_KEYWORD_DISTANCE - similarWord.getValue();
+                    }
+                }
+            }
+        }
+
+        Map<PersonId, Integer> matches = new HashMap<>(2 * matchesById.size());
+        matchesById.forEach((id, match) -> matches.put(id, match.distance));
+        return matches;
+    }
+
+    private static Set<String> tokenize(String fullName) {
+        Set<String> tokens = new HashSet<>();
+        for (String word : fullName.split("\\s+")) {
+            String token = normalize(word);
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static String normalize(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The distance of a name from the keywords of a search, so far.
+     */
+    private static class SimilarMatch {
+        private int distance;
+        /** The last keyword, by its position, that has reached the name; -1 if none has yet. */
+        private int lastKeyword = -1;
+
+        SimilarMatch(int distance) {
+            this.distance = distance;
+        }
+    }
+}
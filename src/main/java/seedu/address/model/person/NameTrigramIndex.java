@@ -0,0 +1,254 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An index of the distinct words in the names of persons by their trigrams, for finding the words that are spelt like
+ * a keyword with a typo or two.
+ *
+ * The trigrams of a word are its three-character substrings once padded with two spaces in front and one behind, so
+ * "bo" has "  b", " bo" and "bo ". Words are lower-cased and alphanumeric, so each trigram packs into a small int that
+ * indexes an array of posting lists. Indexing the words rather than the names keeps the index as small as the
+ * vocabulary, which grows far slower than the number of persons, and lets each keyword be compared with single words.
+ *
+ * A search counts the trigrams each word shares with the keyword. Every edit changes only a few trigrams, so only
+ * the words that share enough of them, and whose length is close enough, have their edit distance to the keyword
+ * worked out, rather than that of every word in the vocabulary.
+ */
+public class NameTrigramIndex {
+
+    /** Words this short must match exactly, as any edit leaves too little of them to go on. */
+    private static final int MAX_LENGTH_WITHOUT_EDITS = 2;
+    /** Words up to this long may have one edit, and longer words two. */
+    private static final int MAX_LENGTH_WITH_ONE_EDIT = 5;
+    /** The most trigrams one edit can change, which a swap of two adjacent characters does. */
+    private static final int TRIGRAMS_PER_EDIT = 4;
+
+    private static final int ALPHABET_SIZE = 38; // space, digits, letters, and one code for anything else
+    private static final int TRIGRAM_COUNT = ALPHABET_SIZE * ALPHABET_SIZE * ALPHABET_SIZE;
+
+    /** The slots of the words with each trigram, in no particular order. */
+    private final int[][] postings = new int[TRIGRAM_COUNT][];
+    private final int[] postingSizes = new int[TRIGRAM_COUNT];
+
+    private final Map<String, Integer> slotsByWord = new HashMap<>();
+    private final List<String> wordsBySlot = new ArrayList<>();
+    private final List<Integer> freeSlots = new ArrayList<>();
+    /** The number of distinct trigrams of the word in each slot. */
+    private int[] trigramCounts = new int[0];
+
+    /** Scratch space for searches: the number of trigrams each slot shares with the keyword, and the slots counted. */
+    private int[] sharedCounts = new int[0];
+    private int[] touchedSlots = new int[0];
+
+    /**
+     * Adds {@code word}, which is expected to be lower-cased, to the index if it is not in it yet.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        if (slotsByWord.containsKey(word)) {
+            return;
+        }
+        int slot;
+        if (freeSlots.isEmpty()) {
+            slot = wordsBySlot.size();
+            wordsBySlot.add(word);
+        } else {
+            slot = freeSlots.remove(freeSlots.size() - 1);
+            wordsBySlot.set(slot, word);
+        }
+        slotsByWord.put(word, slot);
+        int[] trigrams = getTrigrams(word);
+        if (slot >= trigramCounts.length) {
+            trigramCounts = Arrays.copyOf(trigramCounts, Math.max(slot + 1, 2 * trigramCounts.length));
+        }
+        trigramCounts[slot] = trigrams.length;
+        for (int trigram : trigrams) {
+            if (postings[trigram] == null) {
+                postings[trigram] = new int[2];
+            } else if (postingSizes[trigram] == postings[trigram].length) {
+                postings[trigram] = Arrays.copyOf(postings[trigram], 2 * postingSizes[trigram]);
+            }
+            postings[trigram][postingSizes[trigram]++] = slot;
+        }
+    }
+
+    /**
+     * Removes {@code word} from the index, if it is in it.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        Integer slot = slotsByWord.remove(word);
+        if (slot == null) {
+            return;
+        }
+        for (int trigram : getTrigrams(word)) {
+            int[] posting = postings[trigram];
+            for (int i = 0; i < postingSizes[trigram]; i++) {
+                if (posting[i] == slot) {
+                    // order does not matter, so fill the gap with the last slot
+                    posting[i] = posting[--postingSizes[trigram]];
+                    break;
+                }
+            }
+        }
+        wordsBySlot.set(slot, null);
+        freeSlots.add(slot);
+    }
+
+    public void clear() {
+        Arrays.fill(postings, null);
+        Arrays.fill(postingSizes, 0);
+        slotsByWord.clear();
+        wordsBySlot.clear();
+        trigramCounts = new int[0];
+        freeSlots.clear();
+    }
+
+    /**
+     * Returns the indexed words within the edits allowed for {@code keyword} of it, each mapped to its edit distance
+     * from the keyword, closest first. Keywords of up to two characters only match themselves, those of up to five
+     * may have one edit, and longer ones two. Swapping two adjacent characters counts as one edit.
+     */
+    public Map<String, Integer> getSimilarWords(String keyword) {
+        requireNonNull(keyword);
+        String normalizedKeyword = keyword.trim().toLowerCase(Locale.ROOT);
+        Map<String, Integer> similarWords = new LinkedHashMap<>();
+        if (normalizedKeyword.isEmpty()) {
+            return similarWords;
+        }
+        int maxEdits = getMaxEdits(normalizedKeyword);
+        int[] keywordTrigrams = getTrigrams(normalizedKeyword);
+
+        if (sharedCounts.length < wordsBySlot.size()) {
+            sharedCounts = new int[Math.max(wordsBySlot.size(), 2 * sharedCounts.length)];
+            touchedSlots = new int[sharedCounts.length];
+        }
+        int touchedCount = 0;
+        for (int trigram : keywordTrigrams) {
+            for (int i = 0; i < postingSizes[trigram]; i++) {
+                int slot = postings[trigram][i];
+                if (sharedCounts[slot]++ == 0) {
+                    touchedSlots[touchedCount++] = slot;
+                }
+            }
+        }
+
+        int minSharedCount = keywordTrigrams.length - TRIGRAMS_PER_EDIT * maxEdits;
+        List<SimilarWord> matches = new ArrayList<>();
+        for (int i = 0; i < touchedCount; i++) {
+            int slot = touchedSlots[i];
+            String word = wordsBySlot.get(slot);
+            if (sharedCounts[slot] >= minSharedCount
+                    && Math.abs(word.length() - normalizedKeyword.length()) <= maxEdits) {
+                int distance = getEditDistance(normalizedKeyword, word);
+                if (distance <= maxEdits) {
+                    double similarity = (double) sharedCounts[slot]
+                            / (keywordTrigrams.length + trigramCounts[slot] - sharedCounts[slot]);
+                    matches.add(new SimilarWord(word, distance, similarity));
+                }
+            }
+            sharedCounts[slot] = 0;
+        }
+
+        // words with the same distance are told apart by the Jaccard similarity of their trigrams
+        matches.sort(Comparator.comparingInt((SimilarWord match) -> match.distance)
+                .thenComparing(match -> -match.similarity)
+                .thenComparing(match -> match.word));
+        for (SimilarWord match : matches) {
+            similarWords.put(match.word, match.distance);
+        }
+        return similarWords;
+    }
+
+    /**
+     * Returns the number of edits a keyword as long as {@code keyword} may have and still match a word.
+     */
+    static int getMaxEdits(String keyword) {
+        if (keyword.length() <= MAX_LENGTH_WITHOUT_EDITS) {
+            return 0;
+        }
+        return keyword.length() <= MAX_LENGTH_WITH_ONE_EDIT ? 1 : 2;
+    }
+
+    /**
+     * Returns the number of insertions, deletions, substitutions and swaps of adjacent characters that turn
+     * {@code first} into {@code second}, where no character is edited twice.
+     */
+    static int getEditDistance(String first, String second) {
+        int[][] distances = new int[first.length() + 1][second.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            distances[i][0] = i;
+        }
+        for (int j = 0; j <= second.length(); j++) {
+            distances[0][j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                distances[i][j] = Math.min(Math.min(distances[i - 1][j] + 1, distances[i][j - 1] + 1),
+                        distances[i - 1][j - 1] + substitutionCost);
+                if (i > 1 && j > 1 && first.charAt(i - 1) == second.charAt(j - 2)
+                        && first.charAt(i - 2) == second.charAt(j - 1)) {
+                    distances[i][j] = Math.min(distances[i][j], distances[i - 2][j - 2] + 1);
+                }
+            }
+        }
+        return distances[first.length()][second.length()];
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code word}, each packed into an int.
+     */
+    private static int[] getTrigrams(String word) {
+        String padded = "  " + word + " ";
+        int[] trigrams = new int[padded.length() - 2];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = (toCode(padded.charAt(i)) * ALPHABET_SIZE + toCode(padded.charAt(i + 1))) * ALPHABET_SIZE
+                    + toCode(padded.charAt(i + 2));
+        }
+        Arrays.sort(trigrams);
+        int distinctCount = 0;
+        for (int i = 0; i < trigrams.length; i++) {
+            if (i == 0 || trigrams[i] != trigrams[i - 1]) {
+                trigrams[distinctCount++] = trigrams[i];
+            }
+        }
+        return Arrays.copyOf(trigrams, distinctCount);
+    }
+
+    private static int toCode(char c) {
+        if (c == ' ') {
+            return 0;
+        } else if (c >= '0' && c <= '9') {
+            return 1 + (c - '0');
+        } else if (c >= 'a' && c <= 'z') {
+            return 11 + (c - 'a');
+        }
+        return ALPHABET_SIZE - 1;
+    }
+
+    /**
+     * A word found by a search, with how close it is to the keyword.
+     */
+    private static class SimilarWord {
+        private final String word;
+        private final int distance;
+        private final double similarity;
+
+        SimilarWord(String word, int distance, double similarity) {
+            this.word = word;
+            this.distance = distance;
+            this.similarity = similarity;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A hash index from a field of a person, normalized into a key, to the ids of the persons with that key, so that the
+ * persons with a given phone number or email address can be found without a scan.
+ *
+ * Such fields are nearly unique, but family members may share one, so a key can have more than one person. Keys with
+ * a single person map straight to its id in {@code idsByKey}, and only the few shared keys need a set of ids in
+ * {@code sharedIdsByKey}. A key is in at most one of the two maps.
+ */
+public class PersonFieldIndex {
+
+    private final Function<Person, String> keyOfPerson;
+    private final Map<String, PersonId> idsByKey = new HashMap<>();
+    private final Map<String, Set<PersonId>> sharedIdsByKey = new HashMap<>();
+
+    /**
+     * Creates an empty index of persons under the keys given by {@code keyOfPerson}.
+     */
+    public PersonFieldIndex(Function<Person, String> keyOfPerson) {
+        this.keyOfPerson = requireNonNull(keyOfPerson);
+    }
+
+    /**
+     * Indexes {@code person} under its key.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        String key = keyOfPerson.apply(person);
+        Set<PersonId> sharedIds = sharedIdsByKey.get(key);
+        if (sharedIds != null) {
+            sharedIds.add(person.getId());
+            return;
+        }
+        PersonId otherId = idsByKey.putIfAbsent(key, person.getId());
+        if (otherId != null && !otherId.equals(person.getId())) {
+            idsByKey.remove(key);
+            sharedIds = new HashSet<>();
+            sharedIds.add(otherId);
+            sharedIds.add(person.getId());
+            sharedIdsByKey.put(key, sharedIds);
+        }
+    }
+
+    /**
+     * Removes {@code person} from under its key, if it is indexed there.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        String key = keyOfPerson.apply(person);
+        Set<PersonId> sharedIds = sharedIdsByKey.get(key);
+        if (sharedIds == null) {
+            idsByKey.remove(key, person.getId());
+            return;
+        }
+        sharedIds.remove(person.getId());
+        if (sharedIds.size() == 1) {
+            idsByKey.put(key, sharedIds.iterator().next());
+            sharedIdsByKey.remove(key);
+        }
+    }
+
+    public void clear() {
+        idsByKey.clear();
+        sharedIdsByKey.clear();
+    }
+
+    /**
+     * Returns the ids of the persons indexed under {@code key}, which must already be normalized the way the keys of
+     * persons are. The returned set is unmodifiable.
+     */
+    public Set<PersonId> getIds(String key) {
+        requireNonNull(key);
+        PersonId id = idsByKey.get(key);
+        if (id != null) {
+            return Collections.singleton(id);
+        }
+        return Collections.unmodifiableSet(sharedIdsByKey.getOrDefault(key, Collections.emptySet()));
+    }
+}
@@ -3,13 +3,25 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PrefixTrie;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagIndex;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -27,11 +39,24 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * Important: Soft-delete is used to remove person object, but the entire list, including deleted persons are returned
  * when requesting for the list of Persons. Therefore, it is important to omit deleted persons when printing the list.
  *
+ * Lookups by {@code PersonId} go through {@code indexById}, which maps each id to its position in the internal list.
+ * Since persons are never physically removed, positions stay stable until the list is replaced wholesale.
+ * Existing persons are also indexed by the words in their name in {@code nameIndex}, by their tags in
+ * {@code tagIndex}, by their id in {@code idTrie}, which completes partly typed ids, and by their phone number and
+ * email address in {@code phoneIndex} and {@code emailIndex}.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final Map<PersonId, Integer> indexById = new HashMap<>();
+    private final NameTokenIndex nameIndex = new NameTokenIndex();
+    private final TagIndex<Person> tagIndex = new TagIndex<>(Person::getTags);
+    private final PrefixTrie idTrie = new PrefixTrie();
+    // phone numbers are all digits, so they need no normalizing
+    private final PersonFieldIndex phoneIndex = new PersonFieldIndex(person -> person.getPhone().value);
+    private final PersonFieldIndex emailIndex = new PersonFieldIndex(person -> person.getEmail().getNormalizedValue());
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
@@ -39,8 +64,7 @@ public class UniquePersonList implements Iterable<Person> {
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
 
-        int index = internalList.indexOf(toCheck);
-        return index != -1;
+        return indexById.containsKey(toCheck.getId());
         /*
         if (index == -1) {
             return false;
@@ -59,9 +83,130 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        indexById.put(toAdd.getId(), internalList.size());
+        if (toAdd.getExists()) {
+            addToIndexes(toAdd);
+        }
         internalList.add(toAdd);
     }
 
+    /**
+     * Returns the person with the given {@code personId}, including soft-deleted persons.
+     *
+     * @throws PersonNotFoundException if no person in the list has the given id.
+     */
+    public Person getById(PersonId personId) {
+        requireNonNull(personId);
+        Integer index = indexById.get(personId);
+        if (index == null) {
+            throw new PersonNotFoundException();
+        }
+        return internalList.get(index);
+    }
+
+    /**
+     * Returns the position of the equivalent person in the list, including soft-deleted persons, or -1 if there is
+     * none.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Integer index = indexById.get(person.getId());
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the existing persons whose name contains any of {@code keywords} as a whole word (case-insensitive),
+     * or whose id is one of {@code keywords}, in list order.
+     */
+    public List<Person> findByNameOrId(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<PersonId> matchedIds = nameIndex.getIdsMatchingAny(keywords);
+        for (String keyword : keywords) {
+            if (!PersonId.isValidId(keyword)) {
+                continue;
+            }
+            try {
+                matchedIds.add(new PersonId(keyword, false));
+            } catch (NumberFormatException nfe) {
+                // too large to have ever been assigned, so no person can have this id
+            }
+        }
+        return getExistingPersonsInListOrder(matchedIds);
+    }
+
+    /**
+     * Returns up to {@code limit} existing persons whose name has a word spelt like one of {@code keywords}, give or
+     * take a typo or two, closest first and then in list order.
+     *
+     * @see NameTokenIndex#getIdsMatchingSimilar(Collection)
+     */
+    public List<Person> findBySimilarName(Collection<String> keywords, int limit) {
+        requireNonNull(keywords);
+        Map<PersonId, Integer> distances = nameIndex.getIdsMatchingSimilar(keywords);
+        // a distance and a position packed into a long sort by distance and then by position
+        long[] rankedPositions = new long[distances.size()];
+        int matchCount = 0;
+        for (Map.Entry<PersonId, Integer> distance : distances.entrySet()) {
+            Integer index = indexById.get(distance.getKey());
+            if (index != null && internalList.get(index).getExists()) {
+                rankedPositions[matchCount++] = ((long) distance.getValue() << Integer.SIZE) | index;
+            }
+        }
+        Arrays.sort(rankedPositions, 0, matchCount);
+
+        List<Person> matchedPersons = new ArrayList<>();
+        for (int i = 0; i < Math.min(limit, matchCount); i++) {
+            matchedPersons.add(internalList.get((int) rankedPositions[i]));
+        }
+        return matchedPersons;
+    }
+
+    /**
+     * Returns the existing persons that have at least one of the tags in each of {@code tagGroups}, in list order.
+     */
+    public List<Person> findByTags(List<? extends Collection<Tag>> tagGroups) {
+        requireNonNull(tagGroups);
+        List<PersonId> matchedIds = new ArrayList<>();
+        for (Person person : tagIndex.getRecordsMatching(tagGroups)) {
+            matchedIds.add(person.getId());
+        }
+        return getExistingPersonsInListOrder(matchedIds);
+    }
+
+    /**
+     * Returns the existing persons whose phone number is {@code phone}, in list order.
+     */
+    public List<Person> findByPhone(Phone phone) {
+        requireNonNull(phone);
+        return getExistingPersonsInListOrder(phoneIndex.getIds(phone.value));
+    }
+
+    /**
+     * Returns the existing persons whose email address is {@code email}, ignoring case, in list order.
+     */
+    public List<Person> findByEmail(Email email) {
+        requireNonNull(email);
+        return getExistingPersonsInListOrder(emailIndex.getIds(email.getNormalizedValue()));
+    }
+
+    /**
+     * Returns up to {@code limit} lower-cased words that start with {@code prefix}, ignoring case, from the names of
+     * existing persons, the words that the most persons have first.
+     */
+    public List<String> getNameCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        return nameIndex.getWordCompletions(prefix, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} ids of existing persons that start with {@code prefix}, ignoring case, shortest
+     * first and then alphabetically.
+     */
+    public List<String> getIdCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        return idTrie.getCompletions(prefix.toLowerCase(Locale.ROOT), limit);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -70,8 +215,8 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Integer index = indexById.get(target.getId());
+        if (index == null) {
             throw new PersonNotFoundException();
         }
 
@@ -79,6 +224,15 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        Person replaced = internalList.get(index);
+        indexById.remove(target.getId());
+        indexById.put(editedPerson.getId(), index);
+        if (replaced.getExists()) {
+            removeFromIndexes(replaced);
+        }
+        if (editedPerson.getExists()) {
+            addToIndexes(editedPerson);
+        }
         internalList.set(index, editedPerson);
     }
 
@@ -86,18 +240,20 @@ public class UniquePersonList implements Iterable<Person> {
      * Removes the equivalent person from the list.
      * The person must exist in the list.
      *
-     * Developer Note: When using this method for testing, remember to set the {@Code Person.exists} to true afterwards,
-     * or subsequent tests might add an already deleted person, and cause the tests to fail.
+     * This is a soft delete: the person is replaced at its position by a copy that is marked as deleted. The person
+     * itself is left unchanged, since copies of the list may still be being read, such as by a pending save.
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        int index = internalList.indexOf(toRemove);
+        Integer index = indexById.get(toRemove.getId());
         // if person doesn't exist or already deleted previously
-        if (index == -1 || !internalList.get(index).getExists()) {
+        if (index == null || !internalList.get(index).getExists()) {
             throw new PersonNotFoundException();
         } else {
-            // performs soft delete: simply set as non-existent
-            internalList.get(index).delete();
+            Person removed = internalList.get(index);
+            removeFromIndexes(removed);
+            internalList.set(index, new Person(removed.getId(), removed.getName(), removed.getPhone(),
+                    removed.getEmail(), removed.getAddress(), false, removed.getTags()));
         }
 
     }
@@ -105,6 +261,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndex();
     }
 
     /**
@@ -118,6 +275,7 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        rebuildIndex();
     }
 
     /**
@@ -145,15 +303,75 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.hashCode();
     }
 
+    /**
+     * Rebuilds {@code indexById} and the indexes of existing persons from the current contents of the internal list.
+     */
+    private void rebuildIndex() {
+        indexById.clear();
+        nameIndex.clear();
+        tagIndex.clear();
+        idTrie.clear();
+        phoneIndex.clear();
+        emailIndex.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            Person person = internalList.get(i);
+            indexById.put(person.getId(), i);
+            if (person.getExists()) {
+                addToIndexes(person);
+            }
+        }
+    }
+
+    /**
+     * Adds {@code person}, which exists, to the indexes of existing persons.
+     */
+    private void addToIndexes(Person person) {
+        nameIndex.add(person);
+        tagIndex.add(person);
+        idTrie.add(person.getId().value);
+        phoneIndex.add(person);
+        emailIndex.add(person);
+    }
+
+    /**
+     * Removes {@code person}, which has existed until now, from the indexes of existing persons.
+     */
+    private void removeFromIndexes(Person person) {
+        nameIndex.remove(person);
+        tagIndex.remove(person);
+        idTrie.remove(person.getId().value);
+        phoneIndex.remove(person);
+        emailIndex.remove(person);
+    }
+
+    /**
+     * Returns the existing persons with the given {@code ids}, in list order. Ids of no person are ignored.
+     */
+    private List<Person> getExistingPersonsInListOrder(Collection<PersonId> ids) {
+        List<Integer> positions = new ArrayList<>(ids.size());
+        for (PersonId id : ids) {
+            Integer index = indexById.get(id);
+            if (index != null && internalList.get(index).getExists()) {
+                positions.add(index);
+            }
+        }
+        Collections.sort(positions);
+
+        List<Person> persons = new ArrayList<>(positions.size());
+        for (int index : positions) {
+            persons.add(internalList.get(index));
+        }
+        return persons;
+    }
+
     /**
      * Returns true if {@code persons} contain only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<PersonId> seenIds = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenIds.add(person.getId())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,71 @@
+package seedu.address.model.symptom;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An inverted index from each symptom to the diseases that have it.
+ *
+ * Diseases and symptoms are each numbered in the order they are first indexed, and every symptom maps to a
+ * {@code BitSet} of the numbers of its diseases. The diseases having all of a set of symptoms are then the AND of
+ * those symptoms' bitsets, which costs a few machine words per thousand diseases rather than a set lookup per
+ * symptom per disease.
+ */
+public class SymptomIndex {
+
+    private final List<Disease> diseases = new ArrayList<>();
+    private final Map<Disease, Integer> diseaseIds = new HashMap<>();
+    private final Map<Symptom, Integer> symptomIds = new HashMap<>();
+    private final List<BitSet> diseasesBySymptom = new ArrayList<>();
+
+    /**
+     * Indexes {@code disease} under each of {@code symptoms}, in addition to any symptoms it is already indexed under.
+     */
+    public void add(Disease disease, Collection<Symptom> symptoms) {
+        requireNonNull(disease);
+        requireNonNull(symptoms);
+        int diseaseId = diseaseIds.computeIfAbsent(disease, unused -> {
+            diseases.add(disease);
+            return diseases.size() - 1;
+        });
+        for (Symptom symptom : symptoms) {
+            int symptomId = symptomIds.computeIfAbsent(symptom, unused -> {
+                diseasesBySymptom.add(new BitSet());
+                return diseasesBySymptom.size() - 1;
+            });
+            diseasesBySymptom.get(symptomId).set(diseaseId);
+        }
+    }
+
+    /**
+     * Returns the indexed diseases that have all of {@code symptoms}, in the order they were first indexed.
+     * Every indexed disease has all of an empty collection of symptoms.
+     */
+    public List<Disease> getDiseasesWithAll(Collection<Symptom> symptoms) {
+        requireNonNull(symptoms);
+        BitSet matches = new BitSet(diseases.size());
+        matches.set(0, diseases.size());
+        for (Symptom symptom : symptoms) {
+            Integer symptomId = symptomIds.get(symptom);
+            if (symptomId == null) {
+                return new ArrayList<>();
+            }
+            matches.and(diseasesBySymptom.get(symptomId));
+            if (matches.isEmpty()) {
+                break;
+            }
+        }
+
+        List<Disease> matchingDiseases = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            matchingDiseases.add(diseases.get(i));
+        }
+        return matchingDiseases;
+    }
+}
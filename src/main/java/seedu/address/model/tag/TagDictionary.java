@@ -0,0 +1,79 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps one shared {@code Tag} instance for every distinct tag name in the app, and gives each a small int id.
+ *
+ * Ids are handed out densely from 0 in the order tags are first seen, so they can index arrays and bitsets. They last
+ * for as long as the app runs and are never saved, so they need not be the same from one run to the next.
+ */
+public class TagDictionary {
+
+    /** The id returned for a tag that has not been seen. */
+    public static final int NO_ID = -1;
+
+    private static TagDictionary instance;
+
+    private final Map<String, Integer> idsByName = new HashMap<>();
+    private final List<Tag> tagsById = new ArrayList<>();
+
+    private TagDictionary() {}
+
+    public static synchronized TagDictionary getInstance() {
+        if (instance == null) {
+            instance = new TagDictionary();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the shared instance of {@code tag}, which becomes the shared instance if the tag has not been seen.
+     */
+    public synchronized Tag intern(Tag tag) {
+        return tagsById.get(getId(tag));
+    }
+
+    /**
+     * Returns the id of {@code tag}, giving it the next id if it has not been seen.
+     */
+    public synchronized int getId(Tag tag) {
+        requireNonNull(tag);
+        Integer id = idsByName.get(tag.tagName);
+        if (id != null) {
+            return id;
+        }
+        tagsById.add(tag);
+        idsByName.put(tag.tagName, tagsById.size() - 1);
+        return tagsById.size() - 1;
+    }
+
+    /**
+     * Returns the id of {@code tag}, or {@code NO_ID} if it has not been seen.
+     */
+    public synchronized int lookUpId(Tag tag) {
+        requireNonNull(tag);
+        return idsByName.getOrDefault(tag.tagName, NO_ID);
+    }
+
+    /**
+     * Returns the tag with the given {@code id}.
+     *
+     * @throws IndexOutOfBoundsException if no tag has that id.
+     */
+    public synchronized Tag getTag(int id) {
+        return tagsById.get(id);
+    }
+
+    /**
+     * Returns the number of distinct tags seen, which is one more than the largest id.
+     */
+    public synchronized int size() {
+        return tagsById.size();
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.util.CompressedBitSet;
+
+/**
+ * An index from tags to the records that have them, with one {@code CompressedBitSet} of records for each tag id of
+ * the {@code TagDictionary}.
+ *
+ * Each record is given a slot, a small int that stands for it in those bitsets. Slots freed by removed records are
+ * reused, lowest first, so the bitsets stay dense. Queries on tags are then intersections and unions of bitsets.
+ * @param <T> The type of the records. Records are told apart by {@code equals}, so an edited copy of a record that is
+ *            equal to it must replace it through {@code remove} and {@code add}.
+ */
+public class TagIndex<T> {
+
+    private final Function<T, Set<Tag>> tagsOfRecord;
+    private final List<CompressedBitSet> slotsByTagId = new ArrayList<>();
+    private final Map<T, Integer> slotsByRecord = new HashMap<>();
+    private final List<T> recordsBySlot = new ArrayList<>();
+    private final Queue<Integer> freeSlots = new PriorityQueue<>();
+
+    /**
+     * Creates an empty index of records whose tags are given by {@code tagsOfRecord}.
+     */
+    public TagIndex(Function<T, Set<Tag>> tagsOfRecord) {
+        this.tagsOfRecord = requireNonNull(tagsOfRecord);
+    }
+
+    /**
+     * Indexes {@code record} under each of its tags, in place of an equal record that is already indexed.
+     */
+    public void add(T record) {
+        requireNonNull(record);
+        remove(record);
+        int slot = freeSlots.isEmpty() ? recordsBySlot.size() : freeSlots.remove();
+        if (slot == recordsBySlot.size()) {
+            recordsBySlot.add(record);
+        } else {
+            recordsBySlot.set(slot, record);
+        }
+        slotsByRecord.put(record, slot);
+        for (Tag tag : tagsOfRecord.apply(record)) {
+            int tagId = TagDictionary.getInstance().getId(tag);
+            while (slotsByTagId.size() <= tagId) {
+                slotsByTagId.add(null);
+            }
+            if (slotsByTagId.get(tagId) == null) {
+                slotsByTagId.set(tagId, new CompressedBitSet());
+            }
+            slotsByTagId.get(tagId).add(slot);
+        }
+    }
+
+    /**
+     * Removes the record equal to {@code record} from the index, if there is one.
+     * The record is unindexed under the tags it had when it was added.
+     */
+    public void remove(T record) {
+        requireNonNull(record);
+        Integer slot = slotsByRecord.remove(record);
+        if (slot == null) {
+            return;
+        }
+        for (Tag tag : tagsOfRecord.apply(recordsBySlot.get(slot))) {
+            CompressedBitSet slots = getSlotsOfTag(tag);
+            if (slots != null) {
+                slots.remove(slot);
+            }
+        }
+        recordsBySlot.set(slot, null);
+        freeSlots.add(slot);
+    }
+
+    public void clear() {
+        slotsByTagId.clear();
+        slotsByRecord.clear();
+        recordsBySlot.clear();
+        freeSlots.clear();
+    }
+
+    /**
+     * Returns the records that have at least one of the tags in each of {@code tagGroups}, in no particular order.
+     * That is, the tags of a group are combined with OR, and the groups with AND. No records match an empty list of
+     * groups, or an empty group.
+     */
+    public List<T> getRecordsMatching(List<? extends Collection<Tag>> tagGroups) {
+        requireNonNull(tagGroups);
+        CompressedBitSet matchedSlots = null;
+        for (Collection<Tag> tagGroup : tagGroups) {
+            CompressedBitSet groupSlots = new CompressedBitSet();
+            for (Tag tag : tagGroup) {
+                CompressedBitSet slots = getSlotsOfTag(tag);
+                if (slots != null) {
+                    groupSlots = groupSlots.or(slots);
+                }
+            }
+            matchedSlots = matchedSlots == null ? groupSlots : matchedSlots.and(groupSlots);
+            if (matchedSlots.isEmpty()) {
+                break;
+            }
+        }
+
+        List<T> matchedRecords = new ArrayList<>();
+        if (matchedSlots != null) {
+            matchedSlots.forEach(slot -> matchedRecords.add(recordsBySlot.get(slot)));
+        }
+        return matchedRecords;
+    }
+
+    /**
+     * Returns the slots of the records with {@code tag}, or null if no record has ever been indexed under it.
+     */
+    private CompressedBitSet getSlotsOfTag(Tag tag) {
+        int tagId = TagDictionary.getInstance().lookUpId(tag);
+        return tagId == TagDictionary.NO_ID || tagId >= slotsByTagId.size() ? null : slotsByTagId.get(tagId);
+    }
+}
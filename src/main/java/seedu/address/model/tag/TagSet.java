@@ -0,0 +1,141 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, kept as an array sorted by tag name. Any attempt to modify it throws
+ * {@code UnsupportedOperationException}.
+ *
+ * Sets are interned: {@link #of(Collection)} returns the same instance for every set with the same tags, so records
+ * with the same tags share one array instead of each keeping a {@code HashSet} of their own. There are few distinct
+ * combinations of tags compared to records, so the interned sets are never discarded.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    private static final Comparator<Tag> TAG_NAME_ORDER = Comparator.comparing(tag -> tag.tagName);
+    private static final ConcurrentMap<TagSet, TagSet> internedSets = new ConcurrentHashMap<>();
+
+    private final Tag[] tags;
+    private final int hash;
+
+    private TagSet(Tag[] sortedTags) {
+        this.tags = sortedTags;
+        this.hash = Arrays.stream(sortedTags).mapToInt(Tag::hashCode).sum();
+    }
+
+    /**
+     * Returns the interned set of the distinct tags in {@code tags}, which holds the shared instances of the
+     * {@code TagDictionary}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+        TagDictionary dictionary = TagDictionary.getInstance();
+        Tag[] sortedTags = tags.stream().map(dictionary::intern).distinct().sorted(TAG_NAME_ORDER)
+                .toArray(Tag[]::new);
+        TagSet tagSet = new TagSet(sortedTags);
+        TagSet internedSet = internedSets.putIfAbsent(tagSet, tagSet);
+        return internedSet == null ? tagSet : internedSet;
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        if (!(object instanceof Tag)) {
+            return false;
+        }
+        return Arrays.binarySearch(tags, (Tag) object, TAG_NAME_ORDER) >= 0;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<Tag>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < tags.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return tags[next++];
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object object) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (other instanceof TagSet) {
+            return hash == ((TagSet) other).hash && Arrays.equals(tags, ((TagSet) other).tags);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
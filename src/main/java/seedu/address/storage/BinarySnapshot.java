@@ -0,0 +1,516 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.Schedule;
+import seedu.address.model.event.EventId;
+import seedu.address.model.event.ScheduleEvent;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A compact binary copy of the address book or schedule in an xml file, which loads without any parsing.
+ *
+ * All numbers are big-endian. The file starts with a fixed-size header holding a magic number, the format version,
+ * the kind of data, the size and modification time of the xml file it copies, and the offset, length and CRC-32 of
+ * each of its three sections:
+ * <ul>
+ *     <li>records: the number of persons or events, then a fixed-width record for each, holding its numeric ID,
+ *     epoch-minute times and the like, and referring to its text by index into the string table</li>
+ *     <li>tags: the number of tag references, then the string table index of each tag, which records refer to as
+ *     a start index and a count</li>
+ *     <li>strings: the number of strings, then the UTF-8 length and bytes of each. Names, tags and details are only
+ *     stored once however often they occur.</li>
+ * </ul>
+ * A snapshot is only read back while the xml file still has the size and modification time recorded in it, so that
+ * the xml file stays the source of truth and any change made to it without the snapshot is never masked.
+ */
+public class BinarySnapshot {
+
+    public static final String SNAPSHOT_FILE_SUFFIX = ".bin";
+
+    public static final int MAGIC = 0x50425331; // "PBS1"
+    public static final short FORMAT_VERSION = 1;
+
+    private static final byte KIND_ADDRESS_BOOK = 1;
+    private static final byte KIND_SCHEDULE = 2;
+
+    private static final int RECORDS_SECTION = 0;
+    private static final int TAGS_SECTION = 1;
+    private static final int STRINGS_SECTION = 2;
+    private static final int SECTION_COUNT = 3;
+    private static final int SECTION_ENTRY_BYTES = Long.BYTES + Long.BYTES + Integer.BYTES;
+    private static final int HEADER_BYTES = Integer.BYTES + Short.BYTES + Byte.BYTES + Long.BYTES + Long.BYTES
+            + SECTION_COUNT * SECTION_ENTRY_BYTES;
+
+    // id, exists, name, phone, email, address, first tag, tag count
+    private static final int PERSON_RECORD_BYTES = Integer.BYTES + Byte.BYTES + 6 * Integer.BYTES;
+    // id, person id, start, end, details, first tag, tag count
+    private static final int EVENT_RECORD_BYTES = 7 * Integer.BYTES;
+
+    /**
+     * Returns the snapshot file that accompanies the xml file at {@code xmlFilePath}.
+     */
+    public static Path getSnapshotFilePath(Path xmlFilePath) {
+        requireNonNull(xmlFilePath);
+        return Paths.get(xmlFilePath.toString() + SNAPSHOT_FILE_SUFFIX);
+    }
+
+    /**
+     * Writes {@code addressBook}, which must be what {@code xmlFile} currently holds, as the snapshot of
+     * {@code xmlFile}.
+     * @throws IOException if the snapshot cannot be written, or the address book holds IDs it cannot represent.
+     */
+    public static void writeAddressBook(ReadOnlyAddressBook addressBook, Path xmlFile) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(xmlFile);
+        List<Person> persons = addressBook.getPersonList();
+        StringTable strings = new StringTable();
+        IntList tags = new IntList();
+        write(xmlFile, KIND_ADDRESS_BOOK, out -> {
+            out.writeInt(persons.size());
+            for (Person person : persons) {
+                out.writeInt(getIdNumber(person.getId().value, PersonId.class));
+                out.writeByte(person.getExists() ? 1 : 0);
+                out.writeInt(strings.intern(person.getName().fullName));
+                out.writeInt(strings.add(person.getPhone().value));
+                out.writeInt(strings.add(person.getEmail().value));
+                out.writeInt(strings.add(person.getAddress().value));
+                writeTags(out, person.getTags(), strings, tags);
+            }
+        }, tags, strings);
+    }
+
+    /**
+     * Writes {@code schedule}, which must be what {@code xmlFile} currently holds, as the snapshot of
+     * {@code xmlFile}.
+     * @throws IOException if the snapshot cannot be written, or the schedule holds IDs it cannot represent.
+     */
+    public static void writeSchedule(ReadOnlySchedule schedule, Path xmlFile) throws IOException {
+        requireNonNull(schedule);
+        requireNonNull(xmlFile);
+        List<ScheduleEvent> events = schedule.getAllEventList();
+        StringTable strings = new StringTable();
+        IntList tags = new IntList();
+        write(xmlFile, KIND_SCHEDULE, out -> {
+            out.writeInt(events.size());
+            for (ScheduleEvent event : events) {
+                out.writeInt(getIdNumber(event.getId().value, EventId.class));
+                out.writeInt(getIdNumber(event.getPersonId().value, PersonId.class));
+                out.writeInt(toIntEpochMinute(event.getStartEpochMinute()));
+                out.writeInt(toIntEpochMinute(event.getEndEpochMinute()));
+                out.writeInt(strings.intern(event.getDetails()));
+                writeTags(out, event.getTags(), strings, tags);
+            }
+        }, tags, strings);
+    }
+
+    /**
+     * Returns the address book in the snapshot of {@code xmlFile}, or an empty {@code Optional} if there is no
+     * snapshot of the current contents of {@code xmlFile}.
+     * @throws DataConversionException if the snapshot is corrupted or holds invalid persons.
+     */
+    public static Optional<AddressBook> readAddressBook(Path xmlFile) throws DataConversionException, IOException {
+        requireNonNull(xmlFile);
+        Optional<ByteBuffer[]> sections = readSections(xmlFile, KIND_ADDRESS_BOOK);
+        if (!sections.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            String[] strings = readStrings(sections.get()[STRINGS_SECTION]);
+            int[] tagIndices = readInts(sections.get()[TAGS_SECTION]);
+            ByteBuffer records = sections.get()[RECORDS_SECTION];
+            int count = readCount(records, PERSON_RECORD_BYTES);
+            // names and tags recur, so each distinct one is only validated and built once
+            Map<Integer, Name> names = new HashMap<>();
+            Map<Integer, Tag> tagCache = new HashMap<>();
+            List<Person> persons = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                PersonId id = new PersonId("p" + records.getInt(), true);
+                boolean exists = records.get() != 0;
+                Name name = names.computeIfAbsent(records.getInt(), index -> new Name(strings[index]));
+                Phone phone = new Phone(strings[records.getInt()]);
+                Email email = new Email(strings[records.getInt()]);
+                Address address = new Address(strings[records.getInt()]);
+                Set<Tag> tags = readTags(records, tagIndices, strings, tagCache);
+                persons.add(new Person(id, name, phone, email, address, exists, tags));
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            return Optional.of(addressBook);
+        } catch (RuntimeException e) {
+            // invalid values and out of range indices can only come from a snapshot with an undetected corruption
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the schedule in the snapshot of {@code xmlFile}, or an empty {@code Optional} if there is no snapshot
+     * of the current contents of {@code xmlFile}.
+     * @throws DataConversionException if the snapshot is corrupted or holds invalid events.
+     */
+    public static Optional<Schedule> readSchedule(Path xmlFile) throws DataConversionException, IOException {
+        requireNonNull(xmlFile);
+        Optional<ByteBuffer[]> sections = readSections(xmlFile, KIND_SCHEDULE);
+        if (!sections.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            String[] strings = readStrings(sections.get()[STRINGS_SECTION]);
+            int[] tagIndices = readInts(sections.get()[TAGS_SECTION]);
+            ByteBuffer records = sections.get()[RECORDS_SECTION];
+            int count = readCount(records, EVENT_RECORD_BYTES);
+            Map<Integer, Tag> tagCache = new HashMap<>();
+            List<ScheduleEvent> events = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                EventId id = new EventId("e" + records.getInt(), true);
+                PersonId personId = new PersonId("p" + records.getInt(), false);
+                long start = records.getInt();
+                long end = records.getInt();
+                String details = strings[records.getInt()];
+                Set<Tag> tags = readTags(records, tagIndices, strings, tagCache);
+                events.add(new ScheduleEvent(id, start, end, personId, details, tags));
+            }
+
+            Schedule schedule = new Schedule();
+            schedule.setScheduleEvents(events);
+            return Optional.of(schedule);
+        } catch (RuntimeException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Writes a snapshot of {@code xmlFile} whose records are written by {@code recordsWriter}, followed by
+     * {@code tags} and {@code strings}, which the records writer fills in.
+     * The snapshot is written to a temporary file first, so that a reader never sees a partial snapshot.
+     */
+    private static void write(Path xmlFile, byte kind, SectionWriter recordsWriter, IntList tags,
+                              StringTable strings) throws IOException {
+        Path snapshotFile = getSnapshotFilePath(xmlFile);
+        Path tempFile = Paths.get(snapshotFile.toString() + ".tmp");
+        FileUtil.createParentDirsOfFile(snapshotFile);
+
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC);
+            header.putShort(FORMAT_VERSION);
+            header.put(kind);
+            header.putLong(Files.size(xmlFile));
+            header.putLong(Files.getLastModifiedTime(xmlFile).toMillis());
+
+            channel.position(HEADER_BYTES);
+            OutputStream fileOut = new FilterOutputStream(Channels.newOutputStream(channel)) {
+                @Override
+                public void write(byte[] bytes, int offset, int length) throws IOException {
+                    out.write(bytes, offset, length);
+                }
+
+                @Override
+                public void close() {
+                    // the channel is closed by its own try-with-resources
+                }
+            };
+            writeSection(channel, fileOut, header, recordsWriter);
+            writeSection(channel, fileOut, header, tags::writeTo);
+            writeSection(channel, fileOut, header, strings::writeTo);
+
+            header.flip();
+            channel.write(header, 0);
+            channel.force(true);
+        }
+
+        try {
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes a section at the current position of {@code channel}, and adds its entry to {@code header}.
+     */
+    private static void writeSection(FileChannel channel, OutputStream fileOut, ByteBuffer header,
+                                     SectionWriter sectionWriter) throws IOException {
+        long offset = channel.position();
+        CRC32 crc = new CRC32();
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(fileOut, crc)));
+        sectionWriter.write(out);
+        out.flush();
+
+        header.putLong(offset);
+        header.putLong(channel.position() - offset);
+        header.putInt((int) crc.getValue());
+    }
+
+    /**
+     * Maps the snapshot of {@code xmlFile} into memory and returns its sections, each checked against its CRC.
+     * Returns an empty {@code Optional} if there is no snapshot, or it is not of the current contents of
+     * {@code xmlFile}.
+     */
+    private static Optional<ByteBuffer[]> readSections(Path xmlFile, byte kind)
+            throws DataConversionException, IOException {
+        Path snapshotFile = getSnapshotFilePath(xmlFile);
+        if (!Files.exists(snapshotFile) || !Files.exists(xmlFile)) {
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new DataConversionException(new IllegalValueException("Snapshot too large: " + snapshotFile));
+            }
+            // the mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalValueException("Not a snapshot: " + snapshotFile);
+            }
+            short version = buffer.getShort();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException("Unsupported snapshot version " + version + ": " + snapshotFile);
+            }
+            if (buffer.get() != kind) {
+                throw new IllegalValueException("Snapshot of the wrong kind of data: " + snapshotFile);
+            }
+            if (buffer.getLong() != Files.size(xmlFile)
+                    || buffer.getLong() != Files.getLastModifiedTime(xmlFile).toMillis()) {
+                return Optional.empty();
+            }
+
+            ByteBuffer[] sections = new ByteBuffer[SECTION_COUNT];
+            for (int i = 0; i < SECTION_COUNT; i++) {
+                sections[i] = getSection(buffer, buffer.getLong(), buffer.getLong(), buffer.getInt());
+            }
+            return Optional.of(sections);
+        } catch (BufferUnderflowException e) {
+            throw new DataConversionException(new IllegalValueException("Truncated snapshot: " + snapshotFile));
+        } catch (IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static ByteBuffer getSection(ByteBuffer buffer, long offset, long length, int expectedCrc)
+            throws IllegalValueException {
+        if (offset < HEADER_BYTES || length < 0 || offset + length > buffer.capacity()) {
+            throw new IllegalValueException("Snapshot section out of bounds");
+        }
+        ByteBuffer section = buffer.duplicate();
+        section.position((int) offset);
+        section.limit((int) (offset + length));
+        section = section.slice();
+
+        CRC32 crc = new CRC32();
+        crc.update(section.duplicate());
+        if ((int) crc.getValue() != expectedCrc) {
+            throw new IllegalValueException("Snapshot section fails its CRC check");
+        }
+        return section;
+    }
+
+    /**
+     * Returns the number of records in {@code records}, each of which is {@code recordBytes} long.
+     */
+    private static int readCount(ByteBuffer records, int recordBytes) throws DataConversionException {
+        int count = records.getInt();
+        if (count < 0 || (long) count * recordBytes != records.remaining()) {
+            throw new DataConversionException(new IllegalValueException("Snapshot has a malformed record section"));
+        }
+        return count;
+    }
+
+    /**
+     * Returns the strings in the string table {@code section}.
+     */
+    private static String[] readStrings(ByteBuffer section) {
+        String[] strings = new String[section.getInt()];
+        byte[] bytes = new byte[0];
+        for (int i = 0; i < strings.length; i++) {
+            int length = section.getInt();
+            if (bytes.length < length) {
+                bytes = new byte[length];
+            }
+            section.get(bytes, 0, length);
+            strings[i] = new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+    private static int[] readInts(ByteBuffer section) {
+        int[] ints = new int[section.getInt()];
+        section.asIntBuffer().get(ints);
+        return ints;
+    }
+
+    /**
+     * Returns the tags referred to by the record at the current position of {@code records}, sharing the tags
+     * already built for the same string table index.
+     */
+    private static Set<Tag> readTags(ByteBuffer records, int[] tagIndices, String[] strings,
+                                     Map<Integer, Tag> tagCache) {
+        int first = records.getInt();
+        int count = records.getInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = first; i < first + count; i++) {
+            tags.add(tagCache.computeIfAbsent(tagIndices[i], index -> new Tag(strings[index])));
+        }
+        return tags;
+    }
+
+    /**
+     * Adds {@code tags} to the end of {@code tagIndices}, and writes where they are in it to {@code out}.
+     */
+    private static void writeTags(DataOutputStream out, Set<Tag> tags, StringTable strings, IntList tagIndices)
+            throws IOException {
+        out.writeInt(tagIndices.size());
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            tagIndices.add(strings.intern(tag.tagName));
+        }
+    }
+
+    /**
+     * Returns the number in {@code id}, which must be the canonical form of a {@code PersonId} or {@code EventId}.
+     * @throws IOException if the number does not fit in a record or has leading zeroes that would be lost.
+     */
+    private static int getIdNumber(String id, Class<?> idClass) throws IOException {
+        try {
+            int number = Integer.parseInt(id.substring(1));
+            if (number >= 0 && id.substring(1).equals(String.valueOf(number))) {
+                return number;
+            }
+        } catch (NumberFormatException nfe) {
+            // not representable, so fall through
+        }
+        throw new IOException(idClass.getSimpleName() + " " + id + " cannot be stored in a binary snapshot");
+    }
+
+    /**
+     * Returns {@code epochMinute} as an {@code int}, which holds any time within some four thousand years of 1970.
+     */
+    private static int toIntEpochMinute(long epochMinute) throws IOException {
+        if (epochMinute != (int) epochMinute) {
+            throw new IOException("Epoch minute " + epochMinute + " cannot be stored in a binary snapshot");
+        }
+        return (int) epochMinute;
+    }
+
+    /**
+     * Writes the contents of a section.
+     */
+    @FunctionalInterface
+    private interface SectionWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    /**
+     * The strings of a snapshot, in the order they are first referred to.
+     */
+    private static class StringTable {
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> internedIndices = new HashMap<>();
+
+        /**
+         * Returns the index of {@code string}, which is only stored once however often it is interned.
+         */
+        int intern(String string) {
+            return internedIndices.computeIfAbsent(string, this::add);
+        }
+
+        /**
+         * Stores {@code string} and returns its index. Used for strings that rarely recur, to save looking them up.
+         */
+        int add(String string) {
+            strings.add(string);
+            return strings.size() - 1;
+        }
+
+        /**
+         * Writes the number of strings followed by the UTF-8 length and bytes of each.
+         */
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(strings.size());
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * A growable list of ints that does not box them.
+     */
+    private static class IntList {
+        private int[] values = new int[16];
+        private int size = 0;
+
+        /**
+         * Appends {@code value}, growing the backing array as needed.
+         */
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * Writes the number of values followed by the values.
+         */
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                out.writeInt(values[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that keeps a {@link BinarySnapshot} beside the file of the storage it wraps, and
+ * reads the snapshot instead of that file while the snapshot is of its current contents.
+ *
+ * The wrapped storage stays the source of truth: a snapshot that is stale, corrupted or cannot be written only
+ * makes reads fall back to the wrapped storage.
+ */
+public class BinarySnapshotAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinarySnapshotAddressBookStorage.class);
+
+    private final AddressBookStorage sourceStorage;
+    private final Path snapshotFilePath;
+
+    public BinarySnapshotAddressBookStorage(AddressBookStorage sourceStorage) {
+        requireNonNull(sourceStorage);
+        this.sourceStorage = sourceStorage;
+        this.snapshotFilePath = BinarySnapshot.getSnapshotFilePath(sourceStorage.getAddressBookFilePath());
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return sourceStorage.getAddressBookFilePath();
+    }
+
+    public Path getSnapshotFilePath() {
+        return snapshotFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but only reads the snapshot when reading from the file of this storage.
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getAddressBookFilePath())) {
+            try {
+                Optional<AddressBook> snapshot = BinarySnapshot.readAddressBook(filePath);
+                if (snapshot.isPresent()) {
+                    logger.fine("Read address book from snapshot " + snapshotFilePath);
+                    return Optional.of(snapshot.get());
+                }
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Ignoring unreadable snapshot " + snapshotFilePath + ": " + e.getMessage());
+            }
+        }
+        return sourceStorage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}, but only writes a snapshot when saving to the file
+     * of this storage.
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            sourceStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        // a snapshot left over from before is rejected on read once the file it was taken of has changed
+        sourceStorage.saveAddressBook(addressBook, filePath);
+        try {
+            BinarySnapshot.writeAddressBook(addressBook, filePath);
+        } catch (IOException ioe) {
+            logger.warning("Failed to write snapshot " + snapshotFilePath + ": " + ioe.getMessage());
+            deleteSnapshot();
+        }
+    }
+
+    /**
+     * Deletes the snapshot, if there is one. A snapshot that cannot be deleted is only logged, since the snapshot
+     * is not needed to save or read the data.
+     */
+    private void deleteSnapshot() {
+        try {
+            Files.deleteIfExists(snapshotFilePath);
+        } catch (IOException ioe) {
+            logger.warning("Failed to delete snapshot " + snapshotFilePath + ": " + ioe.getMessage());
+        }
+    }
+}
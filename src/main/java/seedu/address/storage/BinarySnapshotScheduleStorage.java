@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.Schedule;
+
+/**
+ * A {@code ScheduleStorage} that keeps a {@link BinarySnapshot} beside the file of the storage it wraps, and reads
+ * the snapshot instead of that file while the snapshot is of its current contents.
+ *
+ * The wrapped storage stays the source of truth: a snapshot that is stale, corrupted or cannot be written only
+ * makes reads fall back to the wrapped storage.
+ */
+public class BinarySnapshotScheduleStorage implements ScheduleStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinarySnapshotScheduleStorage.class);
+
+    private final ScheduleStorage sourceStorage;
+    private final Path snapshotFilePath;
+
+    public BinarySnapshotScheduleStorage(ScheduleStorage sourceStorage) {
+        requireNonNull(sourceStorage);
+        this.sourceStorage = sourceStorage;
+        this.snapshotFilePath = BinarySnapshot.getSnapshotFilePath(sourceStorage.getScheduleFilePath());
+    }
+
+    @Override
+    public Path getScheduleFilePath() {
+        return sourceStorage.getScheduleFilePath();
+    }
+
+    public Path getSnapshotFilePath() {
+        return snapshotFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlySchedule> readSchedule() throws DataConversionException, IOException, ParseException {
+        return readSchedule(getScheduleFilePath());
+    }
+
+    /**
+     * Similar to {@link #readSchedule()}, but only reads the snapshot when reading from the file of this storage.
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public Optional<ReadOnlySchedule> readSchedule(Path filePath)
+            throws DataConversionException, IOException, ParseException {
+        requireNonNull(filePath);
+        if (filePath.equals(getScheduleFilePath())) {
+            try {
+                Optional<Schedule> snapshot = BinarySnapshot.readSchedule(filePath);
+                if (snapshot.isPresent()) {
+                    logger.fine("Read schedule from snapshot " + snapshotFilePath);
+                    return Optional.of(snapshot.get());
+                }
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Ignoring unreadable snapshot " + snapshotFilePath + ": " + e.getMessage());
+            }
+        }
+        return sourceStorage.readSchedule(filePath);
+    }
+
+    @Override
+    public void saveSchedule(ReadOnlySchedule schedule) throws IOException {
+        saveSchedule(schedule, getScheduleFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveSchedule(ReadOnlySchedule)}, but only writes a snapshot when saving to the file of this
+     * storage.
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveSchedule(ReadOnlySchedule schedule, Path filePath) throws IOException {
+        requireNonNull(schedule);
+        requireNonNull(filePath);
+        if (!filePath.equals(getScheduleFilePath())) {
+            sourceStorage.saveSchedule(schedule, filePath);
+            return;
+        }
+
+        // a snapshot left over from before is rejected on read once the file it was taken of has changed
+        sourceStorage.saveSchedule(schedule, filePath);
+        try {
+            BinarySnapshot.writeSchedule(schedule, filePath);
+        } catch (IOException ioe) {
+            logger.warning("Failed to write snapshot " + snapshotFilePath + ": " + ioe.getMessage());
+            deleteSnapshot();
+        }
+    }
+
+    /**
+     * Deletes the snapshot, if there is one. A snapshot that cannot be deleted is only logged, since the snapshot
+     * is not needed to save or read the data.
+     */
+    private void deleteSnapshot() {
+        try {
+            Files.deleteIfExists(snapshotFilePath);
+        } catch (IOException ioe) {
+            logger.warning("Failed to delete snapshot " + snapshotFilePath + ": " + ioe.getMessage());
+        }
+    }
+}
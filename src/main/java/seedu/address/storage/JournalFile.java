@@ -0,0 +1,197 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * An append-only file of journal records, stored one record per line.
+ * The fields of a record are separated by tabs, with tabs, line breaks and backslashes within fields escaped.
+ *
+ * The journal begins with the checksum of the snapshot its records apply to. A snapshot written since, whose journal
+ * was not cleared in time, does not match it, and the journal is then dropped rather than replayed onto the wrong
+ * snapshot.
+ */
+public class JournalFile {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalFile.class);
+
+    private static final char FIELD_SEPARATOR = '\t';
+    private static final char ESCAPE = '\\';
+    private static final String SNAPSHOT_RECORD = "S";
+
+    private final Path filePath;
+    private final Path snapshotFilePath;
+    /** The checksum of the snapshot the records apply to, or null if it has not been worked out yet. */
+    private String snapshotChecksum;
+
+    private JournalFile(Path filePath, Path snapshotFilePath) {
+        this.filePath = filePath;
+        this.snapshotFilePath = snapshotFilePath;
+    }
+
+    /**
+     * Returns the journal file that accompanies the snapshot stored at {@code snapshotFilePath}.
+     */
+    public static JournalFile forSnapshot(Path snapshotFilePath) {
+        requireNonNull(snapshotFilePath);
+        return new JournalFile(Paths.get(snapshotFilePath.toString() + JOURNAL_FILE_SUFFIX), snapshotFilePath);
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Appends {@code records} to the end of the journal in a single write, creating the journal if it is missing.
+     */
+    public void append(List<String[]> records) throws IOException {
+        requireNonNull(records);
+        if (records.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        if (!Files.exists(filePath)) {
+            lines.append(encode(SNAPSHOT_RECORD, getSnapshotChecksum())).append('\n');
+        }
+        for (String[] record : records) {
+            lines.append(encode(record)).append('\n');
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        Files.write(filePath, lines.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Returns all records in the journal, oldest first, or an empty list if there is no journal.
+     * A last line without a line break was cut short while being written, and is dropped.
+     * A journal that does not begin with the checksum of the snapshot as it is now is deleted instead, as the records
+     * were written against an older snapshot.
+     */
+    public List<String[]> readAll() throws IOException {
+        snapshotChecksum = null;
+        List<String[]> records = new ArrayList<>();
+        if (!Files.exists(filePath)) {
+            return records;
+        }
+
+        String content = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        int lineStart = 0;
+        int lineEnd;
+        while ((lineEnd = content.indexOf('\n', lineStart)) != -1) {
+            records.add(decode(content.substring(lineStart, lineEnd)));
+            lineStart = lineEnd + 1;
+        }
+        if (lineStart < content.length()) {
+            logger.warning("Dropping incomplete record at the end of journal " + filePath);
+        }
+
+        String[] snapshotRecord = {SNAPSHOT_RECORD, getSnapshotChecksum()};
+        if (records.isEmpty() || !Arrays.equals(snapshotRecord, records.get(0))) {
+            logger.warning("Dropping journal " + filePath + " written against an older snapshot");
+            Files.deleteIfExists(filePath);
+            return new ArrayList<>();
+        }
+        return records.subList(1, records.size());
+    }
+
+    /**
+     * Deletes all records in the journal, which starts over from the snapshot as it is now.
+     */
+    public void clear() throws IOException {
+        Files.deleteIfExists(filePath);
+        snapshotChecksum = null;
+        getSnapshotChecksum();
+    }
+
+    private String getSnapshotChecksum() throws IOException {
+        if (snapshotChecksum == null) {
+            CRC32 crc = new CRC32();
+            if (Files.exists(snapshotFilePath)) {
+                crc.update(Files.readAllBytes(snapshotFilePath));
+            }
+            snapshotChecksum = Long.toHexString(crc.getValue());
+        }
+        return snapshotChecksum;
+    }
+
+    /**
+     * Joins {@code fields} into a single line, escaping any characters that would break the record up.
+     */
+    static String encode(String... fields) {
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                line.append(FIELD_SEPARATOR);
+            }
+            for (char c : fields[i].toCharArray()) {
+                switch (c) {
+                case '\t':
+                    line.append(ESCAPE).append('t');
+                    break;
+                case '\n':
+                    line.append(ESCAPE).append('n');
+                    break;
+                case '\r':
+                    line.append(ESCAPE).append('r');
+                    break;
+                case ESCAPE:
+                    line.append(ESCAPE).append(ESCAPE);
+                    break;
+                default:
+                    line.append(c);
+                }
+            }
+        }
+        return line.toString();
+    }
+
+    /**
+     * Splits a line produced by {@link #encode(String...)} back into its fields.
+     */
+    static String[] decode(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == FIELD_SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == ESCAPE && i + 1 < line.length()) {
+                field.append(unescape(line.charAt(++i)));
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+
+    private static char unescape(char escaped) {
+        switch (escaped) {
+        case 't':
+            return '\t';
+        case 'n':
+            return '\n';
+        case 'r':
+            return '\r';
+        default:
+            return escaped;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+
+/**
+ * An {@code AddressBookStorage} that keeps a full snapshot of the address book alongside a journal of the
+ * persons added, updated, deleted and removed since that snapshot was written.
+ *
+ * Each save appends only the persons that changed since the previous save, so its cost is proportional to the
+ * change rather than to the size of the address book. Once the journal grows past the compaction threshold, the
+ * next save writes a fresh snapshot and clears the journal. Reading loads the snapshot and replays the journal on
+ * top of it, unless a crash left behind the journal of an older snapshot.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final String OP_ADD = "A";
+    private static final String OP_UPDATE = "U";
+    private static final String OP_DELETE = "D";
+    private static final String OP_REMOVE = "R";
+    private static final int PERSON_RECORD_LENGTH = 8;
+    private static final String TAG_SEPARATOR = ",";
+
+    private final AddressBookStorage snapshotStorage;
+    private final JournalFile journal;
+    private final int compactionThreshold;
+
+    /** The persons as of the last save or read, used to work out what the next save has to journal. */
+    private final Map<PersonId, PersistedPerson> persistedPersons = new HashMap<>();
+    private boolean isSynced = false;
+    private int journalSize = 0;
+
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * @param snapshotStorage stores the snapshots. The journal is kept next to its file.
+     * @param compactionThreshold the number of journal records beyond which the next save writes a new snapshot.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.journal = JournalFile.forSnapshot(snapshotStorage.getAddressBookFilePath());
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return journal.getFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but only replays the journal when reading from the file of this storage.
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!filePath.equals(getAddressBookFilePath()) || !snapshot.isPresent()) {
+            return snapshot;
+        }
+
+        Map<PersonId, Person> persons = new LinkedHashMap<>();
+        for (Person person : snapshot.get().getPersonList()) {
+            persons.put(person.getId(), person);
+        }
+        List<String[]> records = journal.readAll();
+        for (String[] record : records) {
+            replay(record, persons);
+        }
+        logger.fine("Replayed " + records.size() + " journal records onto " + filePath);
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(new ArrayList<>(persons.values()));
+        markPersisted(addressBook);
+        journalSize = records.size();
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}, but only journals the changes when saving to the
+     * file of this storage.
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<String[]> records = isSynced ? getChangedRecords(addressBook) : null;
+        if (records == null || journalSize + records.size() > compactionThreshold) {
+            compact(addressBook);
+            return;
+        }
+        try {
+            journal.append(records);
+        } catch (IOException ioe) {
+            // the journal may now end in a partial record, so the next save must start over from a snapshot
+            isSynced = false;
+            throw ioe;
+        }
+        journalSize += records.size();
+        markPersisted(addressBook);
+    }
+
+    /**
+     * Writes {@code addressBook} as the new snapshot and clears the journal.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        // a failed write leaves the files out of step with the persisted persons, so stop trusting them first
+        isSynced = false;
+        snapshotStorage.saveAddressBook(addressBook);
+        journal.clear();
+        journalSize = 0;
+        markPersisted(addressBook);
+        logger.fine("Compacted journal into snapshot " + getAddressBookFilePath());
+    }
+
+    /**
+     * Returns the records that bring the persisted persons up to date with {@code addressBook}.
+     * Persons are compared by reference, as persons are replaced rather than modified, except for soft deletion.
+     */
+    private List<String[]> getChangedRecords(ReadOnlyAddressBook addressBook) {
+        List<String[]> records = new ArrayList<>();
+        Map<PersonId, PersistedPerson> unseenPersons = new HashMap<>(persistedPersons);
+        for (Person person : addressBook.getPersonList()) {
+            PersistedPerson persisted = unseenPersons.remove(person.getId());
+            if (persisted == null) {
+                records.add(toRecord(OP_ADD, person));
+            } else if (persisted.person != person || (!persisted.exists && person.getExists())) {
+                records.add(toRecord(OP_UPDATE, person));
+            } else if (persisted.exists && !person.getExists()) {
+                records.add(new String[] {OP_DELETE, person.getId().value});
+            }
+        }
+        for (PersonId removedId : unseenPersons.keySet()) {
+            records.add(new String[] {OP_REMOVE, removedId.value});
+        }
+        return records;
+    }
+
+    private void markPersisted(ReadOnlyAddressBook addressBook) {
+        persistedPersons.clear();
+        for (Person person : addressBook.getPersonList()) {
+            persistedPersons.put(person.getId(), new PersistedPerson(person));
+        }
+        isSynced = true;
+    }
+
+    private static String[] toRecord(String op, Person person) {
+        return new String[] {op, person.getId().value, person.getName().fullName, person.getPhone().value,
+            person.getEmail().value, person.getAddress().value, String.valueOf(person.getExists()),
+            person.getTags().stream().map(tag -> tag.tagName).collect(Collectors.joining(TAG_SEPARATOR))};
+    }
+
+    /**
+     * Applies a single journal record to {@code persons}.
+     * @throws DataConversionException if the record is malformed or holds invalid person details.
+     */
+    private static void replay(String[] record, Map<PersonId, Person> persons) throws DataConversionException {
+        try {
+            switch (record[0]) {
+            case OP_ADD:
+            case OP_UPDATE:
+                Person person = toPerson(record);
+                persons.put(person.getId(), person);
+                break;
+            case OP_DELETE:
+                Person deleted = persons.get(toPersonId(record));
+                if (deleted != null && deleted.getExists()) {
+                    deleted.delete();
+                }
+                break;
+            case OP_REMOVE:
+                persons.remove(toPersonId(record));
+                break;
+            default:
+                throw new IllegalValueException("Unknown journal record: " + Arrays.toString(record));
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in journal: " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private static Person toPerson(String[] record) throws IllegalValueException {
+        if (record.length != PERSON_RECORD_LENGTH) {
+            throw new IllegalValueException("Malformed journal record: " + Arrays.toString(record));
+        }
+        List<XmlAdaptedTag> tags = new ArrayList<>();
+        if (!record[7].isEmpty()) {
+            for (String tagName : record[7].split(TAG_SEPARATOR)) {
+                tags.add(new XmlAdaptedTag(tagName));
+            }
+        }
+        return new XmlAdaptedPerson(record[1], record[2], record[3], record[4], record[5], record[6], tags)
+                .toModelType();
+    }
+
+    private static PersonId toPersonId(String[] record) throws IllegalValueException {
+        if (record.length != 2 || !PersonId.isValidId(record[1])) {
+            throw new IllegalValueException("Malformed journal record: " + Arrays.toString(record));
+        }
+        return new PersonId(record[1], false);
+    }
+
+    /**
+     * A person as it was last persisted. Its existence is captured separately, as soft deletion modifies the person.
+     */
+    private static class PersistedPerson {
+        private final Person person;
+        private final boolean exists;
+
+        PersistedPerson(Person person) {
+            this.person = person;
+            this.exists = person.getExists();
+        }
+    }
+}
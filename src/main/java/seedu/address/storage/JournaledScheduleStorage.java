@@ -0,0 +1,245 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.Schedule;
+import seedu.address.model.event.EventId;
+import seedu.address.model.event.ScheduleEvent;
+
+/**
+ * A {@code ScheduleStorage} that keeps a full snapshot of the schedule alongside a journal of the events
+ * added, updated and removed since that snapshot was written.
+ *
+ * Each save appends only the events that changed since the previous save. Once the journal grows past the
+ * compaction threshold, the next save writes a fresh snapshot and clears the journal. Reading loads the snapshot
+ * and replays the journal on top of it, unless a crash left behind the journal of an older snapshot.
+ */
+public class JournaledScheduleStorage implements ScheduleStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledScheduleStorage.class);
+
+    private static final String OP_ADD = "A";
+    private static final String OP_UPDATE = "U";
+    private static final String OP_REMOVE = "R";
+    private static final int EVENT_RECORD_LENGTH = 7;
+    private static final String TAG_SEPARATOR = ",";
+
+    private final ScheduleStorage snapshotStorage;
+    private final JournalFile journal;
+    private final int compactionThreshold;
+
+    /** The events as of the last save or read, used to work out what the next save has to journal. */
+    private final Map<EventId, ScheduleEvent> persistedEvents = new HashMap<>();
+    private boolean isSynced = false;
+    private int journalSize = 0;
+
+    public JournaledScheduleStorage(ScheduleStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * @param snapshotStorage stores the snapshots. The journal is kept next to its file.
+     * @param compactionThreshold the number of journal records beyond which the next save writes a new snapshot.
+     */
+    public JournaledScheduleStorage(ScheduleStorage snapshotStorage, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.journal = JournalFile.forSnapshot(snapshotStorage.getScheduleFilePath());
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getScheduleFilePath() {
+        return snapshotStorage.getScheduleFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return journal.getFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlySchedule> readSchedule() throws DataConversionException, IOException, ParseException {
+        return readSchedule(getScheduleFilePath());
+    }
+
+    /**
+     * Similar to {@link #readSchedule()}, but only replays the journal when reading from the file of this storage.
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlySchedule> readSchedule(Path filePath)
+            throws DataConversionException, IOException, ParseException {
+        requireNonNull(filePath);
+        Optional<ReadOnlySchedule> snapshot = snapshotStorage.readSchedule(filePath);
+        if (!filePath.equals(getScheduleFilePath()) || !snapshot.isPresent()) {
+            return snapshot;
+        }
+
+        Map<EventId, ScheduleEvent> events = new LinkedHashMap<>();
+        for (ScheduleEvent event : snapshot.get().getAllEventList()) {
+            events.put(event.getId(), event);
+        }
+        List<String[]> records = journal.readAll();
+        for (String[] record : records) {
+            replay(record, events);
+        }
+        logger.fine("Replayed " + records.size() + " journal records onto " + filePath);
+
+        Schedule schedule = new Schedule();
+        schedule.setScheduleEvents(new ArrayList<>(events.values()));
+        markPersisted(schedule);
+        journalSize = records.size();
+        return Optional.of(schedule);
+    }
+
+    @Override
+    public void saveSchedule(ReadOnlySchedule schedule) throws IOException {
+        saveSchedule(schedule, getScheduleFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveSchedule(ReadOnlySchedule)}, but only journals the changes when saving to the file of
+     * this storage.
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public synchronized void saveSchedule(ReadOnlySchedule schedule, Path filePath) throws IOException {
+        requireNonNull(schedule);
+        requireNonNull(filePath);
+        if (!filePath.equals(getScheduleFilePath())) {
+            snapshotStorage.saveSchedule(schedule, filePath);
+            return;
+        }
+
+        List<String[]> records = isSynced ? getChangedRecords(schedule) : null;
+        if (records == null || journalSize + records.size() > compactionThreshold) {
+            compact(schedule);
+            return;
+        }
+        try {
+            journal.append(records);
+        } catch (IOException ioe) {
+            // the journal may now end in a partial record, so the next save must start over from a snapshot
+            isSynced = false;
+            throw ioe;
+        }
+        journalSize += records.size();
+        markPersisted(schedule);
+    }
+
+    /**
+     * Writes {@code schedule} as the new snapshot and clears the journal.
+     */
+    private void compact(ReadOnlySchedule schedule) throws IOException {
+        // a failed write leaves the files out of step with the persisted events, so stop trusting them first
+        isSynced = false;
+        snapshotStorage.saveSchedule(schedule);
+        journal.clear();
+        journalSize = 0;
+        markPersisted(schedule);
+        logger.fine("Compacted journal into snapshot " + getScheduleFilePath());
+    }
+
+    /**
+     * Returns the records that bring the persisted events up to date with {@code schedule}.
+     * Events are immutable, so they are compared by reference.
+     */
+    private List<String[]> getChangedRecords(ReadOnlySchedule schedule) {
+        List<String[]> records = new ArrayList<>();
+        Map<EventId, ScheduleEvent> unseenEvents = new HashMap<>(persistedEvents);
+        for (ScheduleEvent event : schedule.getAllEventList()) {
+            ScheduleEvent persisted = unseenEvents.remove(event.getId());
+            if (persisted == null) {
+                records.add(toRecord(OP_ADD, event));
+            } else if (persisted != event) {
+                records.add(toRecord(OP_UPDATE, event));
+            }
+        }
+        for (EventId removedId : unseenEvents.keySet()) {
+            records.add(new String[] {OP_REMOVE, removedId.value});
+        }
+        return records;
+    }
+
+    private void markPersisted(ReadOnlySchedule schedule) {
+        persistedEvents.clear();
+        for (ScheduleEvent event : schedule.getAllEventList()) {
+            persistedEvents.put(event.getId(), event);
+        }
+        isSynced = true;
+    }
+
+    private static String[] toRecord(String op, ScheduleEvent event) {
+        return new String[] {op, event.getId().value,
+            DateTimeUtil.format(event.getStartEpochMinute(), ScheduleEvent.STORAGE_FORMATTER),
+            DateTimeUtil.format(event.getEndEpochMinute(), ScheduleEvent.STORAGE_FORMATTER),
+            event.getPersonId().value, event.getDetails(),
+            event.getTags().stream().map(tag -> tag.tagName).collect(Collectors.joining(TAG_SEPARATOR))};
+    }
+
+    /**
+     * Applies a single journal record to {@code events}.
+     * @throws DataConversionException if the record is malformed or holds invalid event details.
+     */
+    private static void replay(String[] record, Map<EventId, ScheduleEvent> events)
+            throws DataConversionException, ParseException {
+        try {
+            switch (record[0]) {
+            case OP_ADD:
+            case OP_UPDATE:
+                ScheduleEvent event = toEvent(record);
+                events.put(event.getId(), event);
+                break;
+            case OP_REMOVE:
+                events.remove(toEventId(record));
+                break;
+            default:
+                throw new IllegalValueException("Unknown journal record: " + Arrays.toString(record));
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in journal: " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private static ScheduleEvent toEvent(String[] record) throws IllegalValueException, ParseException {
+        if (record.length != EVENT_RECORD_LENGTH) {
+            throw new IllegalValueException("Malformed journal record: " + Arrays.toString(record));
+        }
+        List<XmlAdaptedTag> tags = new ArrayList<>();
+        if (!record[6].isEmpty()) {
+            for (String tagName : record[6].split(TAG_SEPARATOR)) {
+                tags.add(new XmlAdaptedTag(tagName));
+            }
+        }
+        return new XmlAdaptedEvent(record[1], record[2], record[3], record[4], record[5], tags).toModelType();
+    }
+
+    private static EventId toEventId(String[] record) throws IllegalValueException {
+        if (record.length != 2 || !EventId.isValidId(record[1])) {
+            throw new IllegalValueException("Malformed journal record: " + Arrays.toString(record));
+        }
+        return new EventId(record[1], false);
+    }
+}
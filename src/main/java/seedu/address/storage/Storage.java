@@ -56,4 +56,10 @@ public interface Storage extends AddressBookStorage, ScheduleStorage, UserPrefsS
      *  Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleScheduleChangedEvent(ScheduleChangedEvent sce);
+
+    /**
+     * Writes out any changes that are still waiting to be saved, and blocks until they are on disk.
+     * No further changes are saved in the background afterwards. Should be called when the app stops.
+     */
+    void flushPendingSaves();
 }
@@ -4,37 +4,83 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.text.ParseException;
 import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.PerformanceStats;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.ScheduleChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.FrozenAddressBook;
+import seedu.address.model.FrozenSchedule;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlySchedule;
 import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ *
+ * Changes to the address book and schedule are either saved immediately on the thread that raised them, or, in
+ * write-behind mode, handed to a dedicated background thread which coalesces all changes made within
+ * {@code saveCoalescingWindowMillis} into a single write of the latest data.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
+    /** Names under which the durations of saves are recorded in {@code PerformanceStats}. */
+    public static final String SAVE_ADDRESS_BOOK_STATS_NAME = "storage.saveAddressBook";
+    public static final String SAVE_SCHEDULE_STATS_NAME = "storage.saveSchedule";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
+    private static final String WRITER_THREAD_NAME = "storage-writer";
+
     private AddressBookStorage addressBookStorage;
     private ScheduleStorage scheduleStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    // only used in write-behind mode
+    private ScheduledExecutorService writerExecutor;
+    private WriteBehindSaver<ReadOnlyAddressBook> addressBookSaver;
+    private WriteBehindSaver<ReadOnlySchedule> scheduleSaver;
 
     public StorageManager(AddressBookStorage addressBookStorage, ScheduleStorage scheduleStorage,
                           UserPrefsStorage userPrefsStorage) {
-        super();
+        this(addressBookStorage, scheduleStorage, userPrefsStorage, 0);
+    }
+
+    /**
+     * Creates a {@code StorageManager} that saves changes in write-behind mode if {@code saveCoalescingWindowMillis}
+     * is positive, or immediately otherwise.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, ScheduleStorage scheduleStorage,
+                          UserPrefsStorage userPrefsStorage, long saveCoalescingWindowMillis) {
+        // the data in change events is the live model, so it must be read, or copied, before the model changes again
+        super(EventsCenter.DIRECT_EXECUTOR);
         this.addressBookStorage = addressBookStorage;
         this.scheduleStorage = scheduleStorage;
         this.userPrefsStorage = userPrefsStorage;
+
+        if (saveCoalescingWindowMillis > 0) {
+            writerExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread writerThread = new Thread(runnable, WRITER_THREAD_NAME);
+                writerThread.setDaemon(true);
+                return writerThread;
+            });
+            addressBookSaver = new WriteBehindSaver<>(writerExecutor, saveCoalescingWindowMillis,
+                    this::saveAddressBook, e -> raise(new DataSavingExceptionEvent(e)));
+            scheduleSaver = new WriteBehindSaver<>(writerExecutor, saveCoalescingWindowMillis,
+                    this::saveSchedule, e -> raise(new DataSavingExceptionEvent(e)));
+        }
+    }
+
+    private boolean isWriteBehind() {
+        return writerExecutor != null && !writerExecutor.isShutdown();
     }
 
     // ================ UserPrefs methods ==============================
@@ -81,7 +127,14 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to address book data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        long startTime = System.nanoTime();
+        try {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+        } catch (IOException e) {
+            PerformanceStats.getInstance().recordError(SAVE_ADDRESS_BOOK_STATS_NAME);
+            throw e;
+        }
+        PerformanceStats.getInstance().recordLatency(SAVE_ADDRESS_BOOK_STATS_NAME, System.nanoTime() - startTime);
     }
 
 
@@ -89,6 +142,11 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local address book changed, saving to file"));
+        if (isWriteBehind()) {
+            // the model keeps changing while the write is pending, so hand over a copy, without indexes to build
+            addressBookSaver.submit(FrozenAddressBook.of(event.data));
+            return;
+        }
         try {
             saveAddressBook(event.data);
         } catch (IOException e) {
@@ -119,17 +177,40 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     public void saveSchedule(ReadOnlySchedule schedule, Path filePath) throws IOException {
         logger.fine("Attempting to write to schedule data file: " + filePath);
-        scheduleStorage.saveSchedule(schedule, filePath);
+        long startTime = System.nanoTime();
+        try {
+            scheduleStorage.saveSchedule(schedule, filePath);
+        } catch (IOException e) {
+            PerformanceStats.getInstance().recordError(SAVE_SCHEDULE_STATS_NAME);
+            throw e;
+        }
+        PerformanceStats.getInstance().recordLatency(SAVE_SCHEDULE_STATS_NAME, System.nanoTime() - startTime);
     }
 
     @Override
     @Subscribe
     public void handleScheduleChangedEvent(ScheduleChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local schedule changed, saving to file"));
+        if (isWriteBehind()) {
+            // the model keeps changing while the write is pending, so hand over a copy, without indexes to build
+            scheduleSaver.submit(FrozenSchedule.of(event.data));
+            return;
+        }
         try {
             saveSchedule(event.data);
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
     }
+
+    @Override
+    public void flushPendingSaves() {
+        if (!isWriteBehind()) {
+            return;
+        }
+        logger.info("Flushing pending saves");
+        addressBookSaver.flush();
+        scheduleSaver.flush();
+        writerExecutor.shutdown();
+    }
 }
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Saves snapshots of some data on a background executor, coalescing all snapshots submitted within a time window
+ * into a single write of the most recent one.
+ *
+ * @param <T> the type of the snapshots to be saved.
+ */
+public class WriteBehindSaver<T> {
+
+    /**
+     * Writes a snapshot to its storage.
+     */
+    @FunctionalInterface
+    public interface SaveAction<T> {
+        void save(T snapshot) throws IOException;
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final ScheduledExecutorService executor;
+    private final long windowMillis;
+    private final SaveAction<T> saveAction;
+    private final Consumer<IOException> failureHandler;
+
+    private final AtomicReference<T> pendingSnapshot = new AtomicReference<>();
+    private final AtomicBoolean isWriteScheduled = new AtomicBoolean(false);
+
+    /**
+     * @param executor the executor to perform writes on. Should be single-threaded so that writes stay ordered.
+     * @param windowMillis how long to wait for further snapshots before writing.
+     * @param saveAction performs the actual write.
+     * @param failureHandler is notified, on the executor thread, of any write that fails.
+     */
+    public WriteBehindSaver(ScheduledExecutorService executor, long windowMillis, SaveAction<T> saveAction,
+                            Consumer<IOException> failureHandler) {
+        requireNonNull(executor);
+        requireNonNull(saveAction);
+        requireNonNull(failureHandler);
+        this.executor = executor;
+        this.windowMillis = windowMillis;
+        this.saveAction = saveAction;
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Queues {@code snapshot} to be written, replacing any snapshot that has not been written yet.
+     * {@code snapshot} must not be modified afterwards.
+     */
+    public void submit(T snapshot) {
+        requireNonNull(snapshot);
+        pendingSnapshot.set(snapshot);
+        if (isWriteScheduled.compareAndSet(false, true)) {
+            executor.schedule(this::writePendingSnapshot, windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes the pending snapshot, if any, without waiting for the rest of the window, and blocks until it is done.
+     */
+    public void flush() {
+        try {
+            executor.submit(this::writePendingSnapshot).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while flushing pending save");
+        } catch (ExecutionException ee) {
+            logger.warning("Failed to flush pending save: " + ee.getCause());
+        }
+    }
+
+    private void writePendingSnapshot() {
+        // clear the flag before taking the snapshot so that a snapshot submitted concurrently is never stranded
+        isWriteScheduled.set(false);
+        T snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            saveAction.save(snapshot);
+        } catch (IOException e) {
+            failureHandler.accept(e);
+        }
+    }
+}
@@ -2,7 +2,6 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -12,7 +11,6 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlySchedule;
 
@@ -40,8 +38,7 @@ public class XmlScheduleStorage implements ScheduleStorage {
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
      */
-    public Optional<ReadOnlySchedule> readSchedule(Path filePath) throws DataConversionException,
-                                                                            FileNotFoundException,
+    public Optional<ReadOnlySchedule> readSchedule(Path filePath) throws DataConversionException, IOException,
                                                                             ParseException {
         requireNonNull(filePath);
 
@@ -50,12 +47,11 @@ public class XmlScheduleStorage implements ScheduleStorage {
             return Optional.empty();
         }
 
-        XmlSerializableSchedule xmlSchedule = XmlFileStorage.loadScheduleFromSaveFile(filePath);
         try {
-            return Optional.of(xmlSchedule.toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
+            return Optional.of(XmlStreamCodec.readSchedule(filePath));
+        } catch (DataConversionException dce) {
+            logger.info("Illegal values found in " + filePath + ": " + dce.getMessage());
+            throw dce;
         }
     }
 
@@ -75,6 +71,6 @@ public class XmlScheduleStorage implements ScheduleStorage {
         System.out.println(filePath);
 
         FileUtil.createIfMissing(filePath);
-        XmlFileStorage.saveScheduleToFile(filePath, new XmlSerializableSchedule(schedule));
+        XmlStreamCodec.writeSchedule(schedule, filePath);
     }
 }
@@ -0,0 +1,363 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.Schedule;
+import seedu.address.model.event.EventId;
+import seedu.address.model.event.ScheduleEvent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes the xml data files one element at a time, in the same format as {@link XmlFileStorage}.
+ *
+ * Reading converts each {@code <persons>} or {@code <events>} element into its model object as soon as the element
+ * ends, and writing streams each model object straight to the file, so neither keeps a document or a list of
+ * adapted objects of the whole file in memory. Unknown elements and attributes are skipped, as JAXB does.
+ */
+public class XmlStreamCodec {
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>";
+    private static final String NEWLINE = "\n";
+    private static final String INDENT = "    ";
+
+    private static final String ADDRESS_BOOK_ELEMENT = "addressbook";
+    private static final String PERSON_ELEMENT = "persons";
+    private static final String SCHEDULE_ELEMENT = "schedule";
+    private static final String EVENT_ELEMENT = "events";
+    private static final String TAG_ELEMENT = "tagged";
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    /**
+     * Returns the address book in {@code file}.
+     *
+     * @throws DataConversionException if the file is not well-formed xml or holds invalid or duplicate persons.
+     */
+    public static AddressBook readAddressBook(Path file) throws DataConversionException, IOException {
+        requireNonNull(file);
+        List<Person> persons = new ArrayList<>();
+        Set<PersonId> seenIds = new HashSet<>();
+        try (InputStream in = Files.newInputStream(file)) {
+            XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(in);
+            try {
+                requireRootElement(reader, ADDRESS_BOOK_ELEMENT);
+                while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                    if (!reader.getLocalName().equals(PERSON_ELEMENT)) {
+                        skipElement(reader);
+                        continue;
+                    }
+                    Person person = readPerson(reader);
+                    if (!seenIds.add(person.getId())) {
+                        throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                    }
+                    persons.add(person);
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    /**
+     * Returns the schedule in {@code file}.
+     *
+     * @throws DataConversionException if the file is not well-formed xml or holds invalid or duplicate events.
+     * @throws ParseException if the times of an event cannot be parsed.
+     */
+    public static Schedule readSchedule(Path file) throws DataConversionException, IOException, ParseException {
+        requireNonNull(file);
+        List<ScheduleEvent> events = new ArrayList<>();
+        Set<EventId> seenIds = new HashSet<>();
+        try (InputStream in = Files.newInputStream(file)) {
+            XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(in);
+            try {
+                requireRootElement(reader, SCHEDULE_ELEMENT);
+                while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                    if (!reader.getLocalName().equals(EVENT_ELEMENT)) {
+                        skipElement(reader);
+                        continue;
+                    }
+                    ScheduleEvent event = readEvent(reader);
+                    if (!seenIds.add(event.getId())) {
+                        throw new IllegalValueException(XmlSerializableSchedule.MESSAGE_DUPLICATE_EVENT);
+                    }
+                    events.add(event);
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+
+        Schedule schedule = new Schedule();
+        schedule.setScheduleEvents(events);
+        return schedule;
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code file}, replacing its contents.
+     */
+    public static void writeAddressBook(ReadOnlyAddressBook addressBook, Path file) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(file);
+        try (Writer out = openWriter(file)) {
+            XMLStreamWriter writer = startDocument(out, ADDRESS_BOOK_ELEMENT, addressBook.getPersonList().isEmpty());
+            for (Person person : addressBook.getPersonList()) {
+                writeStartElement(writer, 1, PERSON_ELEMENT);
+                writeElement(writer, "personId", person.getId().value);
+                writeElement(writer, "name", person.getName().fullName);
+                writeElement(writer, "phone", person.getPhone().value);
+                writeElement(writer, "email", person.getEmail().value);
+                writeElement(writer, "address", person.getAddress().value);
+                writeElement(writer, "exists", String.valueOf(person.getExists()));
+                writeTags(writer, person.getTags());
+                writeEndElement(writer, 1);
+            }
+            endDocument(writer, addressBook.getPersonList().isEmpty());
+        } catch (XMLStreamException xse) {
+            throw new IOException("Failed to write " + file, xse);
+        }
+    }
+
+    /**
+     * Writes {@code schedule} to {@code file}, replacing its contents.
+     */
+    public static void writeSchedule(ReadOnlySchedule schedule, Path file) throws IOException {
+        requireNonNull(schedule);
+        requireNonNull(file);
+        try (Writer out = openWriter(file)) {
+            XMLStreamWriter writer = startDocument(out, SCHEDULE_ELEMENT, schedule.getAllEventList().isEmpty());
+            for (ScheduleEvent event : schedule.getAllEventList()) {
+                writeStartElement(writer, 1, EVENT_ELEMENT);
+                writeElement(writer, "eventId", event.getId().value);
+                writeElement(writer, "datetimeStart",
+                        DateTimeUtil.format(event.getStartEpochMinute(), ScheduleEvent.STORAGE_FORMATTER));
+                writeElement(writer, "datetimeEnd",
+                        DateTimeUtil.format(event.getEndEpochMinute(), ScheduleEvent.STORAGE_FORMATTER));
+                writeElement(writer, "personId", event.getPersonId().value);
+                writeElement(writer, "details", event.getDetails());
+                writeTags(writer, event.getTags());
+                writeEndElement(writer, 1);
+            }
+            endDocument(writer, schedule.getAllEventList().isEmpty());
+        } catch (XMLStreamException xse) {
+            throw new IOException("Failed to write " + file, xse);
+        }
+    }
+
+    /**
+     * Reads the {@code <persons>} element the reader is at, leaving the reader at its end.
+     */
+    private static Person readPerson(XMLStreamReader reader) throws XMLStreamException, IllegalValueException {
+        String personId = null;
+        String name = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        String exists = null;
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case "personId":
+                personId = reader.getElementText();
+                break;
+            case "name":
+                name = reader.getElementText();
+                break;
+            case "phone":
+                phone = reader.getElementText();
+                break;
+            case "email":
+                email = reader.getElementText();
+                break;
+            case "address":
+                address = reader.getElementText();
+                break;
+            case "exists":
+                exists = reader.getElementText();
+                break;
+            case TAG_ELEMENT:
+                tagged.add(new XmlAdaptedTag(reader.getElementText()));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        // validated the same way as the JAXB path, and discarded as soon as the person is built
+        return new XmlAdaptedPerson(personId, name, phone, email, address, exists, tagged).toModelType();
+    }
+
+    /**
+     * Reads the {@code <events>} element the reader is at, leaving the reader at its end.
+     */
+    private static ScheduleEvent readEvent(XMLStreamReader reader)
+            throws XMLStreamException, IllegalValueException, ParseException {
+        String eventId = null;
+        String datetimeStart = null;
+        String datetimeEnd = null;
+        String personId = null;
+        String details = null;
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case "eventId":
+                eventId = reader.getElementText();
+                break;
+            case "datetimeStart":
+                datetimeStart = reader.getElementText();
+                break;
+            case "datetimeEnd":
+                datetimeEnd = reader.getElementText();
+                break;
+            case "personId":
+                personId = reader.getElementText();
+                break;
+            case "details":
+                details = reader.getElementText();
+                break;
+            case TAG_ELEMENT:
+                tagged.add(new XmlAdaptedTag(reader.getElementText()));
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedEvent(eventId, datetimeStart, datetimeEnd, personId, details, tagged).toModelType();
+    }
+
+    /**
+     * Moves the reader to the root element, which must be named {@code name}.
+     */
+    private static void requireRootElement(XMLStreamReader reader, String name)
+            throws XMLStreamException, IllegalValueException {
+        reader.nextTag();
+        if (!reader.getLocalName().equals(name)) {
+            throw new IllegalValueException("Expected <" + name + "> but found <" + reader.getLocalName() + ">");
+        }
+    }
+
+    /**
+     * Skips the element the reader is at, along with everything in it, leaving the reader at its end.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static Writer openWriter(Path file) throws IOException {
+        OutputStream out = new BufferedOutputStream(Files.newOutputStream(file));
+        return new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the xml declaration and opens the root element, laid out as JAXB's formatted output is.
+     */
+    private static XMLStreamWriter startDocument(Writer out, String rootName, boolean isEmpty)
+            throws IOException, XMLStreamException {
+        out.write(XML_DECLARATION);
+        out.write(NEWLINE);
+        XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(out);
+        if (isEmpty) {
+            writer.writeEmptyElement(rootName);
+        } else {
+            writer.writeStartElement(rootName);
+        }
+        return writer;
+    }
+
+    private static void endDocument(XMLStreamWriter writer, boolean isEmpty) throws XMLStreamException {
+        if (!isEmpty) {
+            writer.writeCharacters(NEWLINE);
+            writer.writeEndElement();
+        }
+        writer.writeCharacters(NEWLINE);
+        writer.writeEndDocument();
+        writer.close();
+    }
+
+    private static void writeStartElement(XMLStreamWriter writer, int depth, String name)
+            throws XMLStreamException {
+        writeIndent(writer, depth);
+        writer.writeStartElement(name);
+    }
+
+    private static void writeEndElement(XMLStreamWriter writer, int depth) throws XMLStreamException {
+        writeIndent(writer, depth);
+        writer.writeEndElement();
+    }
+
+    /**
+     * Writes a child element of a person or event holding just {@code text}.
+     */
+    private static void writeElement(XMLStreamWriter writer, String name, String text) throws XMLStreamException {
+        writeStartElement(writer, 2, name);
+        writer.writeCharacters(text);
+        writer.writeEndElement();
+    }
+
+    private static void writeTags(XMLStreamWriter writer, Set<Tag> tags) throws XMLStreamException {
+        for (Tag tag : tags) {
+            writeElement(writer, TAG_ELEMENT, tag.tagName);
+        }
+    }
+
+    private static void writeIndent(XMLStreamWriter writer, int depth) throws XMLStreamException {
+        writer.writeCharacters(NEWLINE);
+        for (int i = 0; i < depth; i++) {
+            writer.writeCharacters(INDENT);
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // the data files never need a DTD, and resolving external entities would let a file read other files
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
@@ -1,9 +1,14 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
@@ -26,6 +31,9 @@ public class CommandBox extends UiPart<Region> {
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final Logic logic;
     private ListElementPointer historySnapshot;
+    /** Shows the completions of the patient name or id being typed, if there are any. */
+    private final ContextMenu completionMenu = new ContextMenu();
+    private List<String> completions = new ArrayList<>();
 
     @FXML
     private TextField commandTextField;
@@ -35,6 +43,8 @@ public class CommandBox extends UiPart<Region> {
         this.logic = logic;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // looks up completions for every change; the lookups are in prefix tries, so typing is not held up
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> updateCompletions(newText));
         historySnapshot = logic.getHistorySnapshot();
     }
 
@@ -55,6 +65,14 @@ public class CommandBox extends UiPart<Region> {
             keyEvent.consume();
             navigateToNextInput();
             break;
+        case TAB:
+            // consumed so that the focus stays in the command box
+            keyEvent.consume();
+            acceptFirstCompletion();
+            break;
+        case ESCAPE:
+            completionMenu.hide();
+            break;
         default:
             // let JavaFx handle the keypress
         }
@@ -71,6 +89,7 @@ public class CommandBox extends UiPart<Region> {
         }
 
         replaceText(historySnapshot.previous());
+        completionMenu.hide();
     }
 
     /**
@@ -84,6 +103,40 @@ public class CommandBox extends UiPart<Region> {
         }
 
         replaceText(historySnapshot.next());
+        completionMenu.hide();
+    }
+
+    /**
+     * Looks up the completions of {@code commandText} and shows them below the text field, or hides them if there are
+     * none.
+     */
+    private void updateCompletions(String commandText) {
+        completions = logic.getCompletions(commandText);
+        if (completions.isEmpty()) {
+            completionMenu.hide();
+            return;
+        }
+
+        List<MenuItem> items = new ArrayList<>();
+        for (String completion : completions) {
+            MenuItem item = new MenuItem(completion);
+            item.setOnAction(unused -> replaceText(completion));
+            items.add(item);
+        }
+        completionMenu.getItems().setAll(items);
+        if (!completionMenu.isShowing()) {
+            completionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    /**
+     * Replaces the text field with the first completion shown, if there is one.
+     */
+    private void acceptFirstCompletion() {
+        if (completions.isEmpty()) {
+            return;
+        }
+        replaceText(completions.get(0));
     }
 
     /**
@@ -100,6 +153,7 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
+        completionMenu.hide();
         try {
             CommandResult commandResult = logic.execute(commandTextField.getText());
             initHistory();
@@ -0,0 +1,82 @@
+package seedu.address.ui;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.MainApp;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Loads the classes that the FXML documents of the UI import, so that building the windows later on the
+ * JavaFX application thread does not have to stop to load them.
+ *
+ * The classes are only loaded, not initialized, so this is safe to call from any thread.
+ */
+public class FxmlPreloader {
+
+    private static final Logger logger = LogsCenter.getLogger(FxmlPreloader.class);
+
+    /** FXML documents that are loaded while the main windows are built. */
+    private static final String[] STARTUP_FXML_FILES = {
+        "MainWindow.fxml", "AppointmentMainWindow.fxml", "CommandBox.fxml", "ResultDisplay.fxml",
+        "StatusBarFooter.fxml", "PersonListPanel.fxml", "PersonListCard.fxml", "PersonBrowsePanel.fxml",
+        "AppointmentPanel.fxml", "AppointmentCard.fxml", "AppointmentNotePanel.fxml", "HelpWindow.fxml"
+    };
+
+    private static final Pattern IMPORT_PATTERN = Pattern.compile("<\\?import\\s+([\\w.$]+)\\s*\\?>");
+
+    private FxmlPreloader() {} // prevents instantiation
+
+    /**
+     * Loads the classes imported by each of {@code STARTUP_FXML_FILES}.
+     * FXML documents or classes that cannot be found are skipped, as loading the FXML document will report them.
+     * @return the number of classes loaded
+     */
+    public static int preload() {
+        int loadedCount = 0;
+        for (String fxmlFileName : STARTUP_FXML_FILES) {
+            String location = UiPart.FXML_FILE_FOLDER + fxmlFileName;
+            try (InputStream inputStream = MainApp.class.getResourceAsStream(location)) {
+                if (inputStream == null) {
+                    logger.warning("Cannot preload missing FXML document " + location);
+                    continue;
+                }
+                loadedCount += loadImportedClasses(inputStream);
+            } catch (IOException ioe) {
+                logger.warning("Failed to preload FXML document " + location + ": " + ioe.getMessage());
+            }
+        }
+        return loadedCount;
+    }
+
+    /**
+     * Loads the classes named by the import processing instructions of the FXML document in {@code inputStream}.
+     * @return the number of classes loaded
+     */
+    private static int loadImportedClasses(InputStream inputStream) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        ClassLoader classLoader = FxmlPreloader.class.getClassLoader();
+        int loadedCount = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            Matcher matcher = IMPORT_PATTERN.matcher(line);
+            if (!matcher.find()) {
+                continue;
+            }
+            try {
+                Class.forName(matcher.group(1), false, classLoader);
+                loadedCount++;
+            } catch (ClassNotFoundException e) {
+                // the FXML loader reports classes that are missing when it loads the document
+                logger.fine("Skipping FXML import " + matcher.group(1));
+            }
+        }
+        return loadedCount;
+    }
+}
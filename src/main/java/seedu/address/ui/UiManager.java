@@ -40,7 +40,7 @@ public class UiManager extends ComponentManager implements Ui {
     private MainWindow mainWindow;
     private AppointmentMainWindow appointmentMainWindow;
     public UiManager(Logic logic, Config config, UserPrefs prefs) {
-        super();
+        super(Platform::runLater);
         this.logic = logic;
         this.config = config;
         this.prefs = prefs;
@@ -152,6 +152,11 @@ public class UiManager extends ComponentManager implements Ui {
     @Subscribe
     private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        // background saves report failures from the storage writer thread, but alerts must be shown on the FX thread
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> handleDataSavingExceptionEvent(event));
+            return;
+        }
         showFileOperationAlertAndWait(FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE, FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE,
                 event.exception);
     }
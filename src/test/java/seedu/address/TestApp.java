@@ -57,6 +57,8 @@ public class TestApp extends MainApp {
         Config config = super.initConfig(configFilePath);
         config.setAppTitle(APP_TITLE);
         config.setUserPrefsFilePath(DEFAULT_PREF_FILE_LOCATION_FOR_TESTING);
+        // keep performance reports out of the working directory
+        config.setStatsDumpIntervalSeconds(0);
         return config;
     }
 
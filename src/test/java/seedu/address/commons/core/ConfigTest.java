@@ -16,7 +16,12 @@ public class ConfigTest {
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "App title : Patient Book\n"
                 + "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Save coalescing window (ms) : 500\n"
+                + "Binary snapshots enabled : true\n"
+                + "Stats file Location : stats.txt\n"
+                + "Stats dump interval (s) : 300\n"
+                + "Async events enabled : false";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
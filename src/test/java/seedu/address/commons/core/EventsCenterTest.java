@@ -0,0 +1,119 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.ListChange;
+import seedu.address.commons.events.ui.NewResultAvailableEvent;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class EventsCenterTest {
+
+    private final EventsHandler handler = new EventsHandler();
+    private final List<Runnable> pendingTasks = new ArrayList<>();
+    private EventsCenter eventsCenter;
+
+    @Before
+    public void setUp() {
+        EventsCenter.clearSubscribers();
+        eventsCenter = EventsCenter.getInstance();
+    }
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void post_defaultDispatch_handledBeforeReturning() {
+        eventsCenter.registerHandler(handler, pendingTasks::add);
+        BaseEvent event = new NewResultAvailableEvent("result");
+        eventsCenter.post(event);
+        assertEquals(Arrays.asList(event), handler.handledEvents);
+        assertTrue(pendingTasks.isEmpty());
+    }
+
+    @Test
+    public void post_asyncDispatch_handledThroughExecutorInOrder() {
+        eventsCenter.setAsyncDispatch(true);
+        eventsCenter.registerHandler(handler, pendingTasks::add);
+        BaseEvent firstEvent = new NewResultAvailableEvent("first");
+        BaseEvent secondEvent = new NewResultAvailableEvent("second");
+        eventsCenter.post(firstEvent).post(secondEvent);
+        assertTrue(handler.handledEvents.isEmpty());
+
+        runPendingTasks();
+        assertEquals(Arrays.asList(firstEvent, secondEvent), handler.handledEvents);
+    }
+
+    @Test
+    public void post_asyncDispatchBurstOfChanges_onlyLatestChangeHandled() {
+        eventsCenter.setAsyncDispatch(true);
+        eventsCenter.registerHandler(handler, pendingTasks::add);
+        BaseEvent result = new NewResultAvailableEvent("result");
+        BaseEvent latestChange = new AddressBookChangedEvent(new AddressBook());
+        eventsCenter.post(new AddressBookChangedEvent(new AddressBook()))
+                .post(result)
+                .post(new AddressBookChangedEvent(new AddressBook()))
+                .post(latestChange);
+        assertEquals(2, pendingTasks.size());
+
+        runPendingTasks();
+        assertEquals(Arrays.asList(latestChange, result), handler.handledEvents);
+
+        // a change after the burst has been handled is handled again
+        BaseEvent nextChange = new AddressBookChangedEvent(new AddressBook());
+        eventsCenter.post(nextChange);
+        runPendingTasks();
+        assertEquals(Arrays.asList(latestChange, result, nextChange), handler.handledEvents);
+    }
+
+    @Test
+    public void post_asyncDispatchBurstOfListChanges_handledAsReset() {
+        eventsCenter.setAsyncDispatch(true);
+        eventsCenter.registerHandler(handler, pendingTasks::add);
+        AddressBook addressBook = new AddressBook();
+        Person person = new PersonBuilder().build();
+        eventsCenter.post(new AddressBookChangedEvent(addressBook, ListChange.added(0, person)))
+                .post(new AddressBookChangedEvent(addressBook, ListChange.removed(0, person)));
+
+        runPendingTasks();
+        assertEquals(1, handler.handledEvents.size());
+        AddressBookChangedEvent handledEvent = (AddressBookChangedEvent) handler.handledEvents.get(0);
+        assertEquals(ListChange.Type.RESET, handledEvent.change.getType());
+        assertSame(addressBook, handledEvent.data);
+    }
+
+    private void runPendingTasks() {
+        List<Runnable> tasks = new ArrayList<>(pendingTasks);
+        pendingTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    /**
+     * Keeps every event it handles.
+     */
+    private static class EventsHandler {
+        private final List<BaseEvent> handledEvents = new ArrayList<>();
+
+        @Subscribe
+        public void handleEvent(BaseEvent event) {
+            handledEvents.add(event);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class LatencyHistogramTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void getBucketIndex_anyDuration_withinSixteenthOfBucketEnd() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 10000; i++) {
+            long nanos = (random.nextLong() >>> 1) >>> random.nextInt(Long.SIZE - 1);
+            int index = LatencyHistogram.getBucketIndex(nanos);
+            long bucketEnd = LatencyHistogram.getBucketEnd(index);
+            assertTrue(nanos <= bucketEnd);
+            assertTrue(bucketEnd - nanos <= nanos / 16);
+            // the next bucket starts right after this one ends
+            if (bucketEnd < Long.MAX_VALUE) {
+                assertEquals(index + 1, LatencyHistogram.getBucketIndex(bucketEnd + 1));
+            }
+        }
+        assertEquals(0, LatencyHistogram.getBucketIndex(0));
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.getBucketEnd(LatencyHistogram.getBucketIndex(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void getNanosAtPercentile_noDurations_zero() {
+        assertEquals(0, histogram.getNanosAtPercentile(50));
+        assertEquals(0, histogram.getMeanNanos(), 0);
+    }
+
+    @Test
+    public void getNanosAtPercentile_durations_closeToExactPercentile() {
+        for (long millis = 1; millis <= 1000; millis++) {
+            histogram.record(millis * 1_000_000);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500.5e6, histogram.getMeanNanos(), 1);
+        assertEquals(1_000_000_000, histogram.getMaxNanos());
+        assertEquals(1_000_000, histogram.getNanosAtPercentile(0), 1_000_000 / 16);
+        assertEquals(500_000_000, histogram.getNanosAtPercentile(50), 500_000_000 / 16);
+        assertEquals(990_000_000, histogram.getNanosAtPercentile(99), 990_000_000 / 16);
+        // never more than the longest duration recorded
+        assertEquals(1_000_000_000, histogram.getNanosAtPercentile(100));
+    }
+
+    @Test
+    public void record_negativeDuration_recordedAsZero() {
+        histogram.record(-5);
+        assertEquals(0, histogram.getNanosAtPercentile(100));
+    }
+
+    @Test
+    public void getNanosAtPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        histogram.getNanosAtPercentile(101);
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class CompressedBitSetTest {
+
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    @Test
+    public void add_negativeValue_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new CompressedBitSet().add(-1));
+    }
+
+    @Test
+    public void addRemoveContains() {
+        CompressedBitSet set = new CompressedBitSet();
+        assertTrue(set.isEmpty());
+        assertTrue(set.add(3));
+        assertFalse(set.add(3));
+        assertTrue(set.add(5 * CHUNK_SIZE + 1));
+        assertTrue(set.contains(3));
+        assertTrue(set.contains(5 * CHUNK_SIZE + 1));
+        assertFalse(set.contains(4));
+        assertFalse(set.contains(-3));
+        assertEquals(2, set.cardinality());
+
+        assertTrue(set.remove(3));
+        assertFalse(set.remove(3));
+        assertFalse(set.remove(Integer.MAX_VALUE));
+        assertArrayEquals(new int[] {5 * CHUNK_SIZE + 1}, set.toArray());
+    }
+
+    @Test
+    public void add_manyValuesInChunk_switchesBetweenArrayAndBitmap() {
+        CompressedBitSet set = new CompressedBitSet();
+        for (int i = 0; i < CompressedBitSet.MAX_ARRAY_SIZE; i++) {
+            set.add(2 * i);
+        }
+        assertFalse(set.isBitmapChunk(0));
+
+        set.add(1);
+        assertTrue(set.isBitmapChunk(0));
+        assertEquals(CompressedBitSet.MAX_ARRAY_SIZE + 1, set.cardinality());
+
+        set.remove(0);
+        assertFalse(set.isBitmapChunk(0));
+        assertTrue(set.contains(1));
+        assertFalse(set.contains(0));
+        assertEquals(CompressedBitSet.MAX_ARRAY_SIZE, set.cardinality());
+    }
+
+    @Test
+    public void andOr_randomSets_sameAsBitSet() {
+        Random random = new Random(42);
+        // sparse and dense sets, so that every pairing of arrays and bitmaps is covered
+        int[] sizes = {10, 3000, 20000};
+        for (int firstSize : sizes) {
+            for (int secondSize : sizes) {
+                BitSet firstExpected = new BitSet();
+                BitSet secondExpected = new BitSet();
+                CompressedBitSet first = fill(random, firstSize, firstExpected);
+                CompressedBitSet second = fill(random, secondSize, secondExpected);
+
+                BitSet expectedAnd = (BitSet) firstExpected.clone();
+                expectedAnd.and(secondExpected);
+                assertArrayEquals(expectedAnd.stream().toArray(), first.and(second).toArray());
+
+                BitSet expectedOr = (BitSet) firstExpected.clone();
+                expectedOr.or(secondExpected);
+                assertArrayEquals(expectedOr.stream().toArray(), first.or(second).toArray());
+                assertEquals(expectedOr.cardinality(), second.or(first).cardinality());
+
+                // the operands are left as they were
+                assertArrayEquals(firstExpected.stream().toArray(), first.toArray());
+            }
+        }
+    }
+
+    /**
+     * Adds {@code count} random values from the first two chunks to a new set and to {@code expected}.
+     */
+    private static CompressedBitSet fill(Random random, int count, BitSet expected) {
+        CompressedBitSet set = new CompressedBitSet();
+        for (int i = 0; i < count; i++) {
+            int value = random.nextInt(2 * CHUNK_SIZE);
+            set.add(value);
+            expected.set(value);
+        }
+        assertEquals(expected.cardinality(), set.cardinality());
+        return set;
+    }
+}
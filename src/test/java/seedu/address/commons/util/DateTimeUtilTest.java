@@ -0,0 +1,58 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Calendar;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class DateTimeUtilTest {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void toEpochMinute_millis_roundsDown() {
+        assertEquals(0, DateTimeUtil.toEpochMinute(59_999L));
+        assertEquals(1, DateTimeUtil.toEpochMinute(60_000L));
+        assertEquals(-1, DateTimeUtil.toEpochMinute(-1L));
+    }
+
+    @Test
+    public void toEpochMinute_calendar_dropsSeconds() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(2018, Calendar.NOVEMBER, 10, 9, 30, 45);
+        long epochMinute = DateTimeUtil.toEpochMinute(calendar);
+
+        Calendar converted = DateTimeUtil.toCalendar(epochMinute);
+        assertEquals(9, converted.get(Calendar.HOUR_OF_DAY));
+        assertEquals(30, converted.get(Calendar.MINUTE));
+        assertEquals(0, converted.get(Calendar.SECOND));
+        assertEquals(0, converted.get(Calendar.MILLISECOND));
+    }
+
+    @Test
+    public void toLocalDateTime_afterToEpochMinute_sameDateTime() {
+        LocalDateTime dateTime = LocalDateTime.of(2018, 11, 10, 9, 30);
+        assertEquals(dateTime, DateTimeUtil.toLocalDateTime(DateTimeUtil.toEpochMinute(dateTime)));
+    }
+
+    @Test
+    public void format_afterParse_sameText() {
+        String text = "01/11/2018 14:27";
+        assertEquals(text, DateTimeUtil.format(DateTimeUtil.parseEpochMinute(text, FORMATTER), FORMATTER));
+    }
+
+    @Test
+    public void parseEpochMinute_invalidText_throwsDateTimeParseException() {
+        thrown.expect(DateTimeParseException.class);
+        DateTimeUtil.parseEpochMinute("1/11/2018 14:27", FORMATTER);
+    }
+}
@@ -1,27 +1,22 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
-import org.junit.Rule;
+import java.util.List;
+
 import org.junit.Test;
-import org.junit.rules.ExpectedException;
 
 public class DrugCsvUtilTest {
 
-    private static final String TEST_KEYWORD = "Lyrica";
-
-    @Rule
-    public ExpectedException thrown = ExpectedException.none();
+    private static final String TEST_KEYWORD = "lyrica";
 
     @Test
-    public void returnsNullEventually() throws Exception {
-        DrugCsvUtil testutil = new DrugCsvUtil(TEST_KEYWORD);
-        String[] nextRecord;
-        while ((nextRecord = testutil.nextMatchingEntry()) != null) {
-            // do nothing
-        }
-        for (int i = 1; i <= 5; i++) {
-            assertTrue((nextRecord = testutil.nextMatchingEntry()) == null);
-        }
+    public void readAllEntries_headerSkippedAndEveryEntryRead() throws Exception {
+        List<String[]> entries = DrugCsvUtil.readAllEntries();
+        assertFalse(entries.isEmpty());
+        assertNotEquals("product_name", entries.get(0)[1]);
+        assertTrue(entries.stream().anyMatch(entry -> entry[1].toLowerCase().contains(TEST_KEYWORD)));
     }
 }
@@ -0,0 +1,96 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class PrefixTrieTest {
+
+    @Test
+    public void getCompletions_negativeLimit_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new PrefixTrie().getCompletions("a", -1));
+    }
+
+    @Test
+    public void addRemoveGetCount() {
+        PrefixTrie trie = new PrefixTrie();
+        trie.add("tan");
+        trie.add("tang");
+        trie.add("tan");
+        assertEquals(2, trie.getCount("tan"));
+        assertEquals(1, trie.getCount("tang"));
+        assertEquals(0, trie.getCount("ta"));
+        assertEquals(0, trie.getCount("tango"));
+        assertEquals(2, trie.size());
+
+        assertTrue(trie.remove("tan"));
+        assertEquals(1, trie.getCount("tan"));
+        assertTrue(trie.remove("tan"));
+        assertFalse(trie.remove("tan"));
+        assertFalse(trie.remove("ta"));
+        assertEquals(1, trie.size());
+        assertEquals(Collections.singletonList("tang"), trie.getCompletions("t", 5));
+
+        trie.clear();
+        assertEquals(0, trie.size());
+        assertEquals(Collections.emptyList(), trie.getCompletions("", 5));
+    }
+
+    @Test
+    public void getCompletions_mostCountedFirstThenShortestThenAlphabetical() {
+        PrefixTrie trie = new PrefixTrie();
+        for (String key : Arrays.asList("tan", "tang", "tang", "tay", "teo", "lim", "ta")) {
+            trie.add(key);
+        }
+        assertEquals(Arrays.asList("tang", "ta", "tan", "tay", "teo"), trie.getCompletions("t", 10));
+        assertEquals(Arrays.asList("tang", "ta"), trie.getCompletions("t", 2));
+        // the prefix may end in the middle of a label
+        assertEquals(Arrays.asList("tang", "tan"), trie.getCompletions("tan", 10));
+        assertEquals(Collections.singletonList("tang"), trie.getCompletions("tang", 10));
+        assertEquals(Collections.emptyList(), trie.getCompletions("tb", 10));
+        assertEquals(Collections.emptyList(), trie.getCompletions("tangs", 10));
+        assertEquals(Collections.emptyList(), trie.getCompletions("t", 0));
+    }
+
+    @Test
+    public void getCompletions_randomAddsAndRemoves_sameAsSortingAllKeys() {
+        Random random = new Random(42);
+        PrefixTrie trie = new PrefixTrie();
+        Map<String, Integer> counts = new TreeMap<>();
+        for (int i = 0; i < 5000; i++) {
+            String key = "p" + random.nextInt(300);
+            if (random.nextInt(3) == 0) {
+                assertEquals(counts.containsKey(key), trie.remove(key));
+                counts.computeIfPresent(key, (unused, count) -> count == 1 ? null : count - 1);
+            } else {
+                trie.add(key);
+                counts.merge(key, 1, Integer::sum);
+            }
+        }
+        assertEquals(counts.size(), trie.size());
+
+        for (String prefix : Arrays.asList("", "p", "p1", "p12", "p29", "p7", "p299", "q")) {
+            List<String> expected = counts.keySet().stream()
+                    .filter(key -> key.startsWith(prefix))
+                    .sorted(Comparator.comparingInt((String key) -> -counts.get(key))
+                            .thenComparingInt(String::length)
+                            .thenComparing(key -> key))
+                    .limit(7)
+                    .collect(Collectors.toList());
+            assertEquals(expected, trie.getCompletions(prefix, 7));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.AddressBookModel;
+import seedu.address.model.AddressBookModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.testutil.PersonBuilder;
+
+public class CommandCompleterTest {
+
+    private AddressBookModel addressBookModel;
+    private CommandCompleter completer;
+
+    @Before
+    public void setUp() {
+        addressBookModel = new AddressBookModelManager(getTypicalAddressBook(), new UserPrefs());
+        addressBookModel.addPerson(withId(new PersonBuilder().withName("Peter Tan").build(), "p987001"));
+        addressBookModel.addPerson(withId(new PersonBuilder().withName("Paula Lim").build(), "p987002"));
+        addressBookModel.addPerson(withId(new PersonBuilder().withName("Pam Ong").build(), "p98700"));
+        completer = new CommandCompleter(addressBookModel);
+    }
+
+    @Test
+    public void getCompletions_findPatient_completesNameWordsMostCommonFirst() {
+        // three persons are named Meier and one Meyer
+        assertEquals(Arrays.asList("find patient Meier", "find patient Meyer"),
+                completer.getCompletions("find patient Me"));
+        assertEquals(Collections.singletonList("find patient alice Meyer"),
+                completer.getCompletions("find patient alice Mey"));
+    }
+
+    @Test
+    public void getCompletions_partialId_completesIdsBeforeNames() {
+        assertEquals(Arrays.asList("find patient p987001", "find patient p987002"),
+                completer.getCompletions("find patient p98700"));
+        // names that are as common as each other come shortest first, and ids only after them
+        assertEquals(Arrays.asList("find patient pam", "find patient paula", "find patient peter",
+                "find patient pauline"), completer.getCompletions("find patient p").subList(0, 4));
+    }
+
+    @Test
+    public void getCompletions_addAppointmentFor_completesNamesAndIds() {
+        assertEquals(Collections.singletonList("add appointment for Peter"),
+                completer.getCompletions("add appointment for Pe"));
+        assertEquals(Collections.singletonList("add appointment for Peter tan"),
+                completer.getCompletions("add appointment for Peter ta"));
+    }
+
+    @Test
+    public void getCompletions_selectOrEditPatient_completesIdsOnly() {
+        assertEquals(Arrays.asList("select patient p987001", "select patient p987002"),
+                completer.getCompletions("select patient p98700"));
+        assertEquals(Collections.emptyList(), completer.getCompletions("select patient pe"));
+        assertEquals(Arrays.asList("edit patient p987001", "edit patient p987002"),
+                completer.getCompletions("edit patient p98700"));
+        // only the id of edit is completed, not its other arguments
+        assertEquals(Collections.emptyList(), completer.getCompletions("edit patient p987001 p98700"));
+    }
+
+    @Test
+    public void getCompletions_deletedPatient_notCompleted() {
+        addressBookModel.deletePerson(addressBookModel.getPersonById(new PersonId("p987002", false)));
+        assertEquals(Collections.singletonList("select patient p987001"),
+                completer.getCompletions("select patient p98700"));
+        assertEquals(Collections.singletonList("find patient pauline"), completer.getCompletions("find patient pau"));
+    }
+
+    @Test
+    public void getCompletions_noPatientExpected_noCompletions() {
+        assertEquals(Collections.emptyList(), completer.getCompletions(""));
+        assertEquals(Collections.emptyList(), completer.getCompletions("find"));
+        assertEquals(Collections.emptyList(), completer.getCompletions("find patient "));
+        assertEquals(Collections.emptyList(), completer.getCompletions("find drug pa"));
+        assertEquals(Collections.emptyList(), completer.getCompletions("delete patient p98700"));
+        assertEquals(Collections.emptyList(), completer.getCompletions("add patient n/Pe"));
+        // a word typed in full is not completed to itself
+        assertEquals(Collections.emptyList(), completer.getCompletions("find patient peter"));
+    }
+
+    private static Person withId(Person person, String id) {
+        return new Person(new PersonId(id, false), person.getName(), person.getPhone(), person.getEmail(),
+                person.getAddress(), true, person.getTags());
+    }
+}
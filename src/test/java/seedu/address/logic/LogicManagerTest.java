@@ -2,12 +2,15 @@ package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_APPOINTMENT;
 import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_PATIENT;
 
+import org.junit.After;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.core.PerformanceStats;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.HistoryCommand;
@@ -34,6 +37,11 @@ public class LogicManagerTest {
     private DiagnosisModel diagnosisModel = new DiagnosisModelManager();
     private Logic logic = new LogicManager(addressBookModel, scheduleModel, diagnosisModel);
 
+    @After
+    public void tearDown() {
+        PerformanceStats.clear();
+    }
+
     @Test
     public void execute_invalidCommandFormat_throwsParseException() {
         String invalidCommand = "uicfhmowqewca";
@@ -55,6 +63,50 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void execute_commands_timingsAndErrorsRecorded() {
+        PerformanceStats.clear();
+        String listCommand = ListCommand.COMMAND_WORD + " " + CMDTYPE_PATIENT;
+        assertCommandSuccess(listCommand, ListCommand.MESSAGE_PERSON_SUCCESS, addressBookModel);
+        assertCommandSuccess(listCommand, ListCommand.MESSAGE_PERSON_SUCCESS, addressBookModel);
+        assertCommandException("delete patient p9001", String.format(DeleteCommand.MESSAGE_PERSON_ID_NOT_FOUND,
+                "p9001"));
+        assertParseException("uicfhmowqewca", MESSAGE_UNKNOWN_COMMAND);
+
+        PerformanceStats stats = PerformanceStats.getInstance();
+        String listStatsName = LogicManager.COMMAND_STATS_PREFIX + ListCommand.COMMAND_WORD + "." + CMDTYPE_PATIENT;
+        assertEquals(2, stats.getCount(listStatsName + LogicManager.PARSE_STATS_SUFFIX));
+        assertEquals(2, stats.getCount(listStatsName + LogicManager.EXECUTE_STATS_SUFFIX));
+        assertEquals(0, stats.getErrorCount(listStatsName));
+
+        String deleteStatsName = LogicManager.COMMAND_STATS_PREFIX + DeleteCommand.COMMAND_WORD + "." + CMDTYPE_PATIENT;
+        assertEquals(1, stats.getCount(deleteStatsName + LogicManager.PARSE_STATS_SUFFIX));
+        assertEquals(0, stats.getCount(deleteStatsName + LogicManager.EXECUTE_STATS_SUFFIX));
+        assertEquals(1, stats.getErrorCount(deleteStatsName));
+        // no prompt was opened
+        assertEquals(0, stats.getCount(listStatsName + LogicManager.PROMPT_STATS_SUFFIX));
+
+        // mistyped command words are all counted as unknown
+        assertEquals(1, stats.getErrorCount(LogicManager.COMMAND_STATS_PREFIX + LogicManager.UNKNOWN_COMMAND_WORD));
+        assertEquals(0, stats.getErrorCount(LogicManager.COMMAND_STATS_PREFIX + "uicfhmowqewca"));
+    }
+
+    @Test
+    public void execute_commandTypes_timedSeparately() {
+        PerformanceStats.clear();
+        assertCommandSuccess(ListCommand.COMMAND_WORD + " " + CMDTYPE_PATIENT, ListCommand.MESSAGE_PERSON_SUCCESS,
+                addressBookModel);
+        assertCommandSuccess(ListCommand.COMMAND_WORD + " " + CMDTYPE_APPOINTMENT,
+                ListCommand.MESSAGE_APPOINTMENT_SUCCESS, addressBookModel);
+
+        PerformanceStats stats = PerformanceStats.getInstance();
+        String listStatsName = LogicManager.COMMAND_STATS_PREFIX + ListCommand.COMMAND_WORD;
+        assertEquals(1, stats.getCount(listStatsName + "." + CMDTYPE_PATIENT + LogicManager.EXECUTE_STATS_SUFFIX));
+        assertEquals(1, stats.getCount(listStatsName + "." + CMDTYPE_APPOINTMENT
+                + LogicManager.EXECUTE_STATS_SUFFIX));
+        assertEquals(0, stats.getCount(listStatsName + LogicManager.EXECUTE_STATS_SUFFIX));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -38,6 +38,7 @@ import org.junit.rules.ExpectedException;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.AddressBookModel;
 import seedu.address.model.AddressBookModelManager;
 import seedu.address.model.DiagnosisModel;
@@ -182,6 +183,40 @@ public class AddCommandTest {
         testAddressBookModel(sb.toString());
     }
 
+    @Test
+    public void parsePatient_sameContactAsExistingPatient_addedWithWarning() throws Exception {
+        AddressBookModel addressBookModel = new AddressBookModelManager();
+        Person existingPerson = new PersonBuilder(ALICE).build();
+        addressBookModel.addPerson(existingPerson);
+        String expectedWarning = "\n" + String.format(AddCommand.MESSAGE_POSSIBLE_DUPLICATE_PERSON,
+                existingPerson.getName() + " (" + existingPerson.getId() + ")");
+        Person newPerson = new PersonBuilder().withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB)
+                .withEmail(VALID_EMAIL_BOB).withAddress(VALID_ADDRESS_BOB).build();
+
+        // same phone number
+        CommandResult result = new AddCommand(CMDTYPE_PATIENT, PersonUtil.getPersonDetails(
+                new PersonBuilder(newPerson).withPhone(DEFAULT_PHONE).build())).execute(addressBookModel,
+                new ScheduleModelManager(), new DiagnosisModelManager(), new CommandHistory());
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS_ADDRESSBOOK, VALID_NAME_BOB) + expectedWarning,
+                result.feedbackToUser);
+
+        // same email in another case
+        addressBookModel.resetData(new AddressBook());
+        addressBookModel.addPerson(existingPerson);
+        result = new AddCommand(CMDTYPE_PATIENT, PersonUtil.getPersonDetails(
+                new PersonBuilder(newPerson).withEmail(DEFAULT_EMAIL.toUpperCase()).build())).execute(addressBookModel,
+                new ScheduleModelManager(), new DiagnosisModelManager(), new CommandHistory());
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS_ADDRESSBOOK, VALID_NAME_BOB) + expectedWarning,
+                result.feedbackToUser);
+
+        // no shared contact
+        addressBookModel.resetData(new AddressBook());
+        addressBookModel.addPerson(existingPerson);
+        result = new AddCommand(CMDTYPE_PATIENT, PersonUtil.getPersonDetails(newPerson)).execute(addressBookModel,
+                new ScheduleModelManager(), new DiagnosisModelManager(), new CommandHistory());
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS_ADDRESSBOOK, VALID_NAME_BOB), result.feedbackToUser);
+    }
+
     @Test
     public void parseDisease_success() throws Exception {
         StringBuilder sb = new StringBuilder();
@@ -9,6 +9,8 @@ import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_APPOINTMENT;
 import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_PATIENT;
 import static seedu.address.model.AddressBookModel.PREDICATE_SHOW_ALL_PERSONS;
 
+import java.util.Collections;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -21,9 +23,11 @@ import seedu.address.model.DiagnosisModel;
 import seedu.address.model.DiagnosisModelManager;
 import seedu.address.model.ScheduleModel;
 import seedu.address.model.ScheduleModelManager;
+import seedu.address.model.event.ScheduleEvent;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonId;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ScheduleEventBuilder;
 
 /**
  * Tests delete command.
@@ -41,6 +45,27 @@ public class DeleteCommandTest {
         assertDeletePatientSuccess(model, personId.toString());
     }
 
+    @Test
+    public void deletePatient_withAppointments_appointmentsDeleted() throws Exception {
+        AddressBookModel addressBookModel = new AddressBookModelManager();
+        Person person = new PersonBuilder().build();
+        Person otherPerson = new PersonBuilder().build();
+        addressBookModel.addPerson(person);
+        addressBookModel.addPerson(otherPerson);
+
+        ScheduleModel scheduleModel = new ScheduleModelManager();
+        scheduleModel.addEvent(new ScheduleEventBuilder().withPersonId(person.getId().value).build());
+        ScheduleEvent otherEvent = new ScheduleEventBuilder().withPersonId(otherPerson.getId().value).build();
+        scheduleModel.addEvent(otherEvent);
+        scheduleModel.addEvent(new ScheduleEventBuilder().withPersonId(person.getId().value).build());
+
+        new DeleteCommand(CMDTYPE_PATIENT, person.getId().value).execute(addressBookModel, scheduleModel,
+                new DiagnosisModelManager(), new CommandHistory());
+
+        assertTrue(scheduleModel.getEventsOfPerson(person.getId()).isEmpty());
+        assertEquals(Collections.singletonList(otherEvent), scheduleModel.getSchedule().getAllEventList());
+    }
+
     @Test
     public void deletePatient_invalidId_throwsCommandException() throws Exception {
         thrown.expect(CommandException.class);
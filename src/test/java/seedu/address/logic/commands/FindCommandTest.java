@@ -8,6 +8,10 @@ import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_APPOINTMENT;
 import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_DISEASE;
 import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_PATIENT;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -21,8 +25,11 @@ import seedu.address.model.DiagnosisModel;
 import seedu.address.model.DiagnosisModelManager;
 import seedu.address.model.ScheduleModel;
 import seedu.address.model.ScheduleModelManager;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.model.symptom.Disease;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalEvents;
 
@@ -82,6 +89,78 @@ public class FindCommandTest {
         assertEquals(model.getFilteredEventList().get(0), TypicalEvents.e1);
     }
 
+    @Test
+    public void find_patientMisspelt_listsSimilarNames() throws Exception {
+        AddressBookModel model = new AddressBookModelManager();
+        Person amy = new PersonBuilder().withName(VALID_NAME_AMY).build();
+        Person bob = new PersonBuilder().withName(VALID_NAME_BOB).build();
+        model.addPerson(amy);
+        model.addPerson(bob);
+
+        CommandResult result = new FindCommand(CMDTYPE_PATIENT, "Chooo").execute(model, new ScheduleModelManager(),
+                new DiagnosisModelManager(), new CommandHistory());
+        assertEquals(new CommandResult(String.format(FindCommand.MESSAGE_SIMILAR_PERSONS_LISTED, 1)), result);
+        assertEquals(Collections.singletonList(bob), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void find_patientByTags_success() throws Exception {
+        AddressBookModel model = new AddressBookModelManager();
+        Person diabetic = new PersonBuilder().withName(VALID_NAME_AMY).withTags("diabetic").build();
+        Person diabeticElderly = new PersonBuilder().withName(VALID_NAME_BOB).withTags("diabetic", "elderly").build();
+        Person elderly = new PersonBuilder().withName("Carl").withTags("elderly").build();
+        model.addPerson(diabetic);
+        model.addPerson(diabeticElderly);
+        model.addPerson(elderly);
+
+        // every t/ must be matched
+        new FindCommand(CMDTYPE_PATIENT, Arrays.asList(Collections.singleton(new Tag("diabetic")),
+                Collections.singleton(new Tag("elderly")))).execute(model, new ScheduleModelManager(),
+                new DiagnosisModelManager(), new CommandHistory());
+        assertEquals(Collections.singletonList(diabeticElderly), model.getFilteredPersonList());
+
+        // by any of its tags
+        new FindCommand(CMDTYPE_PATIENT, Collections.singletonList(new HashSet<>(Arrays.asList(new Tag("diabetic"),
+                new Tag("elderly"))))).execute(model, new ScheduleModelManager(), new DiagnosisModelManager(),
+                new CommandHistory());
+        assertEquals(Arrays.asList(diabetic, diabeticElderly, elderly), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void find_patientByPhoneOrEmail_success() throws Exception {
+        AddressBookModel model = new AddressBookModelManager();
+        Person amy = new PersonBuilder().withName(VALID_NAME_AMY).withPhone("91234567")
+                .withEmail("amy@example.com").build();
+        Person bob = new PersonBuilder().withName(VALID_NAME_BOB).withPhone("91234567")
+                .withEmail("bob@example.com").build();
+        model.addPerson(amy);
+        model.addPerson(bob);
+
+        // family members may share a phone number
+        new FindCommand(new Phone("91234567")).execute(model, new ScheduleModelManager(),
+                new DiagnosisModelManager(), new CommandHistory());
+        assertEquals(Arrays.asList(amy, bob), model.getFilteredPersonList());
+
+        // emails are matched ignoring case
+        new FindCommand(new Email("Bob@Example.com")).execute(model, new ScheduleModelManager(),
+                new DiagnosisModelManager(), new CommandHistory());
+        assertEquals(Collections.singletonList(bob), model.getFilteredPersonList());
+
+        new FindCommand(new Phone("98765432")).execute(model, new ScheduleModelManager(),
+                new DiagnosisModelManager(), new CommandHistory());
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void find_appointmentByTags_success() throws Exception {
+        ScheduleModel model = new ScheduleModelManager();
+        model.resetData(TypicalEvents.getTypicalSchedule());
+
+        new FindCommand(CMDTYPE_APPOINTMENT, Collections.singletonList(Collections.singleton(new Tag("some"))))
+                .execute(new AddressBookModelManager(), model, new DiagnosisModelManager(), new CommandHistory());
+        assertEquals(Collections.singletonList(TypicalEvents.e2), model.getFilteredEventList());
+    }
+
     @Test
     public void find_invalidParameter() throws Exception {
         thrown.expect(CommandException.class);
@@ -0,0 +1,42 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.address.commons.core.PerformanceStats;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.AddressBookModelManager;
+import seedu.address.model.DiagnosisModelManager;
+import seedu.address.model.ScheduleModelManager;
+
+public class StatsCommandTest {
+
+    @After
+    public void tearDown() {
+        PerformanceStats.clear();
+    }
+
+    @Test
+    public void execute_nothingTimed_noStatsMessage() {
+        PerformanceStats.clear();
+        assertEquals(new CommandResult(StatsCommand.MESSAGE_NO_STATS), executeStatsCommand());
+    }
+
+    @Test
+    public void execute_timingsRecorded_reportShown() {
+        PerformanceStats.clear();
+        PerformanceStats stats = PerformanceStats.getInstance();
+        stats.recordLatency("command.list.execute", 2_000_000);
+        stats.recordError("command.delete");
+
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, stats.getReport());
+        assertEquals(new CommandResult(expectedMessage), executeStatsCommand());
+    }
+
+    private CommandResult executeStatsCommand() {
+        return new StatsCommand().execute(new AddressBookModelManager(), new ScheduleModelManager(),
+                new DiagnosisModelManager(), new CommandHistory());
+    }
+}
@@ -1,14 +1,24 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_APPOINTMENT;
 import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_PATIENT;
 import static seedu.address.logic.parser.CmdTypeCliSyntax.CMDTYPE_SYMPTOM;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.Test;
 
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
 
 public class FindCommandParserTest {
 
@@ -32,6 +42,50 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, CMDTYPE_PATIENT + "     search string", expectedFindCommand);
     }
 
+    @Test
+    public void parse_tags_returnsFindCommandWithTagGroups() {
+        List<Set<Tag>> tagGroups = Arrays.asList(Collections.singleton(new Tag("diabetic")),
+                new HashSet<>(Arrays.asList(new Tag("elderly"), new Tag("frail"))));
+        assertParseSuccess(parser, CMDTYPE_PATIENT + " t/diabetic  t/elderly frail",
+                new FindCommand(CMDTYPE_PATIENT, tagGroups));
+        assertParseSuccess(parser, CMDTYPE_APPOINTMENT + " t/followup",
+                new FindCommand(CMDTYPE_APPOINTMENT, Collections.singletonList(
+                        Collections.singleton(new Tag("followup")))));
+    }
+
+    @Test
+    public void parse_invalidTags_throwsParseException() {
+        // keywords before the tags
+        assertParseFailure(parser, CMDTYPE_PATIENT + " alice t/diabetic", String.format(
+                MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        // empty tag
+        assertParseFailure(parser, CMDTYPE_PATIENT + " t/diabetic t/", String.format(
+                MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        // invalid tag
+        assertParseFailure(parser, CMDTYPE_APPOINTMENT + " t/follow-up", Tag.MESSAGE_TAG_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_phoneOrEmail_returnsFindCommand() {
+        assertParseSuccess(parser, CMDTYPE_PATIENT + " p/98765432 ", new FindCommand(new Phone("98765432")));
+        assertParseSuccess(parser, CMDTYPE_PATIENT + " e/amy@example.com",
+                new FindCommand(new Email("amy@example.com")));
+    }
+
+    @Test
+    public void parse_invalidPhoneOrEmail_throwsParseException() {
+        // both a phone number and an email
+        assertParseFailure(parser, CMDTYPE_PATIENT + " p/98765432 e/amy@example.com", String.format(
+                MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        // keywords before the phone number
+        assertParseFailure(parser, CMDTYPE_PATIENT + " amy p/98765432", String.format(
+                MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        // invalid phone number
+        assertParseFailure(parser, CMDTYPE_PATIENT + " p/9876a", Phone.MESSAGE_PHONE_CONSTRAINTS);
+        // invalid email
+        assertParseFailure(parser, CMDTYPE_PATIENT + " e/amy", Email.MESSAGE_EMAIL_CONSTRAINTS);
+    }
+
     @Test
     public void parse_findDrugNonAlphabeticalInput_throwsParseException() {
         assertParseFailure(parser, "containsnumbers123", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
@@ -1,6 +1,8 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 //import static seedu.address.model.AddressBookModel.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.TypicalPersons.ALICE;
@@ -8,18 +10,29 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 
 //import java.nio.file.Paths;
 //import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ObservableList;
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.ListChange;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 //import seedu.address.model.person.MatchPersonPredicate;
 //import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class AddressBookModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private AddressBookModelManager modelManager = new AddressBookModelManager();
 
     @Test
@@ -45,6 +58,55 @@ public class AddressBookModelManagerTest {
         modelManager.getFilteredPersonList().remove(0);
     }
 
+    @Test
+    public void getFilteredPersonList_afterChanges_sameListUpdated() {
+        ObservableList<Person> filteredPersons = modelManager.getFilteredPersonList();
+        Person person = new PersonBuilder().build();
+        modelManager.addPerson(person);
+        assertEquals(Collections.singletonList(person), filteredPersons);
+
+        Person editedPerson = new Person(person.getId(), person.getName(), new Phone("91234567"), person.getEmail(),
+                person.getAddress(), true, person.getTags());
+        modelManager.updatePerson(person, editedPerson);
+        assertEquals("91234567", filteredPersons.get(0).getPhone().value);
+
+        modelManager.deletePerson(editedPerson);
+        assertTrue(filteredPersons.isEmpty());
+    }
+
+    @Test
+    public void changes_raiseEventsWithChange() {
+        Person person = new PersonBuilder().build();
+        modelManager.addPerson(new PersonBuilder().build());
+        modelManager.addPerson(person);
+        assertChangeRaised(ListChange.Type.ADDED, 1, person);
+
+        modelManager.deletePerson(person);
+        // soft-deleted persons stay at their position in the address book
+        assertChangeRaised(ListChange.Type.UPDATED, 1, person);
+        ListChange<Person> change = ((AddressBookChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent())
+                .change;
+        assertSame(person, change.getReplacedElement());
+        assertFalse(change.getElements().get(0).getExists());
+
+        modelManager.resetData(new AddressBook());
+        assertChangeRaised(ListChange.Type.RESET, ListChange.NO_INDEX, null);
+    }
+
+    /**
+     * Asserts that the most recent event raised is an {@code AddressBookChangedEvent} of a change of
+     * {@code expectedType} to {@code expectedPerson}, at {@code expectedIndex}.
+     */
+    private void assertChangeRaised(ListChange.Type expectedType, int expectedIndex, Person expectedPerson) {
+        ListChange<Person> change = ((AddressBookChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent())
+                .change;
+        assertEquals(expectedType, change.getType());
+        assertEquals(expectedIndex, change.getIndex());
+        if (expectedPerson != null) {
+            assertEquals(Collections.singletonList(expectedPerson), change.getElements());
+        }
+    }
+
     /*
     @Test
     public void equals() {
@@ -81,6 +81,20 @@ public class DiagnosisTest {
         assertNotEquals(Collections.emptyList(), diagnosis.getSymptoms(acne));
         assertTrue(diagnosis.getSymptoms(acne).contains(blackhead));
         assertFalse(diagnosis.getSymptoms(acne).contains(fever));
+        Diagnosis.flushPendingWrites();
+        Files.deleteIfExists(Paths.get("datasetForSymptomAndDisease.csv"));
+    }
+
+    @Test
+    public void addMatcher_newDisease_savedToCsvFile() throws Exception {
+        Set<Symptom> symptomSet = new HashSet<>();
+        symptomSet.add(blackhead);
+        diagnosis.addMatcher(acne, symptomSet);
+        Diagnosis.flushPendingWrites();
+
+        Diagnosis reloaded = new Diagnosis();
+        assertTrue(reloaded.hasDisease(acne));
+        assertEquals(Collections.singletonList(blackhead), reloaded.getSymptoms(acne));
         Files.deleteIfExists(Paths.get("datasetForSymptomAndDisease.csv"));
     }
 
@@ -0,0 +1,64 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class DrugCatalogTest {
+
+    private static final DrugCatalog CATALOG = new DrugCatalog(Arrays.asList(
+            entry("GLYCOMET TABLET 500 mg"),
+            entry("LYRICA CAPSULE 75 mg"),
+            entry("Glycomet-GP 1 Tablet"),
+            entry("PANADOL EXTRA"),
+            entry("LYRICA CAPSULE 150 mg")));
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void findByName_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        CATALOG.findByName(null);
+    }
+
+    @Test
+    public void findByName_substringOfNames_matchesInDatabaseOrder() {
+        assertEquals(Arrays.asList("GLYCOMET TABLET 500 mg", "Glycomet-GP 1 Tablet"),
+                getNames(CATALOG.findByName("glycomet")));
+        assertEquals(Arrays.asList("LYRICA CAPSULE 75 mg", "LYRICA CAPSULE 150 mg"),
+                getNames(CATALOG.findByName("Rica Caps")));
+    }
+
+    @Test
+    public void findByName_allTrigramsPresentButNotContiguous_noMatch() {
+        // "tab", "abl" and "let" all occur in "Glycomet-GP 1 Tablet", but "tablet gp" does not
+        assertTrue(CATALOG.findByName("tablet gp").isEmpty());
+    }
+
+    @Test
+    public void findByName_keywordShorterThanTrigram_scansAllNames() {
+        assertEquals(Arrays.asList("LYRICA CAPSULE 150 mg"), getNames(CATALOG.findByName("15")));
+    }
+
+    @Test
+    public void findByName_unknownTrigram_noMatch() {
+        assertTrue(CATALOG.findByName("StarbucksCoffee").isEmpty());
+    }
+
+    private static String[] entry(String productName) {
+        return new String[] {"SIN00000P", productName, "Holder", "1/1/2000", "Prescription Only", "A00AA00",
+            "TABLET", "ORAL", "Manufacturer", "SINGAPORE", "INGREDIENT", "1 mg"};
+    }
+
+    private static List<String> getNames(List<String[]> entries) {
+        return entries.stream().map(entry -> entry[1]).collect(Collectors.toList());
+    }
+}
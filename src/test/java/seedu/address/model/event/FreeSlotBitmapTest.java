@@ -0,0 +1,128 @@
+package seedu.address.model.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.commons.util.Pair;
+
+public class FreeSlotBitmapTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2018, 12, 13);
+    private static final LocalDate LAST_DAY = LocalDate.of(2018, 12, 15);
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_lastDayBeforeFirstDay_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new FreeSlotBitmap(LAST_DAY, FIRST_DAY);
+    }
+
+    @Test
+    public void getFreeSlots_noAppointments_wholeDays() {
+        FreeSlotBitmap bitmap = new FreeSlotBitmap(FIRST_DAY, LAST_DAY);
+        assertEquals(Arrays.asList(slot(13, 9, 0, 18, 0), slot(14, 9, 0, 18, 0), slot(15, 9, 0, 18, 0)),
+                bitmap.getFreeSlots(1));
+    }
+
+    @Test
+    public void getFreeSlots_appointments_gapsBetweenThem() {
+        FreeSlotBitmap bitmap = new FreeSlotBitmap(FIRST_DAY, LAST_DAY);
+        markBusy(bitmap, slot(13, 9, 59, 10, 30));
+        markBusy(bitmap, slot(13, 12, 59, 13, 30));
+        markBusy(bitmap, slot(14, 9, 0, 18, 0));
+        markBusy(bitmap, slot(15, 17, 59, 18, 0));
+
+        assertEquals(Arrays.asList(slot(13, 9, 0, 9, 59), slot(13, 10, 30, 12, 59), slot(13, 13, 30, 18, 0),
+                slot(15, 9, 0, 17, 59)), bitmap.getFreeSlots(1));
+    }
+
+    @Test
+    public void getFreeSlots_minimumLength_shorterSlotsSkipped() {
+        FreeSlotBitmap bitmap = new FreeSlotBitmap(FIRST_DAY, FIRST_DAY);
+        markBusy(bitmap, slot(13, 9, 30, 17, 45));
+        assertEquals(Collections.singletonList(slot(13, 9, 0, 9, 30)), bitmap.getFreeSlots(20));
+        assertEquals(Arrays.asList(slot(13, 9, 0, 9, 30), slot(13, 17, 45, 18, 0)), bitmap.getFreeSlots(15));
+    }
+
+    @Test
+    public void getFirstFreeSlots_count_onlyFirstSlots() {
+        FreeSlotBitmap bitmap = new FreeSlotBitmap(FIRST_DAY, LAST_DAY);
+        markBusy(bitmap, slot(13, 12, 0, 13, 0));
+        assertEquals(Arrays.asList(slot(13, 9, 0, 12, 0), slot(13, 13, 0, 18, 0)), bitmap.getFirstFreeSlots(2, 1));
+        assertTrue(bitmap.getFirstFreeSlots(0, 1).isEmpty());
+    }
+
+    @Test
+    public void markBusy_outsideClinicHours_clipped() {
+        FreeSlotBitmap bitmap = new FreeSlotBitmap(FIRST_DAY, LAST_DAY);
+        // from the evening before the first day to the morning of the second day
+        long start = DateTimeUtil.toEpochMinute(LocalDateTime.of(2018, 12, 12, 20, 0));
+        long end = DateTimeUtil.toEpochMinute(LocalDateTime.of(2018, 12, 14, 10, 0));
+        bitmap.markBusy(start, end);
+        assertEquals(Arrays.asList(slot(14, 10, 0, 18, 0), slot(15, 9, 0, 18, 0)), bitmap.getFreeSlots(1));
+    }
+
+    @Test
+    public void getFreeSlots_randomAppointments_sameAsMinuteByMinuteScan() {
+        Random random = new Random(2103);
+        LocalDate lastDay = FIRST_DAY.plusDays(30);
+        FreeSlotBitmap bitmap = new FreeSlotBitmap(FIRST_DAY, lastDay);
+        List<Pair<Long>> appointments = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            long start = DateTimeUtil.toEpochMinute(FIRST_DAY.plusDays(random.nextInt(31)).atTime(8, 0))
+                    + random.nextInt(11 * 60);
+            appointments.add(new Pair<>(start, start + 1 + random.nextInt(90)));
+            markBusy(bitmap, appointments.get(i));
+        }
+
+        List<Pair<Long>> expected = new ArrayList<>();
+        for (LocalDate day = FIRST_DAY; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            long dayStart = DateTimeUtil.toEpochMinute(day.atTime(9, 0));
+            long slotStart = -1;
+            for (long minute = dayStart; minute <= dayStart + FreeSlotBitmap.MINUTES_PER_DAY; minute++) {
+                boolean isFree = minute < dayStart + FreeSlotBitmap.MINUTES_PER_DAY && isFree(appointments, minute);
+                if (isFree && slotStart < 0) {
+                    slotStart = minute;
+                } else if (!isFree && slotStart >= 0) {
+                    if (minute - slotStart >= 30) {
+                        expected.add(new Pair<>(slotStart, minute));
+                    }
+                    slotStart = -1;
+                }
+            }
+        }
+        assertEquals(expected, bitmap.getFreeSlots(30));
+    }
+
+    private static boolean isFree(List<Pair<Long>> appointments, long minute) {
+        return appointments.stream().noneMatch(slot -> slot.getKey() <= minute && minute < slot.getValue());
+    }
+
+    private static void markBusy(FreeSlotBitmap bitmap, Pair<Long> slot) {
+        bitmap.markBusy(slot.getKey(), slot.getValue());
+    }
+
+    /**
+     * Returns the time slot in epoch minutes from {@code startHour:startMinute} to {@code endHour:endMinute} on the
+     * given day of December 2018.
+     */
+    private static Pair<Long> slot(int day, int startHour, int startMinute, int endHour, int endMinute) {
+        return new Pair<>(DateTimeUtil.toEpochMinute(LocalDateTime.of(2018, 12, day, startHour, startMinute)),
+                DateTimeUtil.toEpochMinute(LocalDateTime.of(2018, 12, day, endHour, endMinute)));
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.model.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalEvents.e1;
+import static seedu.address.testutil.TypicalEvents.e3;
+import static seedu.address.testutil.TypicalEvents.e4;
+import static seedu.address.testutil.TypicalEvents.e5;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.util.Pair;
+import seedu.address.testutil.ScheduleEventBuilder;
+
+public class ScheduleEventIntervalIndexTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ScheduleEventIntervalIndex intervalIndex = new ScheduleEventIntervalIndex();
+
+    @Test
+    public void getClashingEvents_nullTimeSlot_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        intervalIndex.getClashingEvents(null);
+    }
+
+    @Test
+    public void getClashingEvents_emptyIndex_returnsEmptyList() {
+        assertTrue(intervalIndex.getClashingEvents(e1.getDate()).isEmpty());
+    }
+
+    @Test
+    public void getClashingEvents_overlappingSlot_returnsClashingEventsInStartOrder() {
+        intervalIndex.add(e5);
+        intervalIndex.add(e3);
+        intervalIndex.add(e4);
+        intervalIndex.add(e1);
+
+        // 10 Nov 2018 09:30 - 11:30 overlaps e3 (09:00 - 10:00) and e4 (11:00 - 13:00)
+        Pair<Calendar> slot = new Pair<>(getTime(2018, Calendar.NOVEMBER, 10, 9, 30),
+                getTime(2018, Calendar.NOVEMBER, 10, 11, 30));
+        assertEquals(Arrays.asList(e3, e4), intervalIndex.getClashingEvents(slot));
+    }
+
+    @Test
+    public void getClashingEvents_adjacentSlot_returnsEmptyList() {
+        intervalIndex.add(e3);
+        intervalIndex.add(e4);
+
+        // 10 Nov 2018 10:00 - 11:00 sits exactly between e3 and e4
+        Pair<Calendar> slot = new Pair<>((Calendar) e3.getDate().getValue().clone(),
+                (Calendar) e4.getDate().getKey().clone());
+        assertTrue(intervalIndex.getClashingEvents(slot).isEmpty());
+    }
+
+    @Test
+    public void remove_indexedEvent_noLongerClashes() {
+        intervalIndex.add(e3);
+        intervalIndex.add(e4);
+        intervalIndex.remove(e4);
+        assertTrue(intervalIndex.getClashingEvents(e4.getDate()).isEmpty());
+        assertEquals(Collections.singletonList(e3), intervalIndex.getClashingEvents(e3.getDate()));
+    }
+
+    @Test
+    public void getClashingEvents_randomEvents_matchesLinearScan() {
+        Random random = new Random(2103);
+        List<ScheduleEvent> events = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            ScheduleEvent event = new ScheduleEventBuilder().withDurations(getRandomSlot(random)).build();
+            events.add(event);
+            intervalIndex.add(event);
+        }
+        for (int i = 0; i < 100; i++) {
+            intervalIndex.remove(events.remove(random.nextInt(events.size())));
+        }
+
+        for (int i = 0; i < 200; i++) {
+            Pair<Calendar> slot = getRandomSlot(random);
+            List<ScheduleEvent> expected = events.stream()
+                    .filter(event -> event.isClashing(slot))
+                    .collect(Collectors.toList());
+            List<ScheduleEvent> actual = intervalIndex.getClashingEvents(slot);
+            assertEquals(expected.size(), actual.size());
+            assertTrue(actual.containsAll(expected));
+        }
+    }
+
+    /**
+     * Returns a time slot of 15 to 180 minutes starting on a quarter hour within a week in November 2018.
+     */
+    private static Pair<Calendar> getRandomSlot(Random random) {
+        Calendar start = getTime(2018, Calendar.NOVEMBER, 10, 9, 0);
+        start.add(Calendar.MINUTE, 15 * random.nextInt(7 * 24 * 4));
+        Calendar end = (Calendar) start.clone();
+        end.add(Calendar.MINUTE, 15 * (1 + random.nextInt(12)));
+        return new Pair<>(start, end);
+    }
+
+    private static Calendar getTime(int year, int month, int date, int hour, int minute) {
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(year, month, date, hour, minute);
+        return calendar;
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.model.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import seedu.address.commons.util.DateTimeUtil;
+import seedu.address.commons.util.Pair;
+import seedu.address.model.person.PersonId;
+
+public class ScheduleEventTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2018, 11, 10, 9, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2018, 11, 10, 10, 30);
+
+    private final ScheduleEvent event = new ScheduleEvent(new EventId("e1", false),
+            DateTimeUtil.toEpochMinute(START), DateTimeUtil.toEpochMinute(END),
+            new PersonId("p1", false), "checkup", new HashSet<>());
+
+    @Test
+    public void constructor_calendars_sameTimeSlot() {
+        Pair<Calendar> date = event.getDate();
+        ScheduleEvent copy = new ScheduleEvent(new EventId("e2", false), date, event.getPersonId(),
+                event.getDetails(), event.getTags());
+        assertEquals(event.getStartEpochMinute(), copy.getStartEpochMinute());
+        assertEquals(event.getEndEpochMinute(), copy.getEndEpochMinute());
+        assertEquals(START, copy.getStartDateTime());
+        assertEquals(END, copy.getEndDateTime());
+    }
+
+    @Test
+    public void getDate_modifiedCalendar_eventUnchanged() {
+        event.getDate().getKey().add(Calendar.HOUR_OF_DAY, 1);
+        assertEquals(START, event.getStartDateTime());
+    }
+
+    @Test
+    public void getDateToString() {
+        assertEquals("10/11/2018 09:00 to 10:30", event.getDateToString());
+    }
+
+    @Test
+    public void isClashing() {
+        long start = event.getStartEpochMinute();
+        long end = event.getEndEpochMinute();
+
+        // same start -> clashes
+        assertTrue(event.isClashing(start, start + 15));
+
+        // starts during the event -> clashes
+        assertTrue(event.isClashing(start + 30, end + 30));
+
+        // event starts during the other duration -> clashes
+        assertTrue(event.isClashing(start - 30, start + 1));
+
+        // ends when the event starts -> no clash
+        assertFalse(event.isClashing(start - 30, start));
+
+        // starts when the event ends -> no clash
+        assertFalse(event.isClashing(end, end + 30));
+    }
+
+    @Test
+    public void isClashing_calendars() {
+        Calendar otherStart = DateTimeUtil.toCalendar(event.getStartEpochMinute() + 30);
+        Calendar otherEnd = DateTimeUtil.toCalendar(event.getEndEpochMinute() + 30);
+        assertTrue(event.isClashing(new Pair<>(otherStart, otherEnd)));
+        assertFalse(event.isClashing(new Pair<>(DateTimeUtil.toCalendar(event.getEndEpochMinute()), otherEnd)));
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.model.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.event.exceptions.ScheduleEventNotFoundException;
+import seedu.address.model.person.PersonId;
+import seedu.address.testutil.ScheduleEventBuilder;
+
+public class UniqueScheduleEventListTest {
+
+    private static final PersonId PERSON_ID = new PersonId("p1", false);
+    private static final PersonId OTHER_PERSON_ID = new PersonId("p2", false);
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final UniqueScheduleEventList eventList = new UniqueScheduleEventList();
+    private ScheduleEvent first;
+    private ScheduleEvent second;
+    private ScheduleEvent otherPersonEvent;
+
+    @Before
+    public void setUp() {
+        first = new ScheduleEventBuilder().withPersonId(PERSON_ID.value).build();
+        second = new ScheduleEventBuilder().withPersonId(PERSON_ID.value).build();
+        otherPersonEvent = new ScheduleEventBuilder().withPersonId(OTHER_PERSON_ID.value).build();
+        eventList.add(first);
+        eventList.add(otherPersonEvent);
+        eventList.add(second);
+    }
+
+    @Test
+    public void getEventsOfPerson_afterChanges_upToDate() {
+        assertEquals(Arrays.asList(first, second), eventList.getEventsOfPerson(PERSON_ID));
+
+        ScheduleEvent movedEvent = new ScheduleEvent(first.getId(), first.getStartEpochMinute(),
+                first.getEndEpochMinute(), OTHER_PERSON_ID, first.getDetails(), first.getTags());
+        eventList.setScheduleEvent(first, movedEvent);
+        assertEquals(Collections.singletonList(second), eventList.getEventsOfPerson(PERSON_ID));
+        assertEquals(Arrays.asList(otherPersonEvent, movedEvent), eventList.getEventsOfPerson(OTHER_PERSON_ID));
+
+        eventList.remove(second);
+        assertTrue(eventList.getEventsOfPerson(PERSON_ID).isEmpty());
+    }
+
+    @Test
+    public void removeAll_eventsOfPerson_otherEventsKept() {
+        eventList.removeAll(eventList.getEventsOfPerson(PERSON_ID));
+        assertEquals(Collections.singletonList(otherPersonEvent), eventList.asUnmodifiableObservableList());
+        assertTrue(eventList.getEventsOfPerson(PERSON_ID).isEmpty());
+        assertTrue(eventList.getClashingEvents(first.getDate()).contains(otherPersonEvent));
+        assertEquals(1, eventList.getClashingEvents(first.getDate()).size());
+    }
+
+    @Test
+    public void removeAll_eventsOfPerson_removedOneAtATime() {
+        List<ListChangeListener.Change<? extends ScheduleEvent>> changes = new ArrayList<>();
+        eventList.asUnmodifiableObservableList().addListener((ListChangeListener<ScheduleEvent>) change -> {
+            while (change.next()) {
+                assertTrue(change.wasRemoved() && !change.wasAdded());
+                assertEquals(1, change.getRemovedSize());
+                changes.add(change);
+            }
+        });
+        eventList.removeAll(eventList.getEventsOfPerson(PERSON_ID));
+        assertEquals(2, changes.size());
+
+        // the remaining event has moved to the front of the list
+        assertEquals(0, eventList.indexOf(otherPersonEvent));
+        eventList.remove(otherPersonEvent);
+        assertTrue(eventList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void removeAll_missingEvent_throwsScheduleEventNotFoundException() {
+        ScheduleEvent missingEvent = new ScheduleEventBuilder().withPersonId(PERSON_ID.value).build();
+        try {
+            thrown.expect(ScheduleEventNotFoundException.class);
+            eventList.removeAll(Arrays.asList(first, missingEvent));
+        } finally {
+            // nothing is removed when any of the events is missing
+            assertEquals(3, eventList.asUnmodifiableObservableList().size());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class NameTokenIndexTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final NameTokenIndex nameIndex = new NameTokenIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        nameIndex.add(null);
+    }
+
+    @Test
+    public void getIdsMatchingAny_nullKeywords_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        nameIndex.getIdsMatchingAny(null);
+    }
+
+    @Test
+    public void getIdsMatchingAny_wholeWordIgnoringCase_returnsMatchingIds() {
+        nameIndex.add(ALICE);
+        nameIndex.add(BENSON);
+        nameIndex.add(DANIEL);
+
+        assertEquals(Collections.singleton(ALICE.getId()),
+                nameIndex.getIdsMatchingAny(Collections.singletonList("aLIce")));
+        assertEquals(new HashSet<>(Arrays.asList(BENSON.getId(), DANIEL.getId())),
+                nameIndex.getIdsMatchingAny(Collections.singletonList("Meier")));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE.getId(), BENSON.getId(), DANIEL.getId())),
+                nameIndex.getIdsMatchingAny(Arrays.asList("Pauline", "meier")));
+    }
+
+    @Test
+    public void getIdsMatchingAny_partialOrBlankKeyword_returnsEmptySet() {
+        nameIndex.add(ALICE);
+        assertTrue(nameIndex.getIdsMatchingAny(Arrays.asList("Ali", "", " ")).isEmpty());
+    }
+
+    @Test
+    public void remove_indexedPerson_noLongerMatches() {
+        nameIndex.add(BENSON);
+        nameIndex.add(DANIEL);
+        nameIndex.remove(BENSON);
+        assertEquals(Collections.singleton(DANIEL.getId()),
+                nameIndex.getIdsMatchingAny(Collections.singletonList("meier")));
+        assertTrue(nameIndex.getIdsMatchingAny(Collections.singletonList("benson")).isEmpty());
+    }
+
+    @Test
+    public void getIdsMatchingSimilar_misspeltKeywords_returnsIdsByDistance() {
+        nameIndex.add(ALICE);
+        nameIndex.add(BENSON);
+        nameIndex.add(DANIEL);
+
+        Map<PersonId, Integer> matches = nameIndex.getIdsMatchingSimilar(Arrays.asList("Daneil", "Meir"));
+        assertEquals(new HashSet<>(Arrays.asList(BENSON.getId(), DANIEL.getId())), matches.keySet());
+        // Daniel Meier is a swap and a deletion away, Benson Meier matches only the second keyword
+        assertEquals(2, (int) matches.get(DANIEL.getId()));
+        assertTrue(matches.get(BENSON.getId()) > matches.get(DANIEL.getId()));
+
+        assertTrue(nameIndex.getIdsMatchingSimilar(Collections.singletonList("Zelda")).isEmpty());
+    }
+
+    @Test
+    public void getIdsMatchingSimilar_removedPerson_noLongerMatches() {
+        nameIndex.add(ALICE);
+        nameIndex.remove(ALICE);
+        assertTrue(nameIndex.getIdsMatchingSimilar(Collections.singletonList("Alise")).isEmpty());
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class NameTrigramIndexTest {
+
+    private final NameTrigramIndex wordIndex = new NameTrigramIndex();
+
+    @Test
+    public void getEditDistance() {
+        assertEquals(0, NameTrigramIndex.getEditDistance("alice", "alice"));
+        assertEquals(1, NameTrigramIndex.getEditDistance("alice", "alise"));
+        assertEquals(1, NameTrigramIndex.getEditDistance("alice", "alcie"));
+        assertEquals(1, NameTrigramIndex.getEditDistance("alice", "alce"));
+        assertEquals(2, NameTrigramIndex.getEditDistance("alice", "alicia"));
+        assertEquals(3, NameTrigramIndex.getEditDistance("", "bob"));
+    }
+
+    @Test
+    public void getMaxEdits() {
+        assertEquals(0, NameTrigramIndex.getMaxEdits("bo"));
+        assertEquals(1, NameTrigramIndex.getMaxEdits("alice"));
+        assertEquals(2, NameTrigramIndex.getMaxEdits("pauline"));
+    }
+
+    @Test
+    public void getSimilarWords_typos_closestFirst() {
+        for (String word : Arrays.asList("alice", "alicia", "alison", "bob", "pauline", "paulina")) {
+            wordIndex.add(word);
+        }
+
+        Map<String, Integer> similarWords = wordIndex.getSimilarWords("Alcie");
+        assertEquals(Arrays.asList("alice"), new ArrayList<>(similarWords.keySet()));
+
+        similarWords = wordIndex.getSimilarWords("paulene");
+        assertEquals(Arrays.asList("pauline", "paulina"), new ArrayList<>(similarWords.keySet()));
+        assertEquals(Arrays.asList(1, 2), new ArrayList<>(similarWords.values()));
+
+        // too short to allow edits
+        assertTrue(wordIndex.getSimilarWords("bb").isEmpty());
+        assertTrue(wordIndex.getSimilarWords("  ").isEmpty());
+    }
+
+    @Test
+    public void remove_wordNoLongerFound() {
+        wordIndex.add("alice");
+        wordIndex.add("alicia");
+        wordIndex.remove("alice");
+        wordIndex.add("bob");
+        assertTrue(wordIndex.getSimilarWords("alise").isEmpty());
+        assertEquals(Arrays.asList("bob"), new ArrayList<>(wordIndex.getSimilarWords("bobb").keySet()));
+
+        wordIndex.clear();
+        assertTrue(wordIndex.getSimilarWords("bobb").isEmpty());
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonFieldIndexTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final PersonFieldIndex phoneIndex = new PersonFieldIndex(person -> person.getPhone().value);
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        phoneIndex.add(null);
+    }
+
+    @Test
+    public void getIds_keyOfIndexedPersons_returnsTheirIds() {
+        Person sharesAlicePhone = new PersonBuilder().withName("Carl Pauline").withPhone(ALICE.getPhone().value)
+                .build();
+        phoneIndex.add(ALICE);
+        phoneIndex.add(BENSON);
+        phoneIndex.add(sharesAlicePhone);
+
+        assertEquals(Collections.singleton(BENSON.getId()), phoneIndex.getIds(BENSON.getPhone().value));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE.getId(), sharesAlicePhone.getId())),
+                phoneIndex.getIds(ALICE.getPhone().value));
+        assertTrue(phoneIndex.getIds("12345678").isEmpty());
+    }
+
+    @Test
+    public void remove_personWithSharedKey_othersStillIndexed() {
+        Person sharesAlicePhone = new PersonBuilder().withName("Carl Pauline").withPhone(ALICE.getPhone().value)
+                .build();
+        phoneIndex.add(ALICE);
+        phoneIndex.add(sharesAlicePhone);
+
+        phoneIndex.remove(ALICE);
+        assertEquals(Collections.singleton(sharesAlicePhone.getId()), phoneIndex.getIds(ALICE.getPhone().value));
+        phoneIndex.remove(sharesAlicePhone);
+        assertTrue(phoneIndex.getIds(ALICE.getPhone().value).isEmpty());
+    }
+
+    @Test
+    public void getIds_modifyResult_throwsUnsupportedOperationException() {
+        phoneIndex.add(ALICE);
+        thrown.expect(UnsupportedOperationException.class);
+        phoneIndex.getIds(ALICE.getPhone().value).clear();
+    }
+}
@@ -65,6 +65,55 @@ public class UniquePersonListTest {
         uniquePersonList.add(ALICE);
     }
 
+    @Test
+    public void getById_nullPersonId_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        uniquePersonList.getById(null);
+    }
+
+    @Test
+    public void getById_personNotInList_throwsPersonNotFoundException() {
+        thrown.expect(PersonNotFoundException.class);
+        uniquePersonList.getById(ALICE.getId());
+    }
+
+    @Test
+    public void getById_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(BOB, uniquePersonList.getById(BOB.getId()));
+    }
+
+    @Test
+    public void getById_afterSetPersons_returnsReplacementPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(BOB, uniquePersonList.getById(BOB.getId()));
+    }
+
+    @Test
+    public void findByNameOrId_nameKeywordOrId_returnsExistingMatchesInListOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Arrays.asList(ALICE, BOB),
+                uniquePersonList.findByNameOrId(Arrays.asList(BOB.getId().toString(), "alice")));
+        assertTrue(uniquePersonList.findByNameOrId(Collections.singletonList("Ali")).isEmpty());
+    }
+
+    @Test
+    public void findByNameOrId_afterEditAndDelete_reflectsChanges() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alicia Pauline").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertTrue(uniquePersonList.findByNameOrId(Collections.singletonList("alice")).isEmpty());
+        assertEquals(Collections.singletonList(editedAlice),
+                uniquePersonList.findByNameOrId(Collections.singletonList("alicia")));
+
+        uniquePersonList.remove(editedAlice);
+        assertTrue(uniquePersonList.findByNameOrId(Collections.singletonList("alicia")).isEmpty());
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -141,7 +190,8 @@ public class UniquePersonListTest {
         int index = pList.indexOf(ALICE);
         assertTrue(index != -1);
         assertFalse(pList.get(index).getExists());
-        ALICE.undelete();
+        // the deleted person is a copy, so the person that was removed is left as it was
+        assertTrue(ALICE.getExists());
     }
 
     @Test
@@ -0,0 +1,68 @@
+package seedu.address.model.symptom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class SymptomIndexTest {
+
+    private static final Disease ACNE = new Disease("acne");
+    private static final Disease FLU = new Disease("influenza");
+    private static final Disease COLD = new Disease("common cold");
+    private static final Symptom FEVER = new Symptom("fever");
+    private static final Symptom COUGH = new Symptom("cough");
+    private static final Symptom BLACKHEAD = new Symptom("blackhead");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private SymptomIndex index;
+
+    @Before
+    public void setUp() {
+        index = new SymptomIndex();
+        index.add(ACNE, Collections.singletonList(BLACKHEAD));
+        index.add(FLU, Arrays.asList(FEVER, COUGH));
+        index.add(COLD, Collections.singletonList(COUGH));
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        index.add(null, Collections.emptyList());
+    }
+
+    @Test
+    public void getDiseasesWithAll_sharedSymptom_allDiseasesWithIt() {
+        assertEquals(Arrays.asList(FLU, COLD), index.getDiseasesWithAll(Collections.singletonList(COUGH)));
+    }
+
+    @Test
+    public void getDiseasesWithAll_severalSymptoms_onlyDiseasesWithAllOfThem() {
+        assertEquals(Collections.singletonList(FLU), index.getDiseasesWithAll(Arrays.asList(COUGH, FEVER)));
+        assertTrue(index.getDiseasesWithAll(Arrays.asList(COUGH, BLACKHEAD)).isEmpty());
+    }
+
+    @Test
+    public void getDiseasesWithAll_unknownSymptom_noDiseases() {
+        assertTrue(index.getDiseasesWithAll(Arrays.asList(FEVER, new Symptom("rash"))).isEmpty());
+    }
+
+    @Test
+    public void getDiseasesWithAll_noSymptoms_allDiseases() {
+        assertEquals(Arrays.asList(ACNE, FLU, COLD), index.getDiseasesWithAll(Collections.emptyList()));
+    }
+
+    @Test
+    public void add_existingDisease_indexedUnderNewSymptoms() {
+        index.add(ACNE, Collections.singletonList(FEVER));
+        assertEquals(Arrays.asList(ACNE, FLU), index.getDiseasesWithAll(Collections.singletonList(FEVER)));
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.model.tag;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class TagIndexTest {
+
+    private final Person diabetic = new PersonBuilder().withName("Alice").withTags("diabetic").build();
+    private final Person diabeticElderly = new PersonBuilder().withName("Bob").withTags("diabetic", "elderly").build();
+    private final Person elderly = new PersonBuilder().withName("Carl").withTags("elderly").build();
+    private final Person untagged = new PersonBuilder().withName("Daniel").withTags().build();
+
+    private final TagIndex<Person> index = new TagIndex<>(Person::getTags);
+
+    @Test
+    public void getRecordsMatching_andOfGroups() {
+        addAll();
+        assertMatches(Arrays.asList(tags("diabetic"), tags("elderly")), diabeticElderly);
+        assertMatches(Collections.singletonList(tags("diabetic")), diabetic, diabeticElderly);
+    }
+
+    @Test
+    public void getRecordsMatching_orWithinGroup() {
+        addAll();
+        assertMatches(Collections.singletonList(tags("diabetic", "elderly")), diabetic, diabeticElderly, elderly);
+        assertMatches(Arrays.asList(tags("diabetic", "elderly"), tags("elderly")), diabeticElderly, elderly);
+    }
+
+    @Test
+    public void getRecordsMatching_unknownTagOrNoGroups_matchesNothing() {
+        addAll();
+        assertMatches(Collections.singletonList(tags("neverUsed")));
+        assertMatches(Collections.emptyList());
+        assertMatches(Collections.singletonList(Collections.emptySet()));
+    }
+
+    @Test
+    public void remove_recordNoLongerMatches() {
+        addAll();
+        index.remove(diabetic);
+        assertMatches(Collections.singletonList(tags("diabetic")), diabeticElderly);
+
+        // an edited copy takes the place of the record equal to it, under its new tags
+        Person editedElderly = new Person(elderly.getId(), elderly.getName(), elderly.getPhone(), elderly.getEmail(),
+                elderly.getAddress(), true, tags("diabetic"));
+        index.add(editedElderly);
+        assertMatches(Collections.singletonList(tags("diabetic")), diabeticElderly, editedElderly);
+        assertMatches(Collections.singletonList(tags("elderly")), diabeticElderly);
+    }
+
+    @Test
+    public void clear_matchesNothing() {
+        addAll();
+        index.clear();
+        assertMatches(Collections.singletonList(tags("diabetic", "elderly")));
+    }
+
+    @Test
+    public void tagDictionary_internsTagsWithDenseIds() {
+        TagDictionary dictionary = TagDictionary.getInstance();
+        Tag tag = dictionary.intern(new Tag("internedTag"));
+        assertSame(tag, dictionary.intern(new Tag("internedTag")));
+        int id = dictionary.getId(new Tag("internedTag"));
+        assertEquals(id, dictionary.lookUpId(tag));
+        assertSame(tag, dictionary.getTag(id));
+        assertTrue(id < dictionary.size());
+        assertEquals(TagDictionary.NO_ID, dictionary.lookUpId(new Tag("neverInterned")));
+    }
+
+    private void addAll() {
+        for (Person person : Arrays.asList(diabetic, diabeticElderly, elderly, untagged)) {
+            index.add(person);
+        }
+    }
+
+    private void assertMatches(List<Set<Tag>> tagGroups, Person... expectedPersons) {
+        assertEquals(new HashSet<>(Arrays.asList(expectedPersons)),
+                new HashSet<>(index.getRecordsMatching(tagGroups)));
+    }
+
+    private static Set<Tag> tags(String... tagNames) {
+        Set<Tag> tags = new HashSet<>();
+        for (String tagName : tagNames) {
+            tags.add(new Tag(tagName));
+        }
+        return tags;
+    }
+}
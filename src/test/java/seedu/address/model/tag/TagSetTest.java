@@ -0,0 +1,75 @@
+package seedu.address.model.tag;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class TagSetTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final Tag friends = new Tag("friends");
+    private final Tag colleagues = new Tag("colleagues");
+
+    @Test
+    public void of_sameTags_returnsSameInstance() {
+        TagSet tagSet = TagSet.of(new HashSet<>(Arrays.asList(friends, colleagues)));
+        assertSame(tagSet, TagSet.of(Arrays.asList(new Tag("colleagues"), new Tag("friends"))));
+        assertSame(tagSet, TagSet.of(tagSet));
+        assertSame(TagSet.EMPTY, TagSet.of(Collections.emptySet()));
+    }
+
+    @Test
+    public void of_duplicateTags_keepsOneOfEach() {
+        TagSet tagSet = TagSet.of(Arrays.asList(friends, friends, colleagues));
+        assertEquals(2, tagSet.size());
+    }
+
+    @Test
+    public void iterator_tagsSortedByName() {
+        List<Tag> iterated = new ArrayList<>(TagSet.of(Arrays.asList(friends, colleagues)));
+        assertEquals(Arrays.asList(colleagues, friends), iterated);
+    }
+
+    @Test
+    public void contains() {
+        TagSet tagSet = TagSet.of(Collections.singleton(friends));
+        assertTrue(tagSet.contains(new Tag("friends")));
+        assertFalse(tagSet.contains(colleagues));
+        assertFalse(tagSet.contains("friends"));
+    }
+
+    @Test
+    public void equals_otherSetWithSameTags_returnsTrue() {
+        Set<Tag> tags = new HashSet<>(Arrays.asList(friends, colleagues));
+        TagSet tagSet = TagSet.of(tags);
+        assertEquals(tags, tagSet);
+        assertEquals(tagSet, tags);
+        assertEquals(tags.hashCode(), tagSet.hashCode());
+        assertFalse(tagSet.equals(TagSet.of(Collections.singleton(friends))));
+    }
+
+    @Test
+    public void remove_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        TagSet.of(Collections.singleton(friends)).remove(colleagues);
+    }
+
+    @Test
+    public void add_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        TagSet.EMPTY.add(friends);
+    }
+}
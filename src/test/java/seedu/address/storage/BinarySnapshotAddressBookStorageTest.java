@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.testutil.DatasetGenerator;
+
+public class BinarySnapshotAddressBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private AddressBook addressBook;
+    private BinarySnapshotAddressBookStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        addressBook = new DatasetGenerator().generateAddressBook(100);
+        storage = new BinarySnapshotAddressBookStorage(new XmlAddressBookStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_writesXmlFileAndSnapshot() throws Exception {
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(filePath));
+        assertTrue(BinarySnapshot.readAddressBook(filePath).isPresent());
+        assertEquals(addressBook.getPersonList().toString(),
+                new XmlAddressBookStorage(filePath).readAddressBook().get().getPersonList().toString());
+    }
+
+    @Test
+    public void readAddressBook_corruptedSnapshot_readsXmlFile() throws Exception {
+        storage.saveAddressBook(addressBook);
+        Files.write(storage.getSnapshotFilePath(), new byte[] {1, 2, 3});
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(addressBook.getPersonList().toString(), readBack.getPersonList().toString());
+    }
+
+    @Test
+    public void saveAddressBook_snapshotCannotBeReplaced_xmlFileStillSaved() throws Exception {
+        // a non-empty directory can neither be replaced by the new snapshot nor deleted
+        Files.createDirectories(storage.getSnapshotFilePath().resolve("blocker"));
+
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook.getPersonList().toString(),
+                new XmlAddressBookStorage(filePath).readAddressBook().get().getPersonList().toString());
+        assertEquals(addressBook.getPersonList().toString(),
+                storage.readAddressBook().get().getPersonList().toString());
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_noSnapshot() throws Exception {
+        Path otherFilePath = testFolder.getRoot().toPath().resolve("Other.xml");
+        storage.saveAddressBook(addressBook, otherFilePath);
+        assertTrue(Files.exists(otherFilePath));
+        assertFalse(Files.exists(BinarySnapshot.getSnapshotFilePath(otherFilePath)));
+        assertFalse(Files.exists(storage.getSnapshotFilePath()));
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.ScheduleEventUtil.matchEventProperties;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Schedule;
+import seedu.address.model.event.ScheduleEvent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.testutil.DatasetGenerator;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinarySnapshotTest {
+
+    // the format version follows the four byte magic number
+    private static final int VERSION_OFFSET = 4;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path xmlFile;
+    private AddressBook addressBook;
+
+    @Before
+    public void setUp() throws Exception {
+        xmlFile = testFolder.getRoot().toPath().resolve("addressbook.xml");
+        addressBook = new DatasetGenerator().generateAddressBook(500);
+        XmlStreamCodec.writeAddressBook(addressBook, xmlFile);
+    }
+
+    @Test
+    public void readAddressBook_afterWrite_sameDetails() throws Exception {
+        BinarySnapshot.writeAddressBook(addressBook, xmlFile);
+        AddressBook readBack = BinarySnapshot.readAddressBook(xmlFile).get();
+        // persons are equal whenever their IDs are, so compare all their details instead
+        assertEquals(addressBook.getPersonList().toString(), readBack.getPersonList().toString());
+    }
+
+    @Test
+    public void readSchedule_afterWrite_sameDetails() throws Exception {
+        Path scheduleFile = testFolder.getRoot().toPath().resolve("schedule.xml");
+        Schedule schedule = new DatasetGenerator().generateSchedule(500, 100);
+        XmlStreamCodec.writeSchedule(schedule, scheduleFile);
+
+        BinarySnapshot.writeSchedule(schedule, scheduleFile);
+        List<ScheduleEvent> readBack = BinarySnapshot.readSchedule(scheduleFile).get().getAllEventList();
+        List<ScheduleEvent> events = schedule.getAllEventList();
+        assertEquals(events.size(), readBack.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(events.get(i).getId(), readBack.get(i).getId());
+            assertTrue(matchEventProperties(events.get(i), readBack.get(i)));
+        }
+    }
+
+    @Test
+    public void readAddressBook_noSnapshot_empty() throws Exception {
+        assertFalse(BinarySnapshot.readAddressBook(xmlFile).isPresent());
+    }
+
+    @Test
+    public void readAddressBook_xmlFileChangedSinceWrite_empty() throws Exception {
+        BinarySnapshot.writeAddressBook(addressBook, xmlFile);
+        addressBook.addPerson(new PersonBuilder().build());
+        XmlStreamCodec.writeAddressBook(addressBook, xmlFile);
+        assertFalse(BinarySnapshot.readAddressBook(xmlFile).isPresent());
+    }
+
+    @Test
+    public void readAddressBook_scheduleSnapshot_throwsDataConversionException() throws Exception {
+        BinarySnapshot.writeSchedule(new Schedule(), xmlFile);
+        thrown.expect(DataConversionException.class);
+        BinarySnapshot.readAddressBook(xmlFile);
+    }
+
+    @Test
+    public void readAddressBook_corruptedSection_throwsDataConversionException() throws Exception {
+        BinarySnapshot.writeAddressBook(addressBook, xmlFile);
+        Path snapshotFile = BinarySnapshot.getSnapshotFilePath(xmlFile);
+        overwrite(snapshotFile, Files.size(snapshotFile) - 1, (byte) 0x7f);
+
+        thrown.expect(DataConversionException.class);
+        BinarySnapshot.readAddressBook(xmlFile);
+    }
+
+    @Test
+    public void readAddressBook_unknownVersion_throwsDataConversionException() throws Exception {
+        BinarySnapshot.writeAddressBook(addressBook, xmlFile);
+        overwrite(BinarySnapshot.getSnapshotFilePath(xmlFile), VERSION_OFFSET + 1,
+                (byte) (BinarySnapshot.FORMAT_VERSION + 1));
+
+        thrown.expect(DataConversionException.class);
+        BinarySnapshot.readAddressBook(xmlFile);
+    }
+
+    @Test
+    public void writeAddressBook_idWithLeadingZero_throwsIoException() throws Exception {
+        Person person = new PersonBuilder().build();
+        addressBook.addPerson(new Person(new PersonId("p007", false), person.getName(), person.getPhone(),
+                person.getEmail(), person.getAddress(), true, person.getTags()));
+        thrown.expect(IOException.class);
+        BinarySnapshot.writeAddressBook(addressBook, xmlFile);
+    }
+
+    private static void overwrite(Path file, long position, byte value) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {value}), position);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class JournalFileTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void forSnapshot_appendsJournalSuffix() {
+        Path snapshotPath = testFolder.getRoot().toPath().resolve("addressbook.xml");
+        assertEquals(testFolder.getRoot().toPath().resolve("addressbook.xml.journal"),
+                JournalFile.forSnapshot(snapshotPath).getFilePath());
+    }
+
+    @Test
+    public void encodeDecode_specialCharacters_roundTrips() {
+        String[] fields = {"A", "tab\there", "line\nbreak\r", "back\\slash\\t", ""};
+        assertArrayEquals(fields, JournalFile.decode(JournalFile.encode(fields)));
+        assertFalse(JournalFile.encode(fields).contains("\n"));
+    }
+
+    @Test
+    public void readAll_missingJournal_emptyResult() throws Exception {
+        assertTrue(getJournal().readAll().isEmpty());
+    }
+
+    @Test
+    public void appendThenReadAll_recordsInOrder() throws Exception {
+        JournalFile journal = getJournal();
+        journal.append(Arrays.asList(new String[] {"A", "p1"}, new String[] {"U", "p1"}));
+        journal.append(Collections.singletonList(new String[] {"D", "p1"}));
+
+        List<String[]> records = journal.readAll();
+        assertEquals(3, records.size());
+        assertArrayEquals(new String[] {"A", "p1"}, records.get(0));
+        assertArrayEquals(new String[] {"U", "p1"}, records.get(1));
+        assertArrayEquals(new String[] {"D", "p1"}, records.get(2));
+    }
+
+    @Test
+    public void readAll_incompleteLastRecord_recordDropped() throws Exception {
+        JournalFile journal = getJournal();
+        journal.append(Collections.singletonList(new String[] {"A", "p1"}));
+        Files.write(journal.getFilePath(), "U\tp".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        List<String[]> records = journal.readAll();
+        assertEquals(1, records.size());
+        assertArrayEquals(new String[] {"A", "p1"}, records.get(0));
+    }
+
+    @Test
+    public void readAll_snapshotWrittenSinceFirstAppend_journalDropped() throws Exception {
+        JournalFile journal = getJournal();
+        journal.append(Collections.singletonList(new String[] {"A", "p1"}));
+        Files.write(testFolder.getRoot().toPath().resolve("addressbook.xml"),
+                "<addressbook/>".getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(journal.readAll().isEmpty());
+        assertFalse(Files.exists(journal.getFilePath()));
+    }
+
+    @Test
+    public void clear_deletesJournal() throws Exception {
+        JournalFile journal = getJournal();
+        journal.append(Collections.singletonList(new String[] {"A", "p1"}));
+        journal.clear();
+        assertFalse(Files.exists(journal.getFilePath()));
+        assertTrue(journal.readAll().isEmpty());
+    }
+
+    private JournalFile getJournal() {
+        return JournalFile.forSnapshot(testFolder.getRoot().toPath().resolve("addressbook.xml"));
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private AddressBook addressBook;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+        addressBook = new AddressBook();
+        addressBook.setPersons(Arrays.asList(new PersonBuilder(ALICE).build(), new PersonBuilder(BENSON).build()));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_journaledAndReplayed() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new XmlAddressBookStorage(filePath));
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        Person carl = new PersonBuilder(CARL).build();
+        addressBook.addPerson(carl);
+        Person alice = addressBook.getPersonList().get(0);
+        addressBook.updatePerson(alice, new Person(alice.getId(), alice.getName(), alice.getPhone(),
+                alice.getEmail(), new Address("1 New Street"), true, alice.getTags()));
+        addressBook.getPersonList().get(1).delete();
+        storage.saveAddressBook(addressBook);
+        assertEquals(3, JournalFile.forSnapshot(filePath).readAll().size());
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(new XmlAddressBookStorage(filePath))
+                .readAddressBook().get();
+        assertEquals(addressBook.getPersonList(), readBack.getPersonList());
+        assertEquals("1 New Street", readBack.getPersonList().get(0).getAddress().value);
+        assertFalse(readBack.getPersonList().get(1).getExists());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compacted() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new XmlAddressBookStorage(filePath), 1);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(new PersonBuilder(CARL).build());
+        addressBook.getPersonList().get(0).delete();
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        ReadOnlyAddressBook readBack = new XmlAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(addressBook.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void readAddressBook_crashBetweenSnapshotAndJournalClear_journalIgnored() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new XmlAddressBookStorage(filePath));
+        storage.saveAddressBook(addressBook);
+        Person alice = addressBook.getPersonList().get(0);
+        addressBook.updatePerson(alice, withAddress(alice, "1 Journaled Street"));
+        storage.saveAddressBook(addressBook);
+
+        // a compaction that wrote the new snapshot, but crashed before clearing the journal
+        alice = addressBook.getPersonList().get(0);
+        addressBook.updatePerson(alice, withAddress(alice, "2 Snapshot Street"));
+        new XmlAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(new XmlAddressBookStorage(filePath))
+                .readAddressBook().get();
+        assertEquals("2 Snapshot Street", readBack.getPersonList().get(0).getAddress().value);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    private static Person withAddress(Person person, String address) {
+        return new Person(person.getId(), person.getName(), person.getPhone(), person.getEmail(),
+                new Address(address), person.getExists(), person.getTags());
+    }
+}
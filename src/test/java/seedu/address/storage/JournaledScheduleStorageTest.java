@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalEvents.e1;
+import static seedu.address.testutil.TypicalEvents.e2;
+import static seedu.address.testutil.TypicalEvents.e3;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.Schedule;
+import seedu.address.model.event.ScheduleEvent;
+import seedu.address.testutil.ScheduleEventBuilder;
+
+public class JournaledScheduleStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Schedule schedule;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempSchedule.xml");
+        schedule = new Schedule();
+        schedule.setScheduleEvents(Arrays.asList(new ScheduleEventBuilder(e1).build(),
+                new ScheduleEventBuilder(e2).build()));
+    }
+
+    @Test
+    public void saveSchedule_changesAfterFirstSave_journaledAndReplayed() throws Exception {
+        JournaledScheduleStorage storage = new JournaledScheduleStorage(new XmlScheduleStorage(filePath));
+        storage.saveSchedule(schedule);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        schedule.addScheduleEvent(new ScheduleEventBuilder(e3).build());
+        ScheduleEvent first = schedule.getAllEventList().get(0);
+        schedule.updateScheduleEvent(first, withDetails(first, "rescheduled"));
+        schedule.removeScheduleEvent(schedule.getAllEventList().get(1));
+        storage.saveSchedule(schedule);
+        assertEquals(3, JournalFile.forSnapshot(filePath).readAll().size());
+
+        ReadOnlySchedule readBack = new JournaledScheduleStorage(new XmlScheduleStorage(filePath))
+                .readSchedule().get();
+        assertEquals(schedule.getAllEventList(), readBack.getAllEventList());
+        assertEquals("rescheduled", readBack.getAllEventList().get(0).getDetails());
+    }
+
+    @Test
+    public void saveSchedule_journalPastThreshold_compacted() throws Exception {
+        JournaledScheduleStorage storage = new JournaledScheduleStorage(new XmlScheduleStorage(filePath), 1);
+        storage.saveSchedule(schedule);
+        schedule.addScheduleEvent(new ScheduleEventBuilder(e3).build());
+        schedule.removeScheduleEvent(schedule.getAllEventList().get(0));
+        storage.saveSchedule(schedule);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        ReadOnlySchedule readBack = new XmlScheduleStorage(filePath).readSchedule().get();
+        assertEquals(schedule.getAllEventList(), readBack.getAllEventList());
+    }
+
+    @Test
+    public void readSchedule_tornLastRecord_recordIgnored() throws Exception {
+        JournaledScheduleStorage storage = new JournaledScheduleStorage(new XmlScheduleStorage(filePath));
+        storage.saveSchedule(schedule);
+        ScheduleEvent first = schedule.getAllEventList().get(0);
+        schedule.updateScheduleEvent(first, withDetails(first, "rescheduled"));
+        storage.saveSchedule(schedule);
+        // a save cut short part way through its record
+        Files.write(storage.getJournalFilePath(), ("R\t" + first.getId().value).getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        ReadOnlySchedule readBack = new JournaledScheduleStorage(new XmlScheduleStorage(filePath))
+                .readSchedule().get();
+        assertEquals(schedule.getAllEventList(), readBack.getAllEventList());
+        assertEquals("rescheduled", readBack.getAllEventList().get(0).getDetails());
+    }
+
+    @Test
+    public void readSchedule_crashBetweenSnapshotAndJournalClear_journalIgnored() throws Exception {
+        JournaledScheduleStorage storage = new JournaledScheduleStorage(new XmlScheduleStorage(filePath));
+        storage.saveSchedule(schedule);
+        ScheduleEvent first = schedule.getAllEventList().get(0);
+        schedule.updateScheduleEvent(first, withDetails(first, "journaled"));
+        storage.saveSchedule(schedule);
+
+        // a compaction that wrote the new snapshot, but crashed before clearing the journal
+        first = schedule.getAllEventList().get(0);
+        schedule.updateScheduleEvent(first, withDetails(first, "snapshot"));
+        new XmlScheduleStorage(filePath).saveSchedule(schedule);
+
+        ReadOnlySchedule readBack = new JournaledScheduleStorage(new XmlScheduleStorage(filePath))
+                .readSchedule().get();
+        assertEquals("snapshot", readBack.getAllEventList().get(0).getDetails());
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    private static ScheduleEvent withDetails(ScheduleEvent event, String details) {
+        return new ScheduleEvent(event.getId(), event.getStartEpochMinute(), event.getEndEpochMinute(),
+                event.getPersonId(), details, event.getTags());
+    }
+}
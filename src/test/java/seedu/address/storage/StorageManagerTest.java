@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalEvents.getTypicalSchedule;
@@ -16,12 +17,14 @@ import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.ScheduleChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlySchedule;
 import seedu.address.model.Schedule;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class StorageManagerTest {
@@ -102,6 +105,47 @@ public class StorageManagerTest {
     }
 
 
+    @Test
+    public void handleChangedEvents_writeBehind_savedOnFlush() throws Exception {
+        StorageManager writeBehindStorage = new StorageManager(new XmlAddressBookStorage(getTempFilePath("wbab")),
+                new XmlScheduleStorage(getTempFilePath("wbs")), new JsonUserPrefsStorage(getTempFilePath("wbprefs")),
+                60_000);
+        AddressBook addressBook = getTypicalAddressBook();
+        Schedule schedule = getTypicalSchedule();
+        writeBehindStorage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        writeBehindStorage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook));
+        writeBehindStorage.handleScheduleChangedEvent(new ScheduleChangedEvent(schedule));
+        assertFalse(writeBehindStorage.readAddressBook().isPresent());
+
+        writeBehindStorage.flushPendingSaves();
+        assertEquals(addressBook, new AddressBook(writeBehindStorage.readAddressBook().get()));
+        assertEquals(schedule, new Schedule(writeBehindStorage.readSchedule().get()));
+    }
+
+    @Test
+    public void handleChangedEvents_modelChangedBeforeFlush_savesDataAsOfEvent() throws Exception {
+        StorageManager writeBehindStorage = new StorageManager(new XmlAddressBookStorage(getTempFilePath("wbab")),
+                new XmlScheduleStorage(getTempFilePath("wbs")), new JsonUserPrefsStorage(getTempFilePath("wbprefs")),
+                60_000);
+        AddressBook addressBook = getTypicalAddressBook();
+        writeBehindStorage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook));
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        addressBook.removePerson(addressBook.getPersonList().get(1));
+
+        writeBehindStorage.flushPendingSaves();
+        assertTrue(writeBehindStorage.readAddressBook().get().getPersonList().stream().allMatch(Person::getExists));
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_writeBehindExceptionThrown_eventRaised() {
+        Storage storage = new StorageManager(new XmlAddressBookStorageExceptionThrowingStub(Paths.get("dummy")),
+                                             new XmlScheduleStorage(Paths.get("dummy")),
+                                             new JsonUserPrefsStorage(Paths.get("dummy")), 60_000);
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        storage.flushPendingSaves();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+    }
+
     /**
      * A Stub class to throw an exception when the save method is called
      */
@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class WriteBehindSaverTest {
+
+    private static final long LONG_WINDOW_MILLIS = 60_000;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+    private final List<String> savedSnapshots = new CopyOnWriteArrayList<>();
+    private final List<IOException> failures = new CopyOnWriteArrayList<>();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void submit_severalSnapshotsWithinWindow_onlyLatestSaved() {
+        WriteBehindSaver<String> saver = new WriteBehindSaver<>(executor, LONG_WINDOW_MILLIS,
+                savedSnapshots::add, failures::add);
+        saver.submit("first");
+        saver.submit("second");
+        saver.submit("third");
+        assertTrue(savedSnapshots.isEmpty());
+
+        saver.flush();
+        assertEquals(1, savedSnapshots.size());
+        assertEquals("third", savedSnapshots.get(0));
+    }
+
+    @Test
+    public void flush_nothingPending_nothingSaved() {
+        WriteBehindSaver<String> saver = new WriteBehindSaver<>(executor, LONG_WINDOW_MILLIS,
+                savedSnapshots::add, failures::add);
+        saver.submit("first");
+        saver.flush();
+        saver.flush();
+        assertEquals(1, savedSnapshots.size());
+    }
+
+    @Test
+    public void submit_saveFails_failureHandlerNotified() {
+        WriteBehindSaver<String> saver = new WriteBehindSaver<>(executor, LONG_WINDOW_MILLIS, snapshot -> {
+            throw new IOException("dummy exception");
+        }, failures::add);
+        saver.submit("first");
+        saver.flush();
+        assertEquals(1, failures.size());
+    }
+}
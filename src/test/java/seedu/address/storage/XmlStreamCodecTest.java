@@ -0,0 +1,137 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.ScheduleEventUtil.matchEventProperties;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Schedule;
+import seedu.address.model.event.ScheduleEvent;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.DatasetGenerator;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalEvents;
+import seedu.address.testutil.TypicalPersons;
+
+public class XmlStreamCodecTest {
+
+    private static final Path ADDRESS_BOOK_FOLDER = Paths.get("src", "test", "data", "XmlSerializableAddressBookTest");
+    private static final Path SCHEDULE_FOLDER = Paths.get("src", "test", "data", "XmlSerializableScheduleTest");
+    private static final Path NOT_XML_FILE = Paths.get("src", "test", "data", "XmlAddressBookStorageTest",
+            "NotXmlFormatAddressBook.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readAddressBook_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBook = XmlStreamCodec.readAddressBook(
+                ADDRESS_BOOK_FOLDER.resolve("typicalPersonsAddressBook.xml"));
+        assertEquals(getNames(TypicalPersons.getTypicalPersons()), getNames(addressBook.getPersonList()));
+    }
+
+    @Test
+    public void readAddressBook_invalidPerson_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlStreamCodec.readAddressBook(ADDRESS_BOOK_FOLDER.resolve("invalidPersonAddressBook.xml"));
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        XmlStreamCodec.readAddressBook(ADDRESS_BOOK_FOLDER.resolve("duplicatePersonAddressBook.xml"));
+    }
+
+    @Test
+    public void readAddressBook_notXmlFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlStreamCodec.readAddressBook(NOT_XML_FILE);
+    }
+
+    @Test
+    public void readAddressBook_scheduleFile_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlStreamCodec.readAddressBook(SCHEDULE_FOLDER.resolve("typicalEventsSchedule.xml"));
+    }
+
+    @Test
+    public void readSchedule_typicalEventsFile_success() throws Exception {
+        Schedule schedule = XmlStreamCodec.readSchedule(SCHEDULE_FOLDER.resolve("typicalEventsSchedule.xml"));
+        List<ScheduleEvent> events = schedule.getAllEventList();
+        List<ScheduleEvent> typicalEvents = TypicalEvents.getTypicalEvents();
+        assertEquals(typicalEvents.size(), events.size());
+        for (ScheduleEvent event : events) {
+            assertEquals(1, typicalEvents.stream().filter(e -> matchEventProperties(e, event)).count());
+        }
+    }
+
+    @Test
+    public void readSchedule_duplicateEvents_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        thrown.expectMessage(XmlSerializableSchedule.MESSAGE_DUPLICATE_EVENT);
+        XmlStreamCodec.readSchedule(SCHEDULE_FOLDER.resolve("duplicateEventSchedule.xml"));
+    }
+
+    @Test
+    public void writeAddressBook_thenRead_sameDetails() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("addressbook.xml");
+        AddressBook original = new DatasetGenerator().generateAddressBook(500);
+        original.addPerson(new PersonBuilder().withAddress("<Blk 1> & \"Block\" 2").build());
+
+        XmlStreamCodec.writeAddressBook(original, file);
+        AddressBook readBack = XmlStreamCodec.readAddressBook(file);
+        // persons are equal whenever their IDs are, so compare all their details instead
+        assertEquals(original.getPersonList().toString(), readBack.getPersonList().toString());
+    }
+
+    @Test
+    public void writeAddressBook_emptyAddressBook_readBackEmpty() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("addressbook.xml");
+        XmlStreamCodec.writeAddressBook(new AddressBook(), file);
+        assertTrue(XmlStreamCodec.readAddressBook(file).getPersonList().isEmpty());
+    }
+
+    @Test
+    public void writeAddressBook_readByJaxb_sameDetails() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("addressbook.xml");
+        AddressBook original = new DatasetGenerator().generateAddressBook(50);
+
+        XmlStreamCodec.writeAddressBook(original, file);
+        AddressBook readBack = XmlUtil.getDataFromFile(file, XmlSerializableAddressBook.class).toModelType();
+        assertEquals(original.getPersonList().toString(), readBack.getPersonList().toString());
+    }
+
+    @Test
+    public void writeSchedule_thenRead_sameDetails() throws Exception {
+        Path file = testFolder.getRoot().toPath().resolve("schedule.xml");
+        Schedule original = new DatasetGenerator().generateSchedule(500, 100);
+
+        XmlStreamCodec.writeSchedule(original, file);
+        List<ScheduleEvent> readBack = XmlStreamCodec.readSchedule(file).getAllEventList();
+        List<ScheduleEvent> originalEvents = original.getAllEventList();
+        assertEquals(originalEvents.size(), readBack.size());
+        for (int i = 0; i < readBack.size(); i++) {
+            assertTrue(matchEventProperties(originalEvents.get(i), readBack.get(i)));
+        }
+    }
+
+    private static List<String> getNames(List<Person> persons) {
+        return persons.stream().map(person -> person.getName().fullName).sorted().collect(Collectors.toList());
+    }
+}
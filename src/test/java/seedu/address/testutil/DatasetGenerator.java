@@ -0,0 +1,384 @@
+package seedu.address.testutil;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.Pair;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Schedule;
+import seedu.address.model.event.EventId;
+import seedu.address.model.event.ScheduleEvent;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonId;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.XmlAddressBookStorage;
+import seedu.address.storage.XmlScheduleStorage;
+
+/**
+ * Generates large, realistic patient books, schedules and disease datasets for load testing.
+ *
+ * The data is a pure function of the seed, so the same seed and sizes always yield the same data. Names, streets,
+ * tags, symptoms and the patients booking appointments are drawn from Zipf distributions, so that a few values are
+ * very common and most are rare, as in real data. Some patients are soft-deleted, and appointments are packed back
+ * to back into the working hours of consecutive weekdays.
+ *
+ * Run with e.g. {@code gradlew generateDataset -Pdataset.patients=1000000} to write a dataset to disk.
+ */
+public class DatasetGenerator {
+
+    public static final String ADDRESS_BOOK_FILE = "addressbook.xml";
+    public static final String SCHEDULE_FILE = "schedule.xml";
+    public static final String DISEASE_FILE = "datasetForSymptomAndDisease.csv";
+
+    public static final long DEFAULT_SEED = 2103L;
+    public static final int MAX_PATIENTS = 20_000_000;
+
+    private static final Logger logger = LogsCenter.getLogger(DatasetGenerator.class);
+
+    private static final double DELETED_PATIENT_RATIO = 0.05;
+    private static final double UNTAGGED_PATIENT_RATIO = 0.7;
+    private static final double UNTAGGED_EVENT_RATIO = 0.9;
+    private static final double GAP_BEFORE_EVENT_RATIO = 0.1;
+    private static final int MAX_TAGS_PER_PATIENT = 3;
+    private static final int MIN_SYMPTOMS_PER_DISEASE = 3;
+    private static final int MAX_SYMPTOMS_PER_DISEASE = 12;
+    private static final int[] EVENT_DURATIONS_IN_MINUTES = {15, 30, 30, 30, 45, 60};
+    private static final int GAP_IN_MINUTES = 15;
+    private static final int DAY_START_HOUR = 9;
+    private static final int DAY_END_HOUR = 18;
+
+    // phone numbers are a permutation of the 7 digit suffixes, under each of the prefixes in turn
+    private static final int PHONE_SUFFIXES = 10_000_000;
+    private static final long PHONE_MULTIPLIER = 7_919L;
+    private static final long PHONE_OFFSET = 1_234_567L;
+    private static final String[] PHONE_PREFIXES = {"9", "8"};
+
+    private static final String[] FIRST_NAMES = {
+        "Wei Ling", "Jun Jie", "Muhammad", "Siti", "Alice", "David", "Kumar", "Nur Aisyah", "Jia Hui", "Bernice",
+        "Charlotte", "Irfan", "Roy", "Priya", "Ahmad", "Mei Ling", "Daniel", "Rachel", "Ravi", "Hui Min", "Zhi Hao",
+        "Farah", "Ethan", "Chloe", "Arjun", "Li Na", "Marcus", "Nadia", "Kai Xuan", "Sarah", "Vijay", "Xin Yi",
+        "Hafiz", "Grace", "Ryan", "Divya", "Jonathan", "Shu Fen", "Aaron", "Lakshmi"
+    };
+    private static final String[] LAST_NAMES = {
+        "Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Chan", "Koh", "Teo", "Ang", "Yeo", "Tay", "Ho",
+        "Low", "Toh", "Sim", "Chong", "Chia", "Ibrahim", "Abdullah", "Rahman", "Ismail", "Hassan", "Kumar", "Pillai",
+        "Nair", "Singh", "Balakrishnan", "Fernandez", "Pereira", "Smith", "Wee", "Quek"
+    };
+    private static final String[] EMAIL_DOMAINS = {"gmail.com", "yahoo.com", "hotmail.com", "outlook.com", "u.nus.edu"};
+    private static final String[] STREETS = {
+        "Ang Mo Kio Ave 3", "Tampines St 21", "Jurong West St 42", "Bedok North Rd", "Clementi Ave 2",
+        "Yishun Ring Rd", "Woodlands Dr 14", "Hougang Ave 8", "Bukit Batok St 31", "Serangoon North Ave 1",
+        "Pasir Ris Dr 6", "Toa Payoh Lor 1", "Sengkang East Way", "Punggol Field", "Choa Chu Kang Ave 4",
+        "Aljunied St 85", "Geylang Bahru", "Holland Dr", "Queenstown Rd", "Marine Parade Rd"
+    };
+    private static final String[] PATIENT_TAGS = {
+        "diabetic", "hypertensive", "elderly", "asthmatic", "allergic", "smoker", "pregnant", "obese",
+        "wheelchair", "paediatric", "anticoagulated", "immunocompromised"
+    };
+    private static final String[] EVENT_TAGS = {"followup", "urgent", "referral", "vaccination", "labwork"};
+    private static final String[] EVENT_DETAILS = {
+        "General consultation", "Follow-up review", "Blood pressure check", "Medication refill", "Vaccination",
+        "Blood test", "Wound dressing", "Health screening", "Chronic disease review", "Medical certificate"
+    };
+
+    private static final String[] DISEASE_QUALIFIERS = {
+        "acute", "chronic", "recurrent", "benign", "congenital", "viral", "bacterial", "allergic", "idiopathic",
+        "degenerative"
+    };
+    private static final String[] DISEASE_SITES = {
+        "gastric", "renal", "hepatic", "pulmonary", "cardiac", "cerebral", "dermal", "ocular", "spinal", "nasal",
+        "bronchial", "thyroid", "pancreatic", "vascular", "joint", "muscular", "bladder", "colonic", "sinus",
+        "lymphatic"
+    };
+    private static final String[] DISEASE_CONDITIONS = {
+        "inflammation", "infection", "syndrome", "failure", "disorder", "insufficiency", "obstruction", "lesion",
+        "dysfunction", "stenosis", "ulcer", "cyst", "fibrosis", "neuropathy", "edema"
+    };
+    private static final String[] SYMPTOM_BASES = {
+        "fever", "pain", "cough", "nausea", "fatigue", "headache", "dizziness", "vomiting", "rash", "swelling",
+        "itching", "numbness", "bleeding", "chill", "sweating", "breathlessness", "palpitation", "weakness",
+        "stiffness", "tenderness", "cramp", "discharge", "weight loss", "insomnia", "confusion"
+    };
+    private static final String[] SYMPTOM_QUALIFIERS = {
+        "", "mild ", "severe ", "chronic ", "sudden ", "intermittent ", "nocturnal ", "localised "
+    };
+
+    private final long seed;
+
+    public DatasetGenerator() {
+        this(DEFAULT_SEED);
+    }
+
+    public DatasetGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns an address book of {@code count} patients with IDs {@code p0} onwards.
+     * The phone numbers of the patients are distinct.
+     */
+    public AddressBook generateAddressBook(int count) {
+        checkArgument(count >= 0 && count <= MAX_PATIENTS, "Cannot generate " + count + " patients");
+        Random random = new Random(seed);
+        ZipfDistribution firstNames = new ZipfDistribution(FIRST_NAMES.length);
+        ZipfDistribution lastNames = new ZipfDistribution(LAST_NAMES.length);
+        ZipfDistribution streets = new ZipfDistribution(STREETS.length);
+        ZipfDistribution tags = new ZipfDistribution(PATIENT_TAGS.length);
+
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String firstName = FIRST_NAMES[firstNames.sample(random)];
+            String lastName = LAST_NAMES[lastNames.sample(random)];
+            String email = (firstName + "." + lastName).toLowerCase().replace(" ", "") + i + "@"
+                    + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)];
+            String address = "Blk " + (1 + random.nextInt(999)) + " " + STREETS[streets.sample(random)] + ", #"
+                    + String.format("%02d-%02d", 1 + random.nextInt(25), 1 + random.nextInt(150));
+            boolean exists = random.nextDouble() >= DELETED_PATIENT_RATIO;
+            persons.add(new Person(new PersonId("p" + i, true), new Name(firstName + " " + lastName),
+                    new Phone(getPhone(i)), new Email(email), new Address(address), exists,
+                    pickTags(random, tags, PATIENT_TAGS, UNTAGGED_PATIENT_RATIO, MAX_TAGS_PER_PATIENT)));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    /**
+     * Returns a schedule of {@code count} appointments with IDs {@code e0} onwards, booked by patients with IDs
+     * below {@code patientCount}. The appointments do not clash, and fill the working hours of consecutive
+     * weekdays from {@link #getFirstDayStart()} on, in chronological order.
+     */
+    public Schedule generateSchedule(int count, int patientCount) {
+        checkArgument(count >= 0, "Cannot generate " + count + " appointments");
+        checkArgument(count == 0 || patientCount > 0, "Appointments need patients to book them");
+        Random random = new Random(seed + 1);
+        ZipfDistribution patients = new ZipfDistribution(Math.max(patientCount, 1));
+        ZipfDistribution details = new ZipfDistribution(EVENT_DETAILS.length);
+        ZipfDistribution tags = new ZipfDistribution(EVENT_TAGS.length);
+        // the most frequent visitors are spread over the address book rather than being its first patients
+        int[] patientByRank = getShuffledIndices(patientCount, random);
+
+        List<ScheduleEvent> events = new ArrayList<>(count);
+        Calendar slotStart = getFirstDayStart();
+        for (int i = 0; i < count; i++) {
+            if (random.nextDouble() < GAP_BEFORE_EVENT_RATIO) {
+                slotStart.add(Calendar.MINUTE, GAP_IN_MINUTES);
+            }
+            int duration = EVENT_DURATIONS_IN_MINUTES[random.nextInt(EVENT_DURATIONS_IN_MINUTES.length)];
+            Calendar slotEnd = (Calendar) slotStart.clone();
+            slotEnd.add(Calendar.MINUTE, duration);
+            if (!isWithinWorkingHours(slotStart, slotEnd)) {
+                slotStart = getNextWorkingDayStart(slotStart);
+                slotEnd = (Calendar) slotStart.clone();
+                slotEnd.add(Calendar.MINUTE, duration);
+            }
+
+            PersonId patient = new PersonId("p" + patientByRank[patients.sample(random)], false);
+            events.add(new ScheduleEvent(new EventId("e" + i, true), new Pair<>(slotStart, slotEnd), patient,
+                    EVENT_DETAILS[details.sample(random)],
+                    pickTags(random, tags, EVENT_TAGS, UNTAGGED_EVENT_RATIO, 1)));
+            slotStart = (Calendar) slotEnd.clone();
+        }
+
+        Schedule schedule = new Schedule();
+        schedule.setScheduleEvents(events);
+        return schedule;
+    }
+
+    /**
+     * Returns {@code count} rows of a disease dataset, each holding a distinct lower case disease name followed by
+     * its distinct symptoms, in the format of {@code datasetForSymptomAndDisease.csv}.
+     */
+    public List<String[]> generateDiseases(int count) {
+        checkArgument(count >= 0, "Cannot generate " + count + " diseases");
+        Random random = new Random(seed + 2);
+        List<String> symptomPool = new ArrayList<>();
+        for (String qualifier : SYMPTOM_QUALIFIERS) {
+            for (String base : SYMPTOM_BASES) {
+                symptomPool.add(qualifier + base);
+            }
+        }
+        // the unqualified symptoms come first in the pool, so they are the most common
+        ZipfDistribution symptoms = new ZipfDistribution(symptomPool.size());
+
+        int nameCount = DISEASE_QUALIFIERS.length * DISEASE_SITES.length * DISEASE_CONDITIONS.length;
+        List<String[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int name = i % nameCount;
+            String disease = DISEASE_QUALIFIERS[name % DISEASE_QUALIFIERS.length] + " "
+                    + DISEASE_SITES[name / DISEASE_QUALIFIERS.length % DISEASE_SITES.length] + " "
+                    + DISEASE_CONDITIONS[name / DISEASE_QUALIFIERS.length / DISEASE_SITES.length];
+            if (i >= nameCount) {
+                disease += " type " + (i / nameCount + 1);
+            }
+
+            int symptomCount = MIN_SYMPTOMS_PER_DISEASE
+                    + random.nextInt(MAX_SYMPTOMS_PER_DISEASE - MIN_SYMPTOMS_PER_DISEASE + 1);
+            Set<String> diseaseSymptoms = new LinkedHashSet<>();
+            while (diseaseSymptoms.size() < symptomCount) {
+                diseaseSymptoms.add(symptomPool.get(symptoms.sample(random)));
+            }
+
+            String[] row = new String[symptomCount + 1];
+            row[0] = disease;
+            int column = 1;
+            for (String symptom : diseaseSymptoms) {
+                row[column++] = symptom;
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * Writes a dataset of the given sizes into {@code directory}, through the xml storages the application uses.
+     */
+    public void writeDataset(Path directory, int patients, int appointments, int diseases) throws IOException {
+        long start = System.nanoTime();
+        new XmlAddressBookStorage(directory.resolve(ADDRESS_BOOK_FILE)).saveAddressBook(generateAddressBook(patients));
+        logger.info(String.format("Wrote %d patients in %d ms", patients, getMillisSince(start)));
+
+        start = System.nanoTime();
+        new XmlScheduleStorage(directory.resolve(SCHEDULE_FILE))
+                .saveSchedule(generateSchedule(appointments, patients));
+        logger.info(String.format("Wrote %d appointments in %d ms", appointments, getMillisSince(start)));
+
+        start = System.nanoTime();
+        try (BufferedWriter writer = Files.newBufferedWriter(directory.resolve(DISEASE_FILE), StandardCharsets.UTF_8)) {
+            for (String[] row : generateDiseases(diseases)) {
+                writer.write(String.join(",", row));
+                writer.newLine();
+            }
+        }
+        logger.info(String.format("Wrote %d diseases in %d ms", diseases, getMillisSince(start)));
+    }
+
+    /**
+     * Returns 9:00 on the day the first generated appointment is on, a Monday.
+     */
+    public static Calendar getFirstDayStart() {
+        Calendar start = Calendar.getInstance();
+        start.clear();
+        start.set(2019, Calendar.JANUARY, 7, DAY_START_HOUR, 0);
+        return start;
+    }
+
+    /**
+     * Writes a dataset to disk. The arguments are, in order and all optional: the output directory, the numbers of
+     * patients, appointments and diseases, and the seed.
+     */
+    public static void main(String[] args) throws IOException {
+        Path directory = Paths.get(args.length > 0 ? args[0] : "dataset");
+        int patients = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int appointments = args.length > 2 ? Integer.parseInt(args[2]) : patients;
+        int diseases = args.length > 3 ? Integer.parseInt(args[3]) : 1_000;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : DEFAULT_SEED;
+        Files.createDirectories(directory);
+        new DatasetGenerator(seed).writeDataset(directory, patients, appointments, diseases);
+    }
+
+    /**
+     * Returns a distinct phone number for each index below {@link #MAX_PATIENTS}.
+     */
+    private static String getPhone(int index) {
+        long suffix = (index % PHONE_SUFFIXES * PHONE_MULTIPLIER + PHONE_OFFSET) % PHONE_SUFFIXES;
+        return PHONE_PREFIXES[index / PHONE_SUFFIXES] + String.format("%07d", suffix);
+    }
+
+    /**
+     * Returns up to {@code maxTags} distinct tags drawn from {@code tagNames}, or none with probability
+     * {@code untaggedRatio}.
+     */
+    private static Set<Tag> pickTags(Random random, ZipfDistribution distribution, String[] tagNames,
+                                     double untaggedRatio, int maxTags) {
+        if (random.nextDouble() < untaggedRatio) {
+            return Collections.emptySet();
+        }
+        int tagCount = 1 + random.nextInt(maxTags);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(tagNames[distribution.sample(random)]));
+        }
+        return tags;
+    }
+
+    private static int[] getShuffledIndices(int count, Random random) {
+        int[] indices = new int[count];
+        for (int i = 0; i < count; i++) {
+            indices[i] = i;
+        }
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swapped = indices[i];
+            indices[i] = indices[j];
+            indices[j] = swapped;
+        }
+        return indices;
+    }
+
+    private static boolean isWithinWorkingHours(Calendar slotStart, Calendar slotEnd) {
+        int endMinute = slotEnd.get(Calendar.HOUR_OF_DAY) * 60 + slotEnd.get(Calendar.MINUTE);
+        return slotStart.get(Calendar.DATE) == slotEnd.get(Calendar.DATE) && endMinute <= DAY_END_HOUR * 60;
+    }
+
+    private static Calendar getNextWorkingDayStart(Calendar day) {
+        Calendar next = (Calendar) day.clone();
+        do {
+            next.add(Calendar.DATE, 1);
+        } while (next.get(Calendar.DAY_OF_WEEK) == Calendar.SATURDAY
+                || next.get(Calendar.DAY_OF_WEEK) == Calendar.SUNDAY);
+        next.set(Calendar.HOUR_OF_DAY, DAY_START_HOUR);
+        next.set(Calendar.MINUTE, 0);
+        return next;
+    }
+
+    private static long getMillisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * A Zipf distribution over {@code 0} to {@code size - 1}, in which {@code k} is drawn {@code k + 1} times less
+     * often than {@code 0}.
+     */
+    private static class ZipfDistribution {
+        private final double[] cumulativeWeights;
+
+        ZipfDistribution(int size) {
+            cumulativeWeights = new double[size];
+            double total = 0;
+            for (int k = 0; k < size; k++) {
+                total += 1.0 / (k + 1);
+                cumulativeWeights[k] = total;
+            }
+        }
+
+        int sample(Random random) {
+            double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+            int index = Arrays.binarySearch(cumulativeWeights, target);
+            // a miss returns -(insertion point) - 1, and the insertion point is the first weight above the target
+            return index >= 0 ? index : -index - 1;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.testutil;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Schedule;
+import seedu.address.model.event.ScheduleEvent;
+import seedu.address.model.person.Person;
+
+public class DatasetGeneratorTest {
+
+    private static final int PATIENTS = 2000;
+    private static final int APPOINTMENTS = 3000;
+    private static final int DISEASES = 4000;
+
+    @Test
+    public void generateAddressBook_sameSeed_sameData() {
+        List<Person> first = new DatasetGenerator(1).generateAddressBook(PATIENTS).getPersonList();
+        List<Person> second = new DatasetGenerator(1).generateAddressBook(PATIENTS).getPersonList();
+        assertEquals(PATIENTS, first.size());
+        // persons are equal whenever their IDs are, so compare all their details instead
+        assertEquals(first.toString(), second.toString());
+    }
+
+    @Test
+    public void generateAddressBook_differentSeed_differentData() {
+        List<Person> first = new DatasetGenerator(1).generateAddressBook(PATIENTS).getPersonList();
+        List<Person> second = new DatasetGenerator(2).generateAddressBook(PATIENTS).getPersonList();
+        assertNotEquals(getNames(first), getNames(second));
+    }
+
+    @Test
+    public void generateAddressBook_distinctPhonesAndSomeDeletedPatients() {
+        AddressBook addressBook = new DatasetGenerator().generateAddressBook(PATIENTS);
+        Set<String> phones = addressBook.getPersonList().stream()
+                .map(person -> person.getPhone().value)
+                .collect(Collectors.toSet());
+        assertEquals(PATIENTS, phones.size());
+
+        long deleted = addressBook.getPersonList().stream().filter(person -> !person.getExists()).count();
+        assertTrue(deleted > 0 && deleted < PATIENTS / 10);
+    }
+
+    @Test
+    public void generateSchedule_appointmentsWithinWorkingHoursAndDoNotClash() {
+        Schedule schedule = new DatasetGenerator().generateSchedule(APPOINTMENTS, PATIENTS);
+        List<ScheduleEvent> events = schedule.getAllEventList();
+        assertEquals(APPOINTMENTS, events.size());
+
+        Calendar previousEnd = DatasetGenerator.getFirstDayStart();
+        for (ScheduleEvent event : events) {
+            Calendar start = event.getDate().getKey();
+            Calendar end = event.getDate().getValue();
+            assertFalse(start.before(previousEnd));
+            assertTrue(start.get(Calendar.HOUR_OF_DAY) >= 9);
+            assertTrue(end.get(Calendar.HOUR_OF_DAY) * 60 + end.get(Calendar.MINUTE) <= 18 * 60);
+            assertEquals(start.get(Calendar.DATE), end.get(Calendar.DATE));
+            assertNotEquals(Calendar.SATURDAY, start.get(Calendar.DAY_OF_WEEK));
+            assertNotEquals(Calendar.SUNDAY, start.get(Calendar.DAY_OF_WEEK));
+            assertTrue(Integer.parseInt(event.getPersonId().value.substring(1)) < PATIENTS);
+            previousEnd = end;
+        }
+    }
+
+    @Test
+    public void generateDiseases_distinctDiseasesAndSymptoms() {
+        List<String[]> rows = new DatasetGenerator().generateDiseases(DISEASES);
+        assertEquals(DISEASES, rows.size());
+
+        Set<String> diseases = new HashSet<>();
+        for (String[] row : rows) {
+            assertTrue(diseases.add(row[0]));
+            assertTrue(row.length > 3);
+            assertEquals(row.length - 1, new HashSet<>(Arrays.asList(row).subList(1, row.length)).size());
+            for (String field : row) {
+                assertEquals(field.toLowerCase(), field);
+                assertFalse(field.contains(","));
+            }
+        }
+    }
+
+    private static List<String> getNames(List<Person> persons) {
+        return persons.stream().map(person -> person.getName().fullName).collect(Collectors.toList());
+    }
+}
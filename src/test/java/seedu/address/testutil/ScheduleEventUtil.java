@@ -71,10 +71,8 @@ public class ScheduleEventUtil {
      * match, but is not a requirement.
      */
     public static boolean matchEventProperties(ScheduleEvent event, ScheduleEvent otherEvent) {
-        return ScheduleEvent.STORAGE_SDF.format(event.getDate().getKey().getTime())
-                .compareTo(ScheduleEvent.STORAGE_SDF.format(otherEvent.getDate().getKey().getTime())) == 0
-                && ScheduleEvent.STORAGE_SDF.format(event.getDate().getValue().getTime())
-                .compareTo(ScheduleEvent.STORAGE_SDF.format(otherEvent.getDate().getValue().getTime())) == 0
+        return event.getStartEpochMinute() == otherEvent.getStartEpochMinute()
+                && event.getEndEpochMinute() == otherEvent.getEndEpochMinute()
                 && event.getDetails().equals(otherEvent.getDetails())
                 && event.getPersonId().equals(otherEvent.getPersonId())
                 && event.getTags().equals(otherEvent.getTags());